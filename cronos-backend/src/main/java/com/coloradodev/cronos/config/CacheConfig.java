@@ -12,7 +12,7 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Cache configuration using Caffeine for in-memory caching.
- * Caches: tenants, services, businessHours, staff
+ * Caches: tenants, services, businessHours, staff, clientStats
  */
 @Configuration
 @EnableCaching
@@ -22,14 +22,14 @@ public class CacheConfig {
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "tenants", "services", "businessHours", "staff");
+                "tenants", "services", "businessHours", "staff", "clientStats");
 
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .maximumSize(1000)
                 .expireAfterWrite(30, TimeUnit.MINUTES)
                 .recordStats());
 
-        log.info("Caffeine cache manager initialized with caches: tenants, services, businessHours, staff");
+        log.info("Caffeine cache manager initialized with caches: tenants, services, businessHours, staff, clientStats");
 
         return cacheManager;
     }
@@ -1,6 +1,7 @@
 package com.coloradodev.cronos.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
@@ -10,6 +11,11 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 /**
  * Scheduling configuration for periodic/cron tasks.
  * Used for appointment reminders, cleanup jobs, etc.
+ * <p>
+ * A scheduled method never runs concurrently with itself, so it occupies at most one thread.
+ * The pool ({@code app.scheduling.pool-size}) is sized above the number of scheduled methods,
+ * so long-running batch and rebuild work cannot hold back the one-second ticks and heartbeats.
+ * Raise it when adding scheduled methods.
  */
 @Configuration
 @EnableScheduling
@@ -17,9 +23,9 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 public class SchedulingConfig {
 
     @Bean
-    public TaskScheduler taskScheduler() {
+    public TaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:20}") int poolSize) {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(5);
+        scheduler.setPoolSize(poolSize);
         scheduler.setThreadNamePrefix("Scheduled-");
         scheduler.setWaitForTasksToCompleteOnShutdown(true);
         scheduler.setAwaitTerminationSeconds(30);
@@ -1,23 +1,43 @@
 package com.coloradodev.cronos.config;
 
 import com.coloradodev.cronos.core.interceptor.TenantInterceptor;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
-@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     @NonNull
     private final TenantInterceptor tenantInterceptor;
 
+    private final ThreadPoolTaskExecutor streamingExecutor;
+
+    private final long asyncTimeoutMillis;
+
+    public WebMvcConfig(TenantInterceptor tenantInterceptor,
+            @Qualifier("streamingExecutor") ThreadPoolTaskExecutor streamingExecutor,
+            @Value("${app.web.streaming.timeout-ms:300000}") long asyncTimeoutMillis) {
+        this.tenantInterceptor = tenantInterceptor;
+        this.streamingExecutor = streamingExecutor;
+        this.asyncTimeoutMillis = asyncTimeoutMillis;
+    }
+
     @Override
     public void addInterceptors(@NonNull InterceptorRegistry registry) {
         registry.addInterceptor(tenantInterceptor)
                 .addPathPatterns("/api/**") // Apply to API endpoints
                 .excludePathPatterns("/api/public/**", "/api/auth/**"); // Exclude public/auth endpoints
     }
+
+    @Override
+    public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+        configurer.setDefaultTimeout(asyncTimeoutMillis);
+    }
 }
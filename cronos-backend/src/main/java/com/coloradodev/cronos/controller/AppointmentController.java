@@ -1,5 +1,8 @@
 package com.coloradodev.cronos.controller;
 
+import com.coloradodev.cronos.core.pagination.CountMode;
+import com.coloradodev.cronos.core.pagination.CursorPage;
+import com.coloradodev.cronos.core.pagination.PageQuery;
 import com.coloradodev.cronos.core.tenant.TenantContext;
 import com.coloradodev.cronos.domain.Booking;
 import com.coloradodev.cronos.domain.Booking.BookingStatus;
@@ -13,10 +16,6 @@ import com.coloradodev.cronos.service.AppointmentService;
 import com.coloradodev.cronos.service.BookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -72,17 +71,20 @@ public class AppointmentController {
     // ==================== Booking-based Appointment Endpoints ====================
 
     /**
-     * Get all appointments (bookings) with pagination.
+     * Get all appointments (bookings) with pagination, newest first.
+     * Pass the returned {@code nextCursor} as {@code cursor} to continue without an offset.
      */
     @GetMapping
-    public ResponseEntity<Page<BookingResponseDTO>> getAppointments(
+    public ResponseEntity<CursorPage<BookingResponseDTO>> getAppointments(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ESTIMATED") CountMode count,
             @RequestParam(required = false) BookingStatus status) {
         UUID tenantId = TenantContext.getCurrentTenantId();
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "startTime"));
-        Page<Booking> bookings = bookingService.getBookingsByTenant(tenantId, status, pageable);
-        Page<BookingResponseDTO> response = bookings.map(bookingMapper::toResponseDTO);
+        PageQuery query = PageQuery.of(page, size, cursor, count);
+        CursorPage<Booking> bookings = bookingService.getBookingsByTenant(tenantId, status, query);
+        CursorPage<BookingResponseDTO> response = bookings.map(bookingMapper::toResponseDTO);
         return ResponseEntity.ok(response);
     }
 
@@ -1,17 +1,23 @@
 package com.coloradodev.cronos.controller;
 
 import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.SlotHold;
+import com.coloradodev.cronos.dto.appointment.DayAvailability;
 import com.coloradodev.cronos.dto.appointment.TimeSlot;
 import com.coloradodev.cronos.dto.booking.BookingRequestDTO;
 import com.coloradodev.cronos.dto.booking.BookingResponseDTO;
+import com.coloradodev.cronos.dto.booking.SlotHoldRequestDTO;
+import com.coloradodev.cronos.dto.booking.SlotHoldResponseDTO;
 import com.coloradodev.cronos.dto.mapper.BookingMapper;
 import com.coloradodev.cronos.dto.mapper.ServiceMapper;
+import com.coloradodev.cronos.dto.mapper.SlotHoldMapper;
 import com.coloradodev.cronos.dto.service.ServicePublicDTO;
 import com.coloradodev.cronos.repository.ServiceRepository;
 import com.coloradodev.cronos.repository.TenantRepository;
 import com.coloradodev.cronos.exception.ResourceNotFoundException;
 import com.coloradodev.cronos.service.BookingService;
 import com.coloradodev.cronos.service.CalendarService;
+import com.coloradodev.cronos.service.SlotHoldService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -35,15 +41,18 @@ public class BookingController {
 
     private final BookingService bookingService;
     private final CalendarService calendarService;
+    private final SlotHoldService slotHoldService;
     private final ServiceRepository serviceRepository;
     private final TenantRepository tenantRepository;
     private final BookingMapper bookingMapper;
     private final ServiceMapper serviceMapper;
+    private final SlotHoldMapper slotHoldMapper;
 
     // ==================== Public Booking Endpoints ====================
 
     /**
      * Create a new public booking.
+     * Retries carrying the same Idempotency-Key header replay the original response.
      */
     @PostMapping("/bookings")
     public ResponseEntity<BookingResponseDTO> createBooking(
@@ -79,6 +88,33 @@ public class BookingController {
         return ResponseEntity.ok(bookingMapper.toResponseDTO(booking));
     }
 
+    // ==================== Public Slot Holds ====================
+
+    /**
+     * Hold a slot while the client completes checkout.
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<SlotHoldResponseDTO> createHold(
+            @PathVariable String slug,
+            @Valid @RequestBody SlotHoldRequestDTO request) {
+        UUID tenantId = getTenantIdBySlug(slug);
+        SlotHold hold = slotHoldService.createHold(tenantId, request.getServiceId(), request.getStartTime(),
+                request.getStaffId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(slotHoldMapper.toResponseDTO(hold));
+    }
+
+    /**
+     * Release a slot hold.
+     */
+    @DeleteMapping("/holds/{id}")
+    public ResponseEntity<Void> releaseHold(
+            @PathVariable String slug,
+            @PathVariable UUID id) {
+        UUID tenantId = getTenantIdBySlug(slug);
+        slotHoldService.releaseHold(tenantId, id);
+        return ResponseEntity.noContent().build();
+    }
+
     // ==================== Public Service Info ====================
 
     /**
@@ -110,6 +146,21 @@ public class BookingController {
         return ResponseEntity.ok(slots);
     }
 
+    /**
+     * Get available time slots for a service for every day in a date range.
+     */
+    @GetMapping("/availability/range")
+    public ResponseEntity<List<DayAvailability>> getAvailabilityRange(
+            @PathVariable String slug,
+            @RequestParam UUID serviceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID staffId) {
+        UUID tenantId = getTenantIdBySlug(slug);
+        List<DayAvailability> days = calendarService.getAvailabilityRange(tenantId, serviceId, from, to, staffId);
+        return ResponseEntity.ok(days);
+    }
+
     // ==================== Helper Methods ====================
 
     private UUID getTenantIdBySlug(String slug) {
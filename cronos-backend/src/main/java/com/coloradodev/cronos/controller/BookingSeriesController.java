@@ -0,0 +1,88 @@
+package com.coloradodev.cronos.controller;
+
+import com.coloradodev.cronos.core.tenant.TenantContext;
+import com.coloradodev.cronos.domain.BookingSeries;
+import com.coloradodev.cronos.dto.booking.BookingSeriesRequestDTO;
+import com.coloradodev.cronos.dto.booking.BookingSeriesResponseDTO;
+import com.coloradodev.cronos.dto.mapper.BookingSeriesMapper;
+import com.coloradodev.cronos.service.BookingSeriesService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * REST Controller for recurring booking series.
+ * Occurrences appear in the calendar and staff schedule endpoints.
+ */
+@RestController
+@RequestMapping("/api/booking-series")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+public class BookingSeriesController {
+
+    private final BookingSeriesService bookingSeriesService;
+    private final BookingSeriesMapper bookingSeriesMapper;
+
+    /**
+     * Create a new booking series.
+     */
+    @PostMapping
+    public ResponseEntity<BookingSeriesResponseDTO> createSeries(
+            @Valid @RequestBody BookingSeriesRequestDTO request) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        BookingSeries series = bookingSeriesService.createSeries(tenantId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookingSeriesMapper.toResponseDTO(series));
+    }
+
+    /**
+     * Get a booking series by ID.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<BookingSeriesResponseDTO> getSeries(@PathVariable UUID id) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        BookingSeries series = bookingSeriesService.getSeriesById(tenantId, id);
+        return ResponseEntity.ok(bookingSeriesMapper.toResponseDTO(series));
+    }
+
+    /**
+     * Cancel a whole booking series.
+     */
+    @PatchMapping("/{id}/cancel")
+    public ResponseEntity<BookingSeriesResponseDTO> cancelSeries(@PathVariable UUID id) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        BookingSeries series = bookingSeriesService.cancelSeries(tenantId, id);
+        return ResponseEntity.ok(bookingSeriesMapper.toResponseDTO(series));
+    }
+
+    /**
+     * Cancel a single occurrence, identified by its original start time.
+     */
+    @PatchMapping("/{id}/occurrences/cancel")
+    public ResponseEntity<Void> cancelOccurrence(
+            @PathVariable UUID id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartTime) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        bookingSeriesService.cancelOccurrence(tenantId, id, originalStartTime);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Move a single occurrence, identified by its original start time.
+     */
+    @PatchMapping("/{id}/occurrences/reschedule")
+    public ResponseEntity<Void> rescheduleOccurrence(
+            @PathVariable UUID id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime newStartTime) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        bookingSeriesService.rescheduleOccurrence(tenantId, id, originalStartTime, newStartTime);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,14 +2,18 @@ package com.coloradodev.cronos.controller;
 
 import com.coloradodev.cronos.core.tenant.TenantContext;
 import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.dto.appointment.DayAvailability;
 import com.coloradodev.cronos.dto.appointment.TimeSlot;
 import com.coloradodev.cronos.dto.booking.BookingResponseDTO;
 import com.coloradodev.cronos.dto.mapper.BookingMapper;
 import com.coloradodev.cronos.service.CalendarService;
+import com.coloradodev.cronos.service.calendar.CalendarStreamer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -26,6 +30,7 @@ public class CalendarController {
 
     private final CalendarService calendarService;
     private final BookingMapper bookingMapper;
+    private final CalendarStreamer calendarStreamer;
 
     /**
      * Get calendar view with all bookings for a date range.
@@ -43,6 +48,23 @@ public class CalendarController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Stream the calendar view as newline-delimited JSON, one booking per line.
+     * Suited to long ranges: rows are written as they are read instead of being collected first.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCalendarView(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false) UUID staffId) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        calendarStreamer.validateRange(start, end);
+        StreamingResponseBody body = out -> calendarStreamer.write(tenantId, start, end, staffId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Get available time slots for a service on a specific date.
      */
@@ -56,6 +78,20 @@ public class CalendarController {
         return ResponseEntity.ok(slots);
     }
 
+    /**
+     * Get available time slots for a service for every day in a date range.
+     */
+    @GetMapping("/availability/range")
+    public ResponseEntity<List<DayAvailability>> getAvailabilityRange(
+            @RequestParam UUID serviceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID staffId) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        List<DayAvailability> days = calendarService.getAvailabilityRange(tenantId, serviceId, from, to, staffId);
+        return ResponseEntity.ok(days);
+    }
+
     /**
      * Find conflicting bookings for a time range.
      */
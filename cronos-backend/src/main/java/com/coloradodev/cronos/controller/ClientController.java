@@ -1,5 +1,8 @@
 package com.coloradodev.cronos.controller;
 
+import com.coloradodev.cronos.core.pagination.CountMode;
+import com.coloradodev.cronos.core.pagination.CursorPage;
+import com.coloradodev.cronos.core.pagination.PageQuery;
 import com.coloradodev.cronos.core.tenant.TenantContext;
 import com.coloradodev.cronos.domain.Booking;
 import com.coloradodev.cronos.domain.Client;
@@ -12,9 +15,6 @@ import com.coloradodev.cronos.dto.mapper.ClientMapper;
 import com.coloradodev.cronos.service.ClientService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -57,11 +57,14 @@ public class ClientController {
 
     /**
      * Get all clients for the current tenant with pagination.
+     * A {@code cursor} continues in last name order and ignores {@code sort}.
      */
     @GetMapping
-    public ResponseEntity<Page<ClientResponseDTO>> getClients(
+    public ResponseEntity<CursorPage<ClientResponseDTO>> getClients(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ESTIMATED") CountMode count,
             @RequestParam(defaultValue = "lastName,asc") String sort) {
         UUID tenantId = TenantContext.getCurrentTenantId();
 
@@ -69,10 +72,11 @@ public class ClientController {
         Sort.Direction direction = sortParams.length > 1 && sortParams[1].equalsIgnoreCase("desc")
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
+        PageQuery query = PageQuery.of(page, size, cursor, count);
 
-        Page<Client> clients = clientService.getClientsByTenant(tenantId, pageable);
-        Page<ClientResponseDTO> response = clients.map(clientMapper::toResponseDTO);
+        CursorPage<Client> clients = clientService.getClientsByTenant(tenantId, query,
+                Sort.by(direction, sortParams[0]));
+        CursorPage<ClientResponseDTO> response = clients.map(clientMapper::toResponseDTO);
         return ResponseEntity.ok(response);
     }
 
@@ -1,5 +1,8 @@
 package com.coloradodev.cronos.controller;
 
+import com.coloradodev.cronos.core.pagination.CountMode;
+import com.coloradodev.cronos.core.pagination.CursorPage;
+import com.coloradodev.cronos.core.pagination.PageQuery;
 import com.coloradodev.cronos.core.tenant.TenantContext;
 import com.coloradodev.cronos.domain.Payment;
 import com.coloradodev.cronos.dto.mapper.PaymentMapper;
@@ -8,10 +11,6 @@ import com.coloradodev.cronos.dto.payment.PaymentResponseDTO;
 import com.coloradodev.cronos.service.PaymentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -48,16 +47,18 @@ public class PaymentController {
     }
 
     /**
-     * Get all payments with pagination.
+     * Get all payments with pagination, newest first.
      */
     @GetMapping
-    public ResponseEntity<Page<PaymentResponseDTO>> getPayments(
+    public ResponseEntity<CursorPage<PaymentResponseDTO>> getPayments(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ESTIMATED") CountMode count) {
         UUID tenantId = TenantContext.getCurrentTenantId();
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Payment> payments = paymentService.getPaymentsByTenant(tenantId, pageable);
-        Page<PaymentResponseDTO> response = payments.map(paymentMapper::toResponseDTO);
+        PageQuery query = PageQuery.of(page, size, cursor, count);
+        CursorPage<Payment> payments = paymentService.getPaymentsByTenant(tenantId, query);
+        CursorPage<PaymentResponseDTO> response = payments.map(paymentMapper::toResponseDTO);
         return ResponseEntity.ok(response);
     }
 
@@ -71,6 +72,17 @@ public class PaymentController {
         return ResponseEntity.ok(paymentMapper.toResponseDTO(payment));
     }
 
+    /**
+     * Charge a pending payment through the payment provider.
+     * Clients should send an Idempotency-Key header so a retried call never charges twice.
+     */
+    @PostMapping("/{id}/process")
+    public ResponseEntity<PaymentResponseDTO> processPayment(@PathVariable UUID id) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        Payment processed = paymentService.processPayment(tenantId, id);
+        return ResponseEntity.ok(paymentMapper.toResponseDTO(processed));
+    }
+
     /**
      * Refund a payment.
      */
@@ -0,0 +1,83 @@
+package com.coloradodev.cronos.controller;
+
+import com.coloradodev.cronos.core.tenant.TenantContext;
+import com.coloradodev.cronos.domain.ReportJob;
+import com.coloradodev.cronos.dto.mapper.ReportJobMapper;
+import com.coloradodev.cronos.dto.report.ReportJobRequestDTO;
+import com.coloradodev.cronos.dto.report.ReportJobResponseDTO;
+import com.coloradodev.cronos.service.ReportJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for asynchronous report exports.
+ * Submit a job, poll it until it is COMPLETED, then download the gzip-compressed CSV.
+ */
+@RestController
+@RequestMapping("/api/reports/jobs")
+@RequiredArgsConstructor
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+    private final ReportJobMapper reportJobMapper;
+
+    /**
+     * Submit a report export.
+     */
+    @PostMapping
+    public ResponseEntity<ReportJobResponseDTO> submitJob(@Valid @RequestBody ReportJobRequestDTO request) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        ReportJob job = reportJobService.submit(tenantId, request.getType(), request.getStartDate(),
+                request.getEndDate());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportJobMapper.toResponseDTO(job));
+    }
+
+    /**
+     * List the most recent report jobs.
+     */
+    @GetMapping
+    public ResponseEntity<List<ReportJobResponseDTO>> getJobs() {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        List<ReportJobResponseDTO> response = reportJobService.getRecentJobs(tenantId).stream()
+                .map(reportJobMapper::toResponseDTO)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the status of a report job.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ReportJobResponseDTO> getJob(@PathVariable UUID id) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        return ResponseEntity.ok(reportJobMapper.toResponseDTO(reportJobService.getJob(tenantId, id)));
+    }
+
+    /**
+     * Download the result of a completed report job.
+     */
+    @GetMapping("/{id}/download")
+    public ResponseEntity<InputStreamResource> downloadJob(@PathVariable UUID id) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        ReportJob job = reportJobService.getJob(tenantId, id);
+        InputStreamResource body = new InputStreamResource(reportJobService.openResult(job));
+
+        String filename = job.getReportType().name().toLowerCase() + "-" + job.getStartDate() + "-"
+                + job.getEndDate() + ".csv.gz";
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -1,6 +1,7 @@
 package com.coloradodev.cronos.controller;
 
 import com.coloradodev.cronos.core.tenant.TenantContext;
+import com.coloradodev.cronos.core.tenant.TenantTimezones;
 import com.coloradodev.cronos.domain.Tenant;
 import com.coloradodev.cronos.dto.mapper.TenantMapper;
 import com.coloradodev.cronos.dto.tenant.TenantBrandingDTO;
@@ -16,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.ZoneId;
 import java.util.UUID;
 
 /**
@@ -29,6 +31,7 @@ public class TenantController {
     private final TenantService tenantService;
     private final TenantRepository tenantRepository;
     private final TenantMapper tenantMapper;
+    private final TenantTimezones tenantTimezones;
 
     /**
      * Create a new tenant (onboarding).
@@ -99,6 +102,7 @@ public class TenantController {
         TenantSettingsDTO settings = TenantSettingsDTO.builder()
                 .workDayStart(tenant.getWorkDayStart())
                 .workDayEnd(tenant.getWorkDayEnd())
+                .timezone(tenant.getTimezone())
                 .build();
 
         return ResponseEntity.ok(settings);
@@ -120,8 +124,16 @@ public class TenantController {
         if (settings.getWorkDayEnd() != null) {
             tenant.setWorkDayEnd(settings.getWorkDayEnd());
         }
+        ZoneId zone = null;
+        if (settings.getTimezone() != null) {
+            zone = tenantService.parseTimezone(settings.getTimezone());
+            tenant.setTimezone(zone.getId());
+        }
 
         tenantRepository.save(tenant);
+        if (zone != null) {
+            tenantTimezones.update(tenantId, zone);
+        }
 
         return ResponseEntity.ok(settings);
     }
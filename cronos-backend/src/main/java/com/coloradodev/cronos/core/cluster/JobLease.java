@@ -0,0 +1,45 @@
+package com.coloradodev.cronos.core.cluster;
+
+/**
+ * A lease this instance holds on a named job or shard, handed out by {@link JobLeaseManager}.
+ * <p>
+ * The lease stays held while heartbeats renew it. Once a renewal fails (the lease expired and
+ * another instance may have taken it over) it is marked lost for good; long-running work
+ * should check {@link #isHeld()} between units of work and stop when it turns false.
+ */
+public final class JobLease {
+
+    private final String name;
+    private final String owner;
+    private final long token;
+    private volatile boolean held = true;
+
+    public JobLease(String name, String owner, long token) {
+        this.name = name;
+        this.owner = owner;
+        this.token = token;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Fencing token; higher than the token of every earlier holder of the same lease.
+     */
+    public long getToken() {
+        return token;
+    }
+
+    public boolean isHeld() {
+        return held;
+    }
+
+    void markLost() {
+        held = false;
+    }
+}
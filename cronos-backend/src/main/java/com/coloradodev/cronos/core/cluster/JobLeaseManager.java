@@ -0,0 +1,222 @@
+package com.coloradodev.cronos.core.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cluster-wide leases on jobs and tenant shards, kept in {@code job_leases}.
+ * <p>
+ * A lease is taken by upserting its row when the previous holder's lease has expired; the
+ * upsert runs under a transaction-scoped Postgres advisory lock on the lease name, taken with
+ * {@code pg_try_advisory_xact_lock}, so an instance that finds another one acquiring the same
+ * lease gives up at once instead of queueing behind its row lock. Held leases are renewed by
+ * a heartbeat on a dedicated thread, independent of the scheduler threads that run the jobs.
+ * A lease whose holder stops heartbeating (crash, network partition, long GC pause) expires
+ * after {@code app.cluster.lease-ttl-seconds} and can be taken over; the former holder notices
+ * on its next heartbeat, or once the TTL has passed without a successful one.
+ */
+@Component
+@Slf4j
+public class JobLeaseManager {
+
+    // First key of the two-key advisory lock, so lease locks do not collide with other advisory locks
+    private static final int ADVISORY_LOCK_NAMESPACE = 0x4A4C;
+
+    private static final String ACQUIRE_SQL = "INSERT INTO job_leases "
+            + "(lease_name, owner, token, acquired_at, heartbeat_at, expires_at) "
+            + "VALUES (?, ?, 1, now(), now(), now() + ? * INTERVAL '1 second') "
+            + "ON CONFLICT (lease_name) DO UPDATE SET owner = EXCLUDED.owner, token = job_leases.token + 1, "
+            + "acquired_at = EXCLUDED.acquired_at, heartbeat_at = EXCLUDED.heartbeat_at, "
+            + "expires_at = EXCLUDED.expires_at "
+            + "WHERE job_leases.expires_at <= now() "
+            + "RETURNING token";
+
+    private static final String RENEW_SQL = "UPDATE job_leases SET heartbeat_at = now(), "
+            + "expires_at = now() + ? * INTERVAL '1 second' "
+            + "WHERE lease_name = ? AND owner = ? AND token = ? AND expires_at > now()";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final long leaseTtlSeconds;
+    private final long heartbeatIntervalMs;
+
+    private final Map<String, HeldLease> held = new ConcurrentHashMap<>();
+    private ThreadPoolTaskScheduler heartbeatScheduler;
+
+    public JobLeaseManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            @Value("${app.cluster.node-id:}") String nodeId,
+            @Value("${app.cluster.lease-ttl-seconds:30}") long leaseTtlSeconds,
+            @Value("${app.cluster.heartbeat-interval-ms:10000}") long heartbeatIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.leaseTtlSeconds = leaseTtlSeconds;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (heartbeatIntervalMs * 2 > leaseTtlSeconds * 1000) {
+            log.warn("Lease heartbeat interval {}ms is more than half the lease TTL of {}s; "
+                    + "a single slow heartbeat can lose a lease", heartbeatIntervalMs, leaseTtlSeconds);
+        }
+        heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("JobLease-");
+        heartbeatScheduler.initialize();
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, Duration.ofMillis(heartbeatIntervalMs));
+        log.info("Job lease manager started: node={}, ttl={}s, heartbeat={}ms",
+                nodeId, leaseTtlSeconds, heartbeatIntervalMs);
+    }
+
+    /**
+     * Stop heartbeating and release every held lease, so other instances can take over
+     * without waiting for the leases to expire.
+     */
+    @PreDestroy
+    public void stop() {
+        heartbeatScheduler.shutdown();
+        for (HeldLease lease : List.copyOf(held.values())) {
+            release(lease.lease);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Take the named lease if no other holder has a live lease on it.
+     *
+     * @return the lease, or empty if another instance (or another thread of this one) holds it
+     */
+    public Optional<JobLease> tryAcquire(String name) {
+        if (held.containsKey(name)) {
+            return Optional.empty();
+        }
+        long startedAt = System.nanoTime();
+        Long token = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?, hashtext(?))",
+                    Boolean.class, ADVISORY_LOCK_NAMESPACE, name);
+            if (!Boolean.TRUE.equals(locked)) {
+                return null;
+            }
+            List<Long> tokens = jdbcTemplate.queryForList(ACQUIRE_SQL, Long.class, name, nodeId, leaseTtlSeconds);
+            return tokens.isEmpty() ? null : tokens.get(0);
+        });
+        if (token == null) {
+            return Optional.empty();
+        }
+        JobLease lease = new JobLease(name, nodeId, token);
+        held.put(name, new HeldLease(lease, startedAt));
+        log.debug("Acquired lease {} (token {})", name, token);
+        return Optional.of(lease);
+    }
+
+    /**
+     * Give up a lease. Does nothing if it was already released or lost.
+     */
+    public void release(JobLease lease) {
+        HeldLease entry = held.get(lease.getName());
+        if (entry == null || entry.lease != lease || !held.remove(lease.getName(), entry)) {
+            return;
+        }
+        lease.markLost();
+        try {
+            jdbcTemplate.update("UPDATE job_leases SET expires_at = now() "
+                    + "WHERE lease_name = ? AND owner = ? AND token = ?", lease.getName(), nodeId, lease.getToken());
+            log.debug("Released lease {}", lease.getName());
+        } catch (RuntimeException e) {
+            log.warn("Failed to release lease {}; it expires on its own", lease.getName(), e);
+        }
+    }
+
+    /**
+     * Run the task under the named lease, or skip it if another instance holds the lease.
+     *
+     * @return true if the task ran
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        Optional<JobLease> lease = tryAcquire(name);
+        if (lease.isEmpty()) {
+            log.debug("Skipping {}: lease held elsewhere", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(lease.get());
+        }
+    }
+
+    /**
+     * Number of live leases whose name starts with the given prefix, across all instances.
+     */
+    public int countLiveLeases(String namePrefix) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_leases "
+                + "WHERE lease_name LIKE ? AND expires_at > now()", Integer.class, namePrefix + "%");
+        return count != null ? count : 0;
+    }
+
+    void heartbeat() {
+        for (HeldLease entry : held.values()) {
+            JobLease lease = entry.lease;
+            long startedAt = System.nanoTime();
+            try {
+                int renewed = jdbcTemplate.update(RENEW_SQL, leaseTtlSeconds, lease.getName(), nodeId,
+                        lease.getToken());
+                if (renewed == 0) {
+                    lost(entry, "expired before it was renewed");
+                } else {
+                    entry.renewedAt = startedAt;
+                }
+            } catch (RuntimeException e) {
+                // Still ours until the TTL runs out; the next heartbeat may get through
+                if (System.nanoTime() - entry.renewedAt >= Duration.ofSeconds(leaseTtlSeconds).toNanos()) {
+                    lost(entry, "could not be renewed within its TTL");
+                } else {
+                    log.warn("Failed to renew lease {}", lease.getName(), e);
+                }
+            }
+        }
+    }
+
+    private void lost(HeldLease entry, String reason) {
+        held.remove(entry.lease.getName(), entry);
+        entry.lease.markLost();
+        log.warn("Lost lease {}: {}", entry.lease.getName(), reason);
+    }
+
+    private static String defaultNodeId() {
+        // pid@host, plus a random suffix so a restarted instance does not inherit its old leases
+        return ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static final class HeldLease {
+
+        private final JobLease lease;
+        private volatile long renewedAt;
+
+        HeldLease(JobLease lease, long renewedAt) {
+            this.lease = lease;
+            this.renewedAt = renewedAt;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.coloradodev.cronos.core.cluster;
+
+import java.util.UUID;
+
+/**
+ * One of {@code count} hash shards of the tenant space. A tenant belongs to shard
+ * {@link #indexOf(UUID, int)}; the {@code tenant_shard(uuid, int)} SQL function computes the
+ * same, so queries can filter by shard.
+ */
+public record TenantShard(int index, int count) {
+
+    /**
+     * The single shard holding every tenant.
+     */
+    public static final TenantShard ALL = new TenantShard(0, 1);
+
+    public TenantShard {
+        if (count <= 0 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + "/" + count);
+        }
+    }
+
+    /**
+     * Shard of a tenant: the first 32 bits of its id, sign bit cleared, modulo {@code count}.
+     */
+    public static int indexOf(UUID tenantId, int count) {
+        int high = (int) (tenantId.getMostSignificantBits() >>> 32);
+        return (high & Integer.MAX_VALUE) % count;
+    }
+
+    public boolean contains(UUID tenantId) {
+        return indexOf(tenantId, count) == index;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
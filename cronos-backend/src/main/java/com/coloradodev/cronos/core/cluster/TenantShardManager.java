@@ -0,0 +1,107 @@
+package com.coloradodev.cronos.core.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Spreads the tenant shards ({@code app.cluster.shard-count}) over the running instances.
+ * <p>
+ * Every instance holds a membership lease and one lease per shard it owns. On each rebalance
+ * it counts the live members and aims for its fair share, {@code ceil(shards / members)}:
+ * it releases the shards above that share, so newly started instances can pick them up, and
+ * takes free or expired shards while below it. Shards of a crashed instance expire with its
+ * leases and are taken over on the next rebalance of the others. Listeners are told about
+ * changes through {@link TenantShardsChangedEvent}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantShardManager {
+
+    private static final String MEMBER_LEASE_PREFIX = "member:";
+    private static final String SHARD_LEASE_PREFIX = "tenant-shard:";
+
+    private final JobLeaseManager leaseManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.cluster.shard-count:16}")
+    private int shardCount;
+
+    private final NavigableMap<Integer, JobLease> shardLeases = new ConcurrentSkipListMap<>();
+    private JobLease memberLease;
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * The shards this instance currently owns, in index order.
+     */
+    public List<TenantShard> getOwnedShards() {
+        return shardLeases.entrySet().stream()
+                .filter(entry -> entry.getValue().isHeld())
+                .map(entry -> new TenantShard(entry.getKey(), shardCount))
+                .toList();
+    }
+
+    public boolean owns(UUID tenantId) {
+        JobLease lease = shardLeases.get(TenantShard.indexOf(tenantId, shardCount));
+        return lease != null && lease.isHeld();
+    }
+
+    /**
+     * Renew membership and move this instance's shard count towards its fair share.
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.rebalance-interval-ms:15000}")
+    public synchronized void rebalance() {
+        List<TenantShard> before = getOwnedShards();
+        try {
+            if (memberLease == null || !memberLease.isHeld()) {
+                memberLease = leaseManager.tryAcquire(MEMBER_LEASE_PREFIX + leaseManager.getNodeId()).orElse(null);
+            }
+            shardLeases.values().removeIf(lease -> !lease.isHeld());
+
+            int members = Math.max(1, leaseManager.countLiveLeases(MEMBER_LEASE_PREFIX));
+            int fairShare = (shardCount + members - 1) / members;
+
+            // Release from the top so the shards an instance keeps stay stable
+            while (shardLeases.size() > fairShare) {
+                Map.Entry<Integer, JobLease> surplus = shardLeases.pollLastEntry();
+                leaseManager.release(surplus.getValue());
+            }
+            for (int index = 0; index < shardCount && shardLeases.size() < fairShare; index++) {
+                if (!shardLeases.containsKey(index)) {
+                    Optional<JobLease> lease = leaseManager.tryAcquire(shardLeaseName(index));
+                    if (lease.isPresent()) {
+                        shardLeases.put(index, lease.get());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Tenant shard rebalance failed; keeping the shards still held", e);
+        }
+
+        List<TenantShard> after = getOwnedShards();
+        if (!after.equals(before)) {
+            log.info("Tenant shards owned by {}: {} of {} ({})", leaseManager.getNodeId(), after.size(),
+                    shardCount, after);
+            eventPublisher.publishEvent(new TenantShardsChangedEvent(after));
+        }
+    }
+
+    private String shardLeaseName(int index) {
+        // The count is part of the name, so instances configured with different counts never share a lease
+        return SHARD_LEASE_PREFIX + new TenantShard(index, shardCount);
+    }
+}
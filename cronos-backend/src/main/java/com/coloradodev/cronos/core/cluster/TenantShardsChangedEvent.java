@@ -0,0 +1,11 @@
+package com.coloradodev.cronos.core.cluster;
+
+import java.util.List;
+
+/**
+ * Published by {@link TenantShardManager} when this instance gained or lost tenant shards.
+ *
+ * @param owned the shards this instance owns now
+ */
+public record TenantShardsChangedEvent(List<TenantShard> owned) {
+}
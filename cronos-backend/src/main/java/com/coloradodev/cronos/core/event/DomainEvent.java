@@ -0,0 +1,14 @@
+package com.coloradodev.cronos.core.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Fact about a committed state change, delivered through the {@link DomainEventBus}.
+ */
+public interface DomainEvent {
+
+    UUID tenantId();
+
+    LocalDateTime occurredAt();
+}
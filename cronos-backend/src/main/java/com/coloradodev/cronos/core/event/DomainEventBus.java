@@ -0,0 +1,153 @@
+package com.coloradodev.cronos.core.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process bus for {@link DomainEvent}s.
+ * <p>
+ * Publishing costs the caller one slot claim in a preallocated {@link RingBuffer}; each
+ * {@link DomainEventSubscriber} drains the ring on its own thread in batches. Events
+ * published inside a transaction are held back until it commits, so subscribers never
+ * see changes that were rolled back. Delivery is in-memory and best effort: events still
+ * in the ring when the JVM dies are lost, so anything that must not be lost goes through
+ * the transactional outbox instead.
+ * <p>
+ * Publishing never waits, since it usually runs on a request thread after commit. When the
+ * slowest subscriber is a full ring behind, the event is dropped and counted in
+ * {@code cronos.events.dropped}; subscribers catch up through the outbox or their periodic
+ * refresh.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventBus {
+
+    private final List<DomainEventSubscriber> subscribers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.events.ring-size:4096}")
+    private int ringSize;
+
+    @Value("${app.events.max-batch:256}")
+    private int maxBatch;
+
+    @Value("${app.events.idle-park-micros:1000}")
+    private long idleParkMicros;
+
+    private final List<Thread> consumerThreads = new ArrayList<>();
+
+    private RingBuffer<DomainEvent> ring;
+    private Counter dropped;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+        ring = new RingBuffer<>(ringSize);
+        dropped = Counter.builder("cronos.events.dropped")
+                .description("Events dropped because a subscriber was a full ring behind")
+                .register(meterRegistry);
+        running = true;
+        for (DomainEventSubscriber subscriber : subscribers) {
+            RingBuffer.Cursor cursor = ring.addCursor();
+            String name = subscriber.getSubscriberName();
+
+            Gauge.builder("cronos.events.consumer.lag", ring, r -> r.lag(cursor))
+                    .tag("consumer", name)
+                    .description("Events published but not yet taken by the consumer")
+                    .register(meterRegistry);
+            Counter processed = Counter.builder("cronos.events.consumer.processed")
+                    .tag("consumer", name)
+                    .register(meterRegistry);
+            Counter failed = Counter.builder("cronos.events.consumer.failed")
+                    .tag("consumer", name)
+                    .description("Events in batches the consumer threw on")
+                    .register(meterRegistry);
+
+            Thread thread = new Thread(() -> consume(subscriber, cursor, processed, failed), "events-" + name);
+            thread.setDaemon(true);
+            thread.start();
+            consumerThreads.add(thread);
+        }
+        log.info("Domain event bus initialized: ringSize={}, subscribers={}", ring.capacity(), subscribers.size());
+    }
+
+    /**
+     * Publish an event. Inside a transaction it is delivered only after commit.
+     */
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishNow(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishNow(event);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Thread thread : consumerThreads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void publishNow(DomainEvent event) {
+        if (!running) {
+            log.warn("Domain event bus stopped, dropping {}", event.getClass().getSimpleName());
+            return;
+        }
+        if (ring.tryPublish(event) < 0) {
+            dropped.increment();
+            log.warn("Domain event ring full, dropping {}", event.getClass().getSimpleName());
+        }
+    }
+
+    private void consume(DomainEventSubscriber subscriber, RingBuffer.Cursor cursor,
+            Counter processed, Counter failed) {
+        List<DomainEvent> batch = new ArrayList<>(maxBatch);
+        long idleParkNanos = TimeUnit.MICROSECONDS.toNanos(idleParkMicros);
+        while (true) {
+            batch.clear();
+            int taken = ring.poll(cursor, batch, maxBatch);
+            if (taken == 0) {
+                // Drain what is left before stopping
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(idleParkNanos);
+                continue;
+            }
+            try {
+                subscriber.onEvents(batch);
+            } catch (RuntimeException e) {
+                failed.increment(taken);
+                log.error("Subscriber {} failed on a batch of {} events", subscriber.getSubscriberName(), taken, e);
+            }
+            processed.increment(taken);
+        }
+    }
+}
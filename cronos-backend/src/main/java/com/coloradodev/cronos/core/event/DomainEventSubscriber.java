@@ -0,0 +1,21 @@
+package com.coloradodev.cronos.core.event;
+
+import java.util.List;
+
+/**
+ * Consumer of domain events. Every subscriber bean gets its own thread and sees every
+ * event in publish order, in batches of whatever accumulated since its last call.
+ */
+public interface DomainEventSubscriber {
+
+    /**
+     * Name used for the consumer thread and its metrics.
+     */
+    String getSubscriberName();
+
+    /**
+     * Handle a batch of events. Exceptions are logged and the batch is skipped.
+     * The list is reused once the call returns, so it must not be kept.
+     */
+    void onEvents(List<DomainEvent> events);
+}
@@ -0,0 +1,168 @@
+package com.coloradodev.cronos.core.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded multi-producer, multi-consumer ring buffer in the style of the LMAX Disruptor.
+ * <p>
+ * Slots are allocated once. A producer claims a sequence with a single atomic increment,
+ * writes its slot and marks it published; every consumer has its own cursor and sees every
+ * entry, in sequence order. Producers only wait (or, with {@link #tryPublish}, are turned away)
+ * when the slowest consumer is a full ring behind.
+ *
+ * @param <T> entry type
+ */
+public final class RingBuffer<T> {
+
+    private static final long PRODUCER_PARK_NANOS = 1_000;
+
+    private final int mask;
+    private final AtomicReferenceArray<T> entries;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final List<Cursor> cursors = new CopyOnWriteArrayList<>();
+    private volatile long cachedGatingSequence = -1;
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.entries = new AtomicReferenceArray<>(size);
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Register a consumer. It sees every entry published after this call.
+     */
+    public Cursor addCursor() {
+        Cursor cursor = new Cursor(claimed.get());
+        cursors.add(cursor);
+        return cursor;
+    }
+
+    /**
+     * Publish an entry, waiting while the ring is full.
+     *
+     * @return the entry's sequence
+     */
+    public long publish(T entry) {
+        long sequence = claimed.incrementAndGet();
+        long wrapPoint = sequence - capacity();
+        if (wrapPoint > cachedGatingSequence) {
+            long gating;
+            while (wrapPoint > (gating = minimumCursor(sequence))) {
+                LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+            }
+            cachedGatingSequence = gating;
+        }
+        int index = (int) (sequence & mask);
+        entries.set(index, entry);
+        published.set(index, sequence);
+        return sequence;
+    }
+
+    /**
+     * Publish an entry unless the ring is full.
+     *
+     * @return the entry's sequence, or -1 if the slowest consumer is a full ring behind
+     */
+    public long tryPublish(T entry) {
+        long current;
+        long sequence;
+        do {
+            current = claimed.get();
+            sequence = current + 1;
+            long wrapPoint = sequence - capacity();
+            if (wrapPoint > cachedGatingSequence) {
+                long gating = minimumCursor(current);
+                cachedGatingSequence = gating;
+                if (wrapPoint > gating) {
+                    return -1;
+                }
+            }
+        } while (!claimed.compareAndSet(current, sequence));
+        int index = (int) (sequence & mask);
+        entries.set(index, entry);
+        published.set(index, sequence);
+        return sequence;
+    }
+
+    /**
+     * Move up to {@code maxBatch} consecutive published entries past the cursor into {@code batch}.
+     * A cursor must only be polled by one thread at a time.
+     *
+     * @return number of entries added
+     */
+    public int poll(Cursor cursor, List<T> batch, int maxBatch) {
+        long next = cursor.sequence.get() + 1;
+        int count = 0;
+        while (count < maxBatch) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            batch.add(entries.get(index));
+            next++;
+            count++;
+        }
+        if (count > 0) {
+            cursor.sequence.set(next - 1);
+        }
+        return count;
+    }
+
+    /**
+     * Highest claimed sequence, -1 before the first publish.
+     */
+    public long claimedSequence() {
+        return claimed.get();
+    }
+
+    /**
+     * Number of claimed entries the consumer has not taken yet.
+     */
+    public long lag(Cursor cursor) {
+        return Math.max(0, claimed.get() - cursor.sequence.get());
+    }
+
+    private long minimumCursor(long fallback) {
+        long minimum = fallback;
+        for (Cursor cursor : cursors) {
+            minimum = Math.min(minimum, cursor.sequence.get());
+        }
+        return minimum;
+    }
+
+    /**
+     * Position of one consumer: the sequence of the last entry it has taken.
+     */
+    public static final class Cursor {
+
+        private final AtomicLong sequence;
+
+        private Cursor(long sequence) {
+            this.sequence = new AtomicLong(sequence);
+        }
+
+        public long sequence() {
+            return sequence.get();
+        }
+    }
+}
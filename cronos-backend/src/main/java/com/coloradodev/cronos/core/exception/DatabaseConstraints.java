@@ -0,0 +1,42 @@
+package com.coloradodev.cronos.core.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+
+/**
+ * Names of database constraints the application reacts to, and a helper to
+ * recognise them in a persistence exception chain.
+ */
+public final class DatabaseConstraints {
+
+    /**
+     * Exclusion constraint rejecting overlapping active bookings of one staff member.
+     */
+    public static final String BOOKING_STAFF_PERIOD = "ex_bookings_staff_period";
+
+    /**
+     * Exclusion constraint rejecting overlapping slot holds of one staff member.
+     */
+    public static final String SLOT_HOLD_STAFF_PERIOD = "ex_slot_holds_staff_period";
+
+    private DatabaseConstraints() {
+    }
+
+    /**
+     * Check whether the exception (or one of its causes) was raised by the named constraint.
+     */
+    public static boolean isViolation(Throwable ex, String constraintName) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && constraintName.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().contains(constraintName)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
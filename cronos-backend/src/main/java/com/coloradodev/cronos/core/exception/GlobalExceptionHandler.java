@@ -4,6 +4,7 @@ import com.coloradodev.cronos.exception.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -62,6 +63,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(error);
     }
 
+    /**
+     * Handle overlapping bookings or holds rejected by a database exclusion constraint.
+     * Services translate this themselves; this covers any write path that does not.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex,
+            HttpServletRequest request) {
+
+        if (!DatabaseConstraints.isViolation(ex, DatabaseConstraints.BOOKING_STAFF_PERIOD)
+                && !DatabaseConstraints.isViolation(ex, DatabaseConstraints.SLOT_HOLD_STAFF_PERIOD)) {
+            return handleGlobalException(ex, request);
+        }
+        return handleCronosException(
+                new SlotConflictException("The requested time slot is no longer available"), request);
+    }
+
     // ==================== Validation Errors ====================
 
     /**
@@ -0,0 +1,244 @@
+package com.coloradodev.cronos.core.idempotency;
+
+import com.coloradodev.cronos.domain.IdempotencyRecord;
+import com.coloradodev.cronos.repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Two-tier store for idempotent request results.
+ * <p>
+ * Completed responses are kept in a Caffeine hot tier and in {@code idempotency_keys}.
+ * Concurrent duplicates on this node wait on the first request's future (single-flight);
+ * duplicates on other nodes see the pending row and are told to retry. While a request runs,
+ * its node renews the pending row's heartbeat, so however slow the request is, the key can
+ * only be reclaimed once its node has stopped (no heartbeat for
+ * {@code app.idempotency.pending-timeout-seconds}).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.idempotency.hot-tier.max-size:10000}")
+    private long hotTierMaxSize;
+
+    @Value("${app.idempotency.pending-timeout-seconds:60}")
+    private long pendingTimeoutSeconds;
+
+    @Value("${app.idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMillis;
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    // Claims this node won and is executing, whose heartbeat it renews
+    private final Set<InFlight> executing = ConcurrentHashMap.newKeySet();
+
+    private Cache<String, StoredResponse> hotTier;
+
+    @PostConstruct
+    public void init() {
+        hotTier = Caffeine.newBuilder()
+                .maximumSize(hotTierMaxSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+        log.info("Idempotency store initialized: ttl={}h, hotTier={}", ttlHours, hotTierMaxSize);
+    }
+
+    /**
+     * Decide what to do with a request carrying an idempotency key. When the result is
+     * {@link Claim.Kind#EXECUTE}, the caller must later call {@link #complete} or {@link #release}.
+     */
+    public Claim claim(String scope, String key, String requestHash) {
+        String id = scope + '\n' + key;
+
+        StoredResponse cached = hotTier.getIfPresent(id);
+        if (cached != null) {
+            return replayOrMismatch(cached, requestHash);
+        }
+
+        InFlight mine = new InFlight(scope, key, requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(id, mine);
+        if (running != null) {
+            return awaitRunning(running, scope, key, requestHash);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Optional<IdempotencyRecord> record;
+        try {
+            int claimed = repository.claim(UUID.randomUUID(), scope, key, requestHash, now,
+                    now.plusHours(ttlHours), now.minusSeconds(pendingTimeoutSeconds));
+            if (claimed == 1) {
+                executing.add(mine);
+                return Claim.execute();
+            }
+            // Another request (possibly on another node) already owns the key
+            record = repository.findByScopeAndIdempotencyKey(scope, key);
+        } catch (RuntimeException ex) {
+            finish(id, mine, null);
+            throw ex;
+        }
+        StoredResponse stored = record.filter(IdempotencyRecord::isCompleted)
+                .map(StoredResponse::of)
+                .orElse(null);
+        finish(id, mine, stored);
+        if (stored != null) {
+            return replayOrMismatch(stored, requestHash);
+        }
+        if (record.isPresent() && !record.get().getRequestHash().equals(requestHash)) {
+            return Claim.mismatch();
+        }
+        return Claim.inProgress();
+    }
+
+    /**
+     * Store the response of a claimed request. Server errors are not stored, so a retry runs again.
+     */
+    public void complete(String scope, String key, StoredResponse response) {
+        String id = scope + '\n' + key;
+        InFlight mine = inFlight.get(id);
+        try {
+            if (response.status() >= 500) {
+                repository.release(scope, key);
+                response = null;
+            } else {
+                repository.complete(scope, key, response.status(), response.contentType(), response.body());
+                hotTier.put(id, response);
+            }
+        } finally {
+            finish(id, mine, response);
+        }
+    }
+
+    /**
+     * Give up a claimed key without storing a response.
+     */
+    public void release(String scope, String key) {
+        String id = scope + '\n' + key;
+        InFlight mine = inFlight.get(id);
+        try {
+            repository.release(scope, key);
+        } finally {
+            finish(id, mine, null);
+        }
+    }
+
+    /**
+     * Renew the heartbeat of the keys whose requests are running on this node.
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        for (InFlight running : executing) {
+            try {
+                repository.heartbeat(running.scope(), running.key(), now);
+            } catch (RuntimeException e) {
+                log.warn("Failed to renew idempotency key {}: {}", running.key(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Delete expired keys from the persistent tier. Scheduled by {@code ScheduledTasks}.
+     */
+    public void cleanupExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+
+    private Claim awaitRunning(InFlight running, String scope, String key, String requestHash) {
+        if (!running.requestHash().equals(requestHash)) {
+            return Claim.mismatch();
+        }
+        try {
+            StoredResponse response = running.result().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            // A null result means the first request failed and released the key
+            return response != null ? Claim.replay(response) : claim(scope, key, requestHash);
+        } catch (TimeoutException | ExecutionException e) {
+            return Claim.inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Claim.inProgress();
+        }
+    }
+
+    private void finish(String id, InFlight mine, StoredResponse response) {
+        if (mine != null) {
+            executing.remove(mine);
+            inFlight.remove(id, mine);
+            mine.result().complete(response);
+        }
+    }
+
+    private static Claim replayOrMismatch(StoredResponse stored, String requestHash) {
+        return stored.requestHash().equals(requestHash) ? Claim.replay(stored) : Claim.mismatch();
+    }
+
+    private record InFlight(String scope, String key, String requestHash, CompletableFuture<StoredResponse> result) {
+    }
+
+    /**
+     * Response captured for replay.
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+
+        static StoredResponse of(IdempotencyRecord record) {
+            return new StoredResponse(record.getRequestHash(), record.getStatusCode(),
+                    record.getContentType(), record.getResponseBody());
+        }
+    }
+
+    /**
+     * Outcome of {@link #claim}.
+     */
+    public record Claim(Kind kind, StoredResponse response) {
+
+        public enum Kind {
+            EXECUTE,
+            REPLAY,
+            MISMATCH,
+            IN_PROGRESS
+        }
+
+        static Claim execute() {
+            return new Claim(Kind.EXECUTE, null);
+        }
+
+        static Claim replay(StoredResponse response) {
+            return new Claim(Kind.REPLAY, response);
+        }
+
+        static Claim mismatch() {
+            return new Claim(Kind.MISMATCH, null);
+        }
+
+        static Claim inProgress() {
+            return new Claim(Kind.IN_PROGRESS, null);
+        }
+    }
+}
@@ -1,26 +1,36 @@
 package com.coloradodev.cronos.core.metrics;
 
+import com.coloradodev.cronos.core.event.DomainEvent;
+import com.coloradodev.cronos.core.event.DomainEventSubscriber;
+import com.coloradodev.cronos.domain.event.BookingCancelled;
+import com.coloradodev.cronos.domain.event.BookingCreated;
+import com.coloradodev.cronos.domain.event.BookingNoShow;
+import com.coloradodev.cronos.domain.event.PaymentCompleted;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Custom metrics for business operations.
+ * Booking and payment counters are fed from the domain event bus.
  */
 @Component
 @RequiredArgsConstructor
-public class CronosMetrics {
+public class CronosMetrics implements DomainEventSubscriber {
 
     private final MeterRegistry meterRegistry;
 
     // Counters for different operations
     private Counter bookingsCreatedCounter;
     private Counter bookingsCancelledCounter;
+    private Counter bookingsNoShowCounter;
+    private Counter paymentsCompletedCounter;
     private Counter appointmentsCompletedCounter;
     private Counter tenantsRegisteredCounter;
     private Counter clientsRegisteredCounter;
@@ -42,6 +52,14 @@ public class CronosMetrics {
                 .description("Total bookings cancelled")
                 .register(meterRegistry);
 
+        bookingsNoShowCounter = Counter.builder("cronos.bookings.no_show")
+                .description("Total bookings marked as no-show")
+                .register(meterRegistry);
+
+        paymentsCompletedCounter = Counter.builder("cronos.payments.completed")
+                .description("Total payments completed")
+                .register(meterRegistry);
+
         appointmentsCompletedCounter = Counter.builder("cronos.appointments.completed")
                 .description("Total appointments completed")
                 .register(meterRegistry);
@@ -74,6 +92,32 @@ public class CronosMetrics {
         bookingsCancelledCounter.increment();
     }
 
+    public void recordBookingNoShow() {
+        bookingsNoShowCounter.increment();
+    }
+
+    // ==================== Domain Events ====================
+
+    @Override
+    public String getSubscriberName() {
+        return "metrics";
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof BookingCreated created) {
+                recordBookingCreated(created.tenantId());
+            } else if (event instanceof BookingCancelled) {
+                recordBookingCancelled();
+            } else if (event instanceof BookingNoShow) {
+                recordBookingNoShow();
+            } else if (event instanceof PaymentCompleted) {
+                paymentsCompletedCounter.increment();
+            }
+        }
+    }
+
     // ==================== Appointment Metrics ====================
 
     public void recordAppointmentCompleted() {
@@ -0,0 +1,19 @@
+package com.coloradodev.cronos.core.pagination;
+
+/**
+ * How a page reports the total number of rows.
+ */
+public enum CountMode {
+    /**
+     * Full {@code count(*)}; cost grows with the tenant's row count.
+     */
+    EXACT,
+    /**
+     * Exact up to {@code app.pagination.count-cap} rows, otherwise the cap flagged as a lower bound.
+     */
+    ESTIMATED,
+    /**
+     * No count query at all.
+     */
+    NONE
+}
@@ -0,0 +1,67 @@
+package com.coloradodev.cronos.core.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a list endpoint.
+ * <p>
+ * {@code nextCursor} continues after the last row using a keyset seek, which stays fast at any
+ * depth; {@code page} is only set for offset requests. {@code totalElements} is absent unless a
+ * count was requested, and {@code totalEstimated} marks it as a lower bound.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> {
+
+    private List<T> content;
+    private Integer page;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+    private Boolean totalEstimated;
+
+    /**
+     * Build a page from a keyset query that fetched {@link PageQuery#fetchSize()} rows.
+     */
+    public static <T> CursorPage<T> fromRows(List<T> rows, PageQuery query,
+            Function<T, KeysetCursor> cursorOf, PageCount count) {
+        boolean hasNext = rows.size() > query.size();
+        List<T> content = hasNext ? rows.subList(0, query.size()) : rows;
+        return build(content, null, query.size(), hasNext, cursorOf, count);
+    }
+
+    /**
+     * Build a page from an offset slice. {@code cursorOf} may be null when the slice is not in
+     * the keyset order, in which case no cursor is offered.
+     */
+    public static <T> CursorPage<T> fromSlice(Slice<T> slice, Function<T, KeysetCursor> cursorOf, PageCount count) {
+        return build(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), cursorOf, count);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), page, size, hasNext, nextCursor,
+                totalElements, totalEstimated);
+    }
+
+    private static <T> CursorPage<T> build(List<T> content, Integer page, int size, boolean hasNext,
+            Function<T, KeysetCursor> cursorOf, PageCount count) {
+        String nextCursor = hasNext && cursorOf != null && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(List.copyOf(content), page, size, hasNext, nextCursor,
+                count != null ? count.total() : null,
+                count != null && count.estimated() ? Boolean.TRUE : null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.coloradodev.cronos.core.pagination;
+
+import com.coloradodev.cronos.exception.BusinessRuleException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a page: the sort key of that row plus its id as tie-breaker.
+ * Encoded as an opaque URL-safe token.
+ */
+public record KeysetCursor(String key, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor of(LocalDateTime key, UUID id) {
+        return new KeysetCursor(key.toString(), id);
+    }
+
+    public static KeysetCursor of(String key, UUID id) {
+        return new KeysetCursor(key, id);
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split < 0) {
+                throw invalid();
+            }
+            return new KeysetCursor(raw.substring(0, split), UUID.fromString(raw.substring(split + 1)));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime timeKey() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessRuleException invalid() {
+        return new BusinessRuleException("INVALID_CURSOR", "Invalid or expired page cursor");
+    }
+}
@@ -0,0 +1,7 @@
+package com.coloradodev.cronos.core.pagination;
+
+/**
+ * Total row count of a list, possibly only a lower bound.
+ */
+public record PageCount(long total, boolean estimated) {
+}
@@ -0,0 +1,49 @@
+package com.coloradodev.cronos.core.pagination;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Runs the optional count query for a page.
+ * <p>
+ * Table names and filters come from service code, never from request input; filter
+ * values are always bound as parameters.
+ */
+@Component
+public class PageCounter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.pagination.count-cap:10000}")
+    private long countCap;
+
+    /**
+     * @param table  table to count
+     * @param filter SQL condition with named parameters
+     * @return the count, or null for {@link CountMode#NONE}
+     */
+    public PageCount count(CountMode mode, String table, String filter, Map<String, Object> params) {
+        return switch (mode) {
+            case NONE -> null;
+            case EXACT -> new PageCount(run("SELECT count(*) FROM " + table + " WHERE " + filter, params), false);
+            case ESTIMATED -> {
+                // Stops scanning after cap + 1 rows, so huge tenants cost the same as mid-sized ones
+                long counted = run("SELECT count(*) FROM (SELECT 1 FROM " + table + " WHERE " + filter
+                        + " LIMIT " + (countCap + 1) + ") capped", params);
+                yield counted > countCap ? new PageCount(countCap, true) : new PageCount(counted, false);
+            }
+        };
+    }
+
+    private long run(String sql, Map<String, Object> params) {
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,54 @@
+package com.coloradodev.cronos.core.pagination;
+
+import com.coloradodev.cronos.exception.BusinessRuleException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Page request for list endpoints: either an offset page number or a keyset cursor.
+ * When a cursor is given the page number is ignored and rows follow the endpoint's default order.
+ */
+public record PageQuery(int page, int size, String cursor, CountMode count) {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public PageQuery {
+        if (page < 0) {
+            throw new BusinessRuleException("INVALID_PAGE", "Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessRuleException("INVALID_PAGE_SIZE",
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (cursor != null && cursor.isBlank()) {
+            cursor = null;
+        }
+        if (count == null) {
+            count = CountMode.ESTIMATED;
+        }
+    }
+
+    public static PageQuery of(int page, int size, String cursor, CountMode count) {
+        return new PageQuery(page, size, cursor, count);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null;
+    }
+
+    public KeysetCursor decodeCursor() {
+        return KeysetCursor.decode(cursor);
+    }
+
+    public Pageable toPageable(Sort sort) {
+        return PageRequest.of(page, size, sort);
+    }
+
+    /**
+     * Row limit for keyset queries: one extra row tells whether another page exists.
+     */
+    public int fetchSize() {
+        return size + 1;
+    }
+}
@@ -0,0 +1,120 @@
+package com.coloradodev.cronos.core.tenant;
+
+import com.coloradodev.cronos.domain.Tenant;
+import com.coloradodev.cronos.repository.TenantRepository;
+import com.coloradodev.cronos.repository.projection.TenantTimezone;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cached timezone of every tenant, with the tenants grouped into one bucket per timezone.
+ * <p>
+ * Booking times are local times of the tenant's timezone, so reminders and the daily jobs
+ * need it for every tenant they touch. The index is loaded at startup and reloaded every
+ * {@code app.tenants.timezone-refresh-interval-ms} to pick up changes made on other
+ * instances; changes made on this one are applied through {@link #update} once their
+ * transaction commits. Tenants not indexed yet are looked up and added on first use.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantTimezones {
+
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of(Tenant.DEFAULT_TIMEZONE);
+
+    private final TenantRepository tenantRepository;
+
+    private volatile Index index = new Index(Map.of(), Map.of());
+
+    /**
+     * Reload the index from the database.
+     */
+    @Scheduled(fixedDelayString = "${app.tenants.timezone-refresh-interval-ms:300000}")
+    public void refresh() {
+        Map<UUID, ZoneId> zones = new HashMap<>();
+        for (TenantTimezone tenant : tenantRepository.findAllTimezones()) {
+            zones.put(tenant.tenantId(), parse(tenant.tenantId(), tenant.timezone()));
+        }
+        index = Index.of(zones);
+        log.debug("Tenant timezone index refreshed: {} tenants in {} timezones", zones.size(), index.buckets.size());
+    }
+
+    /**
+     * The tenant's timezone; the default timezone for unknown tenants.
+     */
+    public ZoneId zoneOf(UUID tenantId) {
+        ZoneId zone = index.zones.get(tenantId);
+        if (zone != null) {
+            return zone;
+        }
+        // Created on another instance since the last refresh
+        zone = tenantRepository.findById(tenantId)
+                .map(tenant -> parse(tenantId, tenant.getTimezone()))
+                .orElse(DEFAULT_ZONE);
+        put(tenantId, zone);
+        return zone;
+    }
+
+    /**
+     * Tenants by timezone. The returned map is a snapshot and is not modified afterwards.
+     */
+    public Map<ZoneId, Set<UUID>> getBuckets() {
+        return index.buckets;
+    }
+
+    /**
+     * Record a tenant's (new) timezone, after the current transaction commits if there is one.
+     */
+    public void update(UUID tenantId, ZoneId zone) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(tenantId, zone);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(tenantId, zone);
+            }
+        });
+    }
+
+    private synchronized void put(UUID tenantId, ZoneId zone) {
+        if (zone.equals(index.zones.get(tenantId))) {
+            return;
+        }
+        Map<UUID, ZoneId> zones = new HashMap<>(index.zones);
+        zones.put(tenantId, zone);
+        index = Index.of(zones);
+    }
+
+    private static ZoneId parse(UUID tenantId, String timezone) {
+        try {
+            return ZoneId.of(timezone);
+        } catch (DateTimeException | NullPointerException e) {
+            log.warn("Tenant {} has invalid timezone '{}'; using {}", tenantId, timezone, DEFAULT_ZONE);
+            return DEFAULT_ZONE;
+        }
+    }
+
+    private record Index(Map<UUID, ZoneId> zones, Map<ZoneId, Set<UUID>> buckets) {
+
+        static Index of(Map<UUID, ZoneId> zones) {
+            Map<ZoneId, Set<UUID>> buckets = new HashMap<>();
+            zones.forEach((tenantId, zone) -> buckets.computeIfAbsent(zone, key -> new HashSet<>()).add(tenantId));
+            buckets.replaceAll((zone, tenants) -> Set.copyOf(tenants));
+            return new Index(Map.copyOf(zones), Map.copyOf(buckets));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.coloradodev.cronos.core.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for timeouts spread over hours or days.
+ * <p>
+ * Level 0 has one bucket per tick; every level above covers {@code wheelSize} times the
+ * span of the one below. An entry goes into the lowest level whose span reaches its deadline
+ * and cascades one level down each time the wheel enters its bucket's range, so it is only
+ * touched a handful of times before it expires in a level-0 bucket at its exact tick.
+ * Deadlines beyond the top level's span wait in the top level and are re-placed on every
+ * revolution. As with {@link TimingWheel}, scheduling and cancelling are O(1) and the owner
+ * drives the wheel by calling {@link #advance(long, Consumer)}.
+ *
+ * @param <T> payload type
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final Bucket<T>[][] levels;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis  resolution of the wheel
+     * @param wheelSize   buckets per level, rounded up to a power of two
+     * @param levelCount  number of levels; they span {@code tickMillis * wheelSize^levelCount} together
+     * @param startMillis current time, in the same clock later passed to {@code advance}
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1 || levelCount <= 0) {
+            throw new IllegalArgumentException("Tick and level count must be positive, wheel size above one");
+        }
+        int buckets = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(buckets);
+        if ((long) bits * levelCount >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Too many levels for wheel size " + buckets);
+        }
+        this.mask = buckets - 1;
+        this.levels = new Bucket[levelCount][buckets];
+        for (Bucket<T>[] level : levels) {
+            for (int i = 0; i < buckets; i++) {
+                level[i] = new Bucket<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Total time covered before entries have to wait in the top level, in milliseconds.
+     */
+    public long spanMillis() {
+        return tickMillis << (bits * levels.length);
+    }
+
+    /**
+     * Schedule a payload to expire at the given time. Deadlines in the past expire on the next advance.
+     */
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(this, payload, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Move the wheel to {@code nowMillis} and hand every expired payload to {@code onExpire}.
+     * The callback runs outside the wheel lock, so it may schedule or cancel other timeouts.
+     *
+     * @return number of expired payloads
+     */
+    public int advance(long nowMillis, Consumer<T> onExpire) {
+        List<T> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                // Cascade from the top so entries can fall through several levels in one tick
+                for (int level = levels.length - 1; level > 0; level--) {
+                    if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                        cascade(levels[level][(int) ((currentTick >>> (bits * level)) & mask)]);
+                    }
+                }
+                levels[0][(int) (currentTick & mask)].expire(currentTick, expired);
+            }
+            size -= expired.size();
+        }
+        expired.forEach(onExpire);
+        return expired.size();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        int level = 0;
+        while (level < levels.length - 1 && delta >= 1L << (bits * (level + 1))) {
+            level++;
+        }
+        levels[level][(int) ((timeout.deadlineTick >>> (bits * level)) & mask)].add(timeout);
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        Timeout<T> timeout = bucket.head;
+        bucket.head = null;
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Handle to a scheduled payload.
+     */
+    public static final class Timeout<T> {
+
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T payload;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T payload, long deadlineTick) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        /**
+         * Remove the payload from the wheel.
+         *
+         * @return false if it had already expired or been cancelled
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+
+    /**
+     * Intrusive doubly linked list of the timeouts sharing one bucket.
+     */
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        void expire(long tick, List<T> expired) {
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.deadlineTick <= tick) {
+                    remove(timeout);
+                    expired.add(timeout.payload);
+                }
+                timeout = next;
+            }
+        }
+    }
+}
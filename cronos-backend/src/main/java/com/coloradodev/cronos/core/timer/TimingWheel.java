@@ -0,0 +1,169 @@
+package com.coloradodev.cronos.core.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for large numbers of short-lived timeouts.
+ * <p>
+ * Scheduling and cancelling are O(1): an entry is linked into the bucket of its
+ * deadline tick and unlinked on cancel. {@link #advance(long, Consumer)} only visits
+ * the buckets for the ticks that elapsed; entries whose deadline lies more than one
+ * revolution ahead simply stay in their bucket until a later pass. The wheel is not
+ * driven by its own thread; the owner calls {@code advance} periodically.
+ *
+ * @param <T> payload type
+ */
+public final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Bucket<T>[] buckets;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis  resolution of the wheel
+     * @param wheelSize   number of buckets, rounded up to a power of two
+     * @param startMillis current time, in the same clock later passed to {@code advance}
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        int buckets = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = buckets - 1;
+        this.buckets = new Bucket[buckets];
+        for (int i = 0; i < buckets; i++) {
+            this.buckets[i] = new Bucket<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedule a payload to expire at the given time. Deadlines in the past expire on the next advance.
+     */
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(this, payload, deadlineTick);
+        buckets[(int) (deadlineTick & mask)].add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Move the wheel to {@code nowMillis} and hand every expired payload to {@code onExpire}.
+     * The callback runs outside the wheel lock, so it may schedule or cancel other timeouts.
+     *
+     * @return number of expired payloads
+     */
+    public int advance(long nowMillis, Consumer<T> onExpire) {
+        List<T> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            if (targetTick <= currentTick) {
+                return 0;
+            }
+            // After a long pause one full revolution is enough to see every bucket
+            long steps = Math.min(targetTick - currentTick, buckets.length);
+            for (long i = 1; i <= steps; i++) {
+                buckets[(int) ((currentTick + i) & mask)].expire(targetTick, expired);
+            }
+            size -= expired.size();
+            currentTick = targetTick;
+        }
+        expired.forEach(onExpire);
+        return expired.size();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Handle to a scheduled payload.
+     */
+    public static final class Timeout<T> {
+
+        private final TimingWheel<T> wheel;
+        private final T payload;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(TimingWheel<T> wheel, T payload, long deadlineTick) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        /**
+         * Remove the payload from the wheel.
+         *
+         * @return false if it had already expired or been cancelled
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+
+    /**
+     * Intrusive doubly linked list of the timeouts sharing one bucket.
+     */
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        void expire(long targetTick, List<T> expired) {
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.deadlineTick <= targetTick) {
+                    remove(timeout);
+                    expired.add(timeout.payload);
+                }
+                timeout = next;
+            }
+        }
+    }
+}
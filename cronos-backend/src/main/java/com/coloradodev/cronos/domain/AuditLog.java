@@ -29,8 +29,8 @@ public class AuditLog implements TenantAware {
     @Column(name = "tenant_id", nullable = false)
     private UUID tenantId;
 
-    @Column(name = "user_id", nullable = false)
-    private UUID userId;
+    @Column(name = "user_id")
+    private UUID userId; // Null for system actions
 
     @Column(name = "action", nullable = false, length = 50)
     private String action; // CREATE, UPDATE, DELETE
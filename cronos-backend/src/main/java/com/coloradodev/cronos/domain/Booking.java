@@ -65,6 +65,16 @@ public class Booking implements TenantAware {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt; // Cleared on reschedule so the new time gets its own reminder
+
+    // Set only on occurrences expanded from a booking series; never persisted
+    @Transient
+    private UUID seriesId;
+
+    @Transient
+    private LocalDateTime originalStartTime;
+
     // Relationships
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tenant_id", insertable = false, updatable = false)
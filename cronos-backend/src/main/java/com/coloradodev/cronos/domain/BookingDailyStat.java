@@ -0,0 +1,56 @@
+package com.coloradodev.cronos.domain;
+
+import com.coloradodev.cronos.domain.Booking.BookingStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Number of bookings of one tenant, day, service, staff member and status.
+ * Rows are only written through the upsert and rebuild queries of
+ * {@link com.coloradodev.cronos.repository.BookingDailyStatRepository}.
+ */
+@Entity
+@Table(name = "booking_daily_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingDailyStat {
+
+    /**
+     * Staff id stored for bookings without an assigned staff member.
+     */
+    public static final UUID UNASSIGNED = new UUID(0L, 0L);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "service_id", nullable = false)
+    private UUID serviceId;
+
+    @Column(name = "staff_id", nullable = false)
+    private UUID staffId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 50)
+    private BookingStatus status;
+
+    @Column(name = "booking_count", nullable = false)
+    private long bookingCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
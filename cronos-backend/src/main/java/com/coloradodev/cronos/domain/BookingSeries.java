@@ -0,0 +1,111 @@
+package com.coloradodev.cronos.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Recurring booking (standing appointment). Only the rule is stored; occurrences
+ * are expanded for the window being read.
+ */
+@Entity
+@Table(name = "booking_series")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(com.coloradodev.cronos.domain.TenantEntityListener.class)
+public class BookingSeries implements TenantAware {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "service_id", nullable = false)
+    private UUID serviceId;
+
+    @Column(name = "staff_id", nullable = false)
+    private UUID staffId;
+
+    @Column(name = "client_id")
+    private UUID clientId;
+
+    @Column(name = "client_name")
+    private String clientName;
+
+    @Column(name = "client_email")
+    private String clientEmail;
+
+    @Column(name = "client_phone")
+    private String clientPhone;
+
+    @Column(name = "notes", columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime; // Start of the first occurrence
+
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationMinutes;
+
+    @Column(name = "rrule", nullable = false)
+    private String rrule;
+
+    @Column(name = "last_end_time")
+    private LocalDateTime lastEndTime; // Null for open-ended series
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private SeriesStatus status = SeriesStatus.ACTIVE;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Relationships
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "service_id", insertable = false, updatable = false)
+    private Service service;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "staff_id", insertable = false, updatable = false)
+    private Staff staff;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (status == null) {
+            status = SeriesStatus.ACTIVE;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(UUID tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public enum SeriesStatus {
+        ACTIVE,
+        CANCELLED
+    }
+}
@@ -0,0 +1,68 @@
+package com.coloradodev.cronos.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Change to a single occurrence of a booking series, identified by its original start time.
+ */
+@Entity
+@Table(name = "booking_series_exceptions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(com.coloradodev.cronos.domain.TenantEntityListener.class)
+public class BookingSeriesException implements TenantAware {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "series_id", nullable = false)
+    private UUID seriesId;
+
+    @Column(name = "original_start_time", nullable = false)
+    private LocalDateTime originalStartTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private ExceptionType type;
+
+    @Column(name = "new_start_time")
+    private LocalDateTime newStartTime; // Set for RESCHEDULED
+
+    @Column(name = "new_end_time")
+    private LocalDateTime newEndTime; // Set for RESCHEDULED
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(UUID tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public enum ExceptionType {
+        CANCELLED,
+        RESCHEDULED
+    }
+}
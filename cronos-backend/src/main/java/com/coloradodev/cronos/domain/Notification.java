@@ -55,12 +55,30 @@ public class Notification {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "booking_id")
+    private UUID bookingId; // Set for booking notifications, rendered from the booking at send time
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload; // JSON template parameters, e.g. a cancellation reason
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         if (status == null) {
             status = NotificationStatus.PENDING;
         }
+        if (status == NotificationStatus.PENDING && nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
     }
 
     public enum RecipientType {
@@ -77,6 +95,7 @@ public class Notification {
 
     public enum NotificationStatus {
         PENDING,
+        SENDING,
         SENT,
         FAILED
     }
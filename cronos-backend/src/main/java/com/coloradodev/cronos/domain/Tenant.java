@@ -2,6 +2,7 @@ package com.coloradodev.cronos.domain;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -16,6 +17,8 @@ import lombok.experimental.SuperBuilder;
 @Table(name = "tenants")
 public class Tenant extends BaseEntity {
 
+    public static final String DEFAULT_TIMEZONE = "America/New_York";
+
     private String name;
 
     @Column(unique = true)
@@ -33,6 +36,11 @@ public class Tenant extends BaseEntity {
     @Column(name = "work_day_end")
     private java.time.LocalTime workDayEnd;
 
+    // IANA zone id; booking times are local times of this zone
+    @Column(nullable = false)
+    @Builder.Default
+    private String timezone = DEFAULT_TIMEZONE;
+
     // Subscription relationship
     @OneToOne(mappedBy = "tenant", fetch = FetchType.LAZY)
     private Subscription subscription;
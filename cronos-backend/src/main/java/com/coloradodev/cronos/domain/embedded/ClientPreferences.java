@@ -36,7 +36,7 @@ public class ClientPreferences {
     private String language;
 
     /**
-     * Client's timezone (e.g., "America/New_York")
+     * Client's timezone (e.g., "America/New_York"); when null the tenant's timezone applies
      */
     private String timezone;
 
@@ -54,7 +54,6 @@ public class ClientPreferences {
         prefs.setReminderEnabled(true);
         prefs.setReminderHours(24);
         prefs.setLanguage("en");
-        prefs.setTimezone("America/New_York");
         return prefs;
     }
 }
@@ -0,0 +1,21 @@
+package com.coloradodev.cronos.domain.event;
+
+import com.coloradodev.cronos.core.event.DomainEvent;
+import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.Booking.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A booking was cancelled; {@code previousStatus} is its status before cancellation.
+ */
+public record BookingCancelled(UUID tenantId, UUID bookingId, UUID serviceId, UUID staffId,
+        LocalDateTime startTime, BookingStatus previousStatus, String reason,
+        LocalDateTime occurredAt) implements DomainEvent {
+
+    public static BookingCancelled of(Booking booking, BookingStatus previousStatus, String reason) {
+        return new BookingCancelled(booking.getTenantId(), booking.getId(), booking.getServiceId(),
+                booking.getStaffId(), booking.getStartTime(), previousStatus, reason, LocalDateTime.now());
+    }
+}
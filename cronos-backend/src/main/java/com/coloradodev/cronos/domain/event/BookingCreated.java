@@ -0,0 +1,19 @@
+package com.coloradodev.cronos.domain.event;
+
+import com.coloradodev.cronos.core.event.DomainEvent;
+import com.coloradodev.cronos.domain.Booking;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A booking was created.
+ */
+public record BookingCreated(UUID tenantId, UUID bookingId, UUID serviceId, UUID staffId,
+        LocalDateTime startTime, LocalDateTime endTime, LocalDateTime occurredAt) implements DomainEvent {
+
+    public static BookingCreated of(Booking booking) {
+        return new BookingCreated(booking.getTenantId(), booking.getId(), booking.getServiceId(),
+                booking.getStaffId(), booking.getStartTime(), booking.getEndTime(), LocalDateTime.now());
+    }
+}
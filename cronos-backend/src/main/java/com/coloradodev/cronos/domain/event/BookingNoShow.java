@@ -0,0 +1,19 @@
+package com.coloradodev.cronos.domain.event;
+
+import com.coloradodev.cronos.core.event.DomainEvent;
+import com.coloradodev.cronos.domain.Booking;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A confirmed booking was marked as a no-show.
+ */
+public record BookingNoShow(UUID tenantId, UUID bookingId, UUID serviceId, UUID staffId,
+        LocalDateTime startTime, LocalDateTime occurredAt) implements DomainEvent {
+
+    public static BookingNoShow of(Booking booking) {
+        return new BookingNoShow(booking.getTenantId(), booking.getId(), booking.getServiceId(),
+                booking.getStaffId(), booking.getStartTime(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,21 @@
+package com.coloradodev.cronos.domain.event;
+
+import com.coloradodev.cronos.core.event.DomainEvent;
+import com.coloradodev.cronos.domain.Booking;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A booking moved from [oldStartTime, oldEndTime) to [startTime, endTime).
+ */
+public record BookingRescheduled(UUID tenantId, UUID bookingId, UUID serviceId, UUID staffId,
+        LocalDateTime oldStartTime, LocalDateTime oldEndTime, LocalDateTime startTime, LocalDateTime endTime,
+        LocalDateTime occurredAt) implements DomainEvent {
+
+    public static BookingRescheduled of(Booking booking, LocalDateTime oldStartTime, LocalDateTime oldEndTime) {
+        return new BookingRescheduled(booking.getTenantId(), booking.getId(), booking.getServiceId(),
+                booking.getStaffId(), oldStartTime, oldEndTime, booking.getStartTime(), booking.getEndTime(),
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.coloradodev.cronos.domain.event;
+
+import com.coloradodev.cronos.core.event.DomainEvent;
+import com.coloradodev.cronos.domain.Payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A payment was charged successfully.
+ */
+public record PaymentCompleted(UUID tenantId, UUID paymentId, UUID bookingId, BigDecimal amount,
+        LocalDateTime occurredAt) implements DomainEvent {
+
+    public static PaymentCompleted of(Payment payment) {
+        return new PaymentCompleted(payment.getTenantId(), payment.getId(), payment.getBookingId(),
+                payment.getAmount(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.coloradodev.cronos.domain.event;
+
+import com.coloradodev.cronos.core.event.DomainEvent;
+import com.coloradodev.cronos.domain.Payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A completed payment was refunded.
+ */
+public record PaymentRefunded(UUID tenantId, UUID paymentId, UUID bookingId, BigDecimal refundAmount,
+        LocalDateTime occurredAt) implements DomainEvent {
+
+    public static PaymentRefunded of(Payment payment) {
+        return new PaymentRefunded(payment.getTenantId(), payment.getId(), payment.getBookingId(),
+                payment.getRefundAmount(), LocalDateTime.now());
+    }
+}
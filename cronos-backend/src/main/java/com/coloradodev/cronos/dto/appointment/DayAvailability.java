@@ -0,0 +1,19 @@
+package com.coloradodev.cronos.dto.appointment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DayAvailability {
+
+    private LocalDate date;
+    private List<TimeSlot> slots;
+}
@@ -31,6 +31,8 @@ public class BookingRequestDTO {
 
     private UUID clientId; // For registered clients
 
+    private UUID holdId; // Optional slot hold taken at checkout
+
     @NotNull(message = "Start time is required")
     @Future(message = "Start time must be in the future")
     private LocalDateTime startTime;
@@ -34,4 +34,6 @@ public class BookingResponseDTO {
     private UUID appointmentId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private UUID seriesId; // Set for occurrences of a recurring series
+    private LocalDateTime originalStartTime;
 }
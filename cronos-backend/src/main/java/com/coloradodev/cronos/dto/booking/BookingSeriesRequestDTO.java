@@ -0,0 +1,53 @@
+package com.coloradodev.cronos.dto.booking;
+
+import com.coloradodev.cronos.validation.PhoneNumber;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Request DTO for creating a recurring booking series.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSeriesRequestDTO {
+
+    @NotNull(message = "Service ID is required")
+    private UUID serviceId;
+
+    @NotNull(message = "Staff ID is required")
+    private UUID staffId;
+
+    private UUID clientId;
+
+    @NotNull(message = "Start time is required")
+    @Future(message = "Start time must be in the future")
+    private LocalDateTime startTime; // First occurrence
+
+    @NotBlank(message = "Recurrence rule is required")
+    @Size(max = 255, message = "Recurrence rule must not exceed 255 characters")
+    private String rrule; // e.g. FREQ=WEEKLY;INTERVAL=2;BYDAY=TU
+
+    @Size(max = 200, message = "Client name must not exceed 200 characters")
+    private String clientName;
+
+    @Email(message = "Email must be valid")
+    private String clientEmail;
+
+    @PhoneNumber
+    private String clientPhone;
+
+    @Size(max = 500, message = "Notes must not exceed 500 characters")
+    private String notes;
+}
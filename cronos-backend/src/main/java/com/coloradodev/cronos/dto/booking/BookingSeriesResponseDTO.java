@@ -0,0 +1,36 @@
+package com.coloradodev.cronos.dto.booking;
+
+import com.coloradodev.cronos.domain.BookingSeries.SeriesStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for BookingSeries entity.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSeriesResponseDTO {
+
+    private UUID id;
+    private UUID serviceId;
+    private UUID staffId;
+    private UUID clientId;
+    private String clientName;
+    private String clientEmail;
+    private String clientPhone;
+    private String notes;
+    private LocalDateTime startTime;
+    private Integer durationMinutes;
+    private String rrule;
+    private LocalDateTime lastEndTime;
+    private SeriesStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package com.coloradodev.cronos.dto.booking;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Request DTO for placing a temporary hold on a slot.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotHoldRequestDTO {
+
+    @NotNull(message = "Service ID is required")
+    private UUID serviceId;
+
+    private UUID staffId; // Optional specific staff
+
+    @NotNull(message = "Start time is required")
+    @Future(message = "Start time must be in the future")
+    private LocalDateTime startTime;
+}
@@ -24,6 +24,9 @@ public interface BookingMapper {
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "seriesId", ignore = true)
+    @Mapping(target = "originalStartTime", ignore = true)
+    @Mapping(target = "reminderSentAt", ignore = true)
     Booking toEntity(BookingRequestDTO dto);
 
     @Mapping(source = "service", target = "service")
@@ -41,5 +44,8 @@ public interface BookingMapper {
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "seriesId", ignore = true)
+    @Mapping(target = "originalStartTime", ignore = true)
+    @Mapping(target = "reminderSentAt", ignore = true)
     void updateEntityFromDTO(BookingRequestDTO dto, @MappingTarget Booking entity);
 }
@@ -0,0 +1,14 @@
+package com.coloradodev.cronos.dto.mapper;
+
+import com.coloradodev.cronos.domain.BookingSeries;
+import com.coloradodev.cronos.dto.booking.BookingSeriesResponseDTO;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper for BookingSeries entity.
+ */
+@Mapper(componentModel = "spring")
+public interface BookingSeriesMapper {
+
+    BookingSeriesResponseDTO toResponseDTO(BookingSeries entity);
+}
@@ -0,0 +1,14 @@
+package com.coloradodev.cronos.dto.mapper;
+
+import com.coloradodev.cronos.domain.ReportJob;
+import com.coloradodev.cronos.dto.report.ReportJobResponseDTO;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper for ReportJob entity.
+ */
+@Mapper(componentModel = "spring")
+public interface ReportJobMapper {
+
+    ReportJobResponseDTO toResponseDTO(ReportJob entity);
+}
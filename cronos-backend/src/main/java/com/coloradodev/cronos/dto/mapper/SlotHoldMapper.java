@@ -0,0 +1,14 @@
+package com.coloradodev.cronos.dto.mapper;
+
+import com.coloradodev.cronos.domain.SlotHold;
+import com.coloradodev.cronos.dto.booking.SlotHoldResponseDTO;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper for SlotHold entity.
+ */
+@Mapper(componentModel = "spring")
+public interface SlotHoldMapper {
+
+    SlotHoldResponseDTO toResponseDTO(SlotHold entity);
+}
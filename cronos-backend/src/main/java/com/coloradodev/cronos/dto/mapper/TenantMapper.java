@@ -18,6 +18,7 @@ public interface TenantMapper {
     @Mapping(target = "subscription", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "timezone", ignore = true)
     Tenant toEntity(TenantRequestDTO dto);
 
     TenantResponseDTO toResponseDTO(Tenant entity);
@@ -27,5 +28,6 @@ public interface TenantMapper {
     @Mapping(target = "subscription", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "timezone", ignore = true)
     void updateEntityFromDTO(TenantRequestDTO dto, @MappingTarget Tenant entity);
 }
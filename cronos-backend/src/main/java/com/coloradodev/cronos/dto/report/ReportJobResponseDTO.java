@@ -0,0 +1,37 @@
+package com.coloradodev.cronos.dto.report;
+
+import com.coloradodev.cronos.domain.ReportJob.JobStatus;
+import com.coloradodev.cronos.domain.ReportJob.ReportFormat;
+import com.coloradodev.cronos.domain.ReportJob.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for ReportJob entity.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobResponseDTO {
+
+    private UUID id;
+    private ReportType reportType;
+    private ReportFormat format;
+    private JobStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long rowCount;
+    private Long sizeBytes;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime expiresAt;
+}
@@ -17,6 +17,7 @@ public class TenantOnboardingRequest {
     private String logoUrl;
     private java.time.LocalTime workDayStart;
     private java.time.LocalTime workDayEnd;
+    private String timezone;
 
     // Admin User details
     private String adminEmail;
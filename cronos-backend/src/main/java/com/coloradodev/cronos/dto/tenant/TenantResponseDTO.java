@@ -27,6 +27,7 @@ public class TenantResponseDTO {
     private String logoUrl;
     private LocalTime workDayStart;
     private LocalTime workDayEnd;
+    private String timezone;
     private SubscriptionResponseDTO subscription;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
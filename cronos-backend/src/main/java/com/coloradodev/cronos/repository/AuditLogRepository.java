@@ -1,6 +1,8 @@
 package com.coloradodev.cronos.repository;
 
 import com.coloradodev.cronos.domain.AuditLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,7 +19,35 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
 
     List<AuditLog> findByTenantIdAndUserId(UUID tenantId, UUID userId);
 
-    List<AuditLog> findByTenantIdAndEntityTypeAndEntityId(
+    @Query("SELECT a FROM AuditLog a WHERE a.tenantId = :tenantId " +
+            "AND (:action IS NULL OR a.action = :action) " +
+            "AND (:startDate IS NULL OR a.timestamp >= :startDate) " +
+            "AND (:endDate IS NULL OR a.timestamp <= :endDate)")
+    Slice<AuditLog> findSlice(
+            @Param("tenantId") UUID tenantId,
+            @Param("action") String action,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable);
+
+    // Keyset page in (timestamp DESC, id DESC) order, continuing after the given row
+    @Query(value = "SELECT a.* FROM audit_logs a WHERE a.tenant_id = :tenantId " +
+            "AND (CAST(:action AS VARCHAR) IS NULL OR a.action = CAST(:action AS VARCHAR)) " +
+            "AND (CAST(:startDate AS TIMESTAMP) IS NULL OR a.timestamp >= CAST(:startDate AS TIMESTAMP)) " +
+            "AND (CAST(:endDate AS TIMESTAMP) IS NULL OR a.timestamp <= CAST(:endDate AS TIMESTAMP)) " +
+            "AND (a.timestamp, a.id) < (:timestamp, :id) " +
+            "ORDER BY a.timestamp DESC, a.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<AuditLog> findPageBefore(
+            @Param("tenantId") UUID tenantId,
+            @Param("action") String action,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("timestamp") LocalDateTime timestamp,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+
+    List<AuditLog> findByTenantIdAndEntityTypeAndEntityIdOrderByTimestampAscIdAsc(
             UUID tenantId,
             String entityType,
             UUID entityId);
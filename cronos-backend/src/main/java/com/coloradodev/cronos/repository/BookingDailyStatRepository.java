@@ -0,0 +1,93 @@
+package com.coloradodev.cronos.repository;
+
+import com.coloradodev.cronos.domain.BookingDailyStat;
+import com.coloradodev.cronos.repository.projection.BookingStatCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BookingDailyStatRepository extends JpaRepository<BookingDailyStat, UUID> {
+
+        @Query("SELECT new com.coloradodev.cronos.repository.projection.BookingStatCount(" +
+                        "s.serviceId, s.staffId, s.status, SUM(s.bookingCount)) FROM BookingDailyStat s " +
+                        "WHERE s.tenantId = :tenantId " +
+                        "AND s.statDate BETWEEN :startDate AND :endDate " +
+                        "GROUP BY s.serviceId, s.staffId, s.status")
+        List<BookingStatCount> sumByServiceStaffAndStatus(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        @Modifying
+        @Query(value = "INSERT INTO booking_daily_stats " +
+                        "(id, tenant_id, stat_date, service_id, staff_id, status, booking_count, updated_at) " +
+                        "VALUES (gen_random_uuid(), :tenantId, :statDate, :serviceId, :staffId, :status, :delta, now()) " +
+                        "ON CONFLICT (tenant_id, stat_date, service_id, staff_id, status) DO UPDATE " +
+                        "SET booking_count = booking_daily_stats.booking_count + EXCLUDED.booking_count, " +
+                        "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+        int addToCount(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("statDate") LocalDate statDate,
+                        @Param("serviceId") UUID serviceId,
+                        @Param("staffId") UUID staffId,
+                        @Param("status") String status,
+                        @Param("delta") long delta);
+
+        // Set-based counterpart of addToCount: applies delta for every given booking under its current status
+        @Modifying
+        @Query(value = "INSERT INTO booking_daily_stats " +
+                        "(id, tenant_id, stat_date, service_id, staff_id, status, booking_count, updated_at) " +
+                        "SELECT gen_random_uuid(), b.tenant_id, CAST(b.start_time AS DATE), b.service_id, " +
+                        "COALESCE(b.staff_id, CAST('00000000-0000-0000-0000-000000000000' AS UUID)), b.status, " +
+                        ":delta * COUNT(*), now() " +
+                        "FROM bookings b " +
+                        "WHERE b.id IN :ids " +
+                        "GROUP BY b.tenant_id, CAST(b.start_time AS DATE), b.service_id, " +
+                        "COALESCE(b.staff_id, CAST('00000000-0000-0000-0000-000000000000' AS UUID)), b.status " +
+                        "ON CONFLICT (tenant_id, stat_date, service_id, staff_id, status) DO UPDATE " +
+                        "SET booking_count = booking_daily_stats.booking_count + EXCLUDED.booking_count, " +
+                        "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+        int addBookingsToCount(
+                        @Param("ids") Collection<UUID> ids,
+                        @Param("delta") long delta);
+
+        // Days (as epoch days) the given bookings currently fall on, ascending
+        @Query(value = "SELECT DISTINCT CAST(b.start_time AS DATE) - DATE '1970-01-01' AS day " +
+                        "FROM bookings b WHERE b.id IN :ids ORDER BY day", nativeQuery = true)
+        List<Integer> findEpochDaysOf(@Param("ids") Collection<UUID> ids);
+
+        @Modifying
+        @Query(value = "DELETE FROM booking_daily_stats " +
+                        "WHERE stat_date >= :startDate AND stat_date < :endDate", nativeQuery = true)
+        int deleteRange(
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        @Modifying
+        @Query(value = "INSERT INTO booking_daily_stats " +
+                        "(id, tenant_id, stat_date, service_id, staff_id, status, booking_count, updated_at) " +
+                        "SELECT gen_random_uuid(), b.tenant_id, CAST(b.start_time AS DATE), b.service_id, " +
+                        "COALESCE(b.staff_id, CAST('00000000-0000-0000-0000-000000000000' AS UUID)), b.status, " +
+                        "COUNT(*), now() " +
+                        "FROM bookings b " +
+                        "WHERE b.start_time >= :startTime AND b.start_time < :endTime " +
+                        "GROUP BY b.tenant_id, CAST(b.start_time AS DATE), b.service_id, " +
+                        "COALESCE(b.staff_id, CAST('00000000-0000-0000-0000-000000000000' AS UUID)), b.status",
+                        nativeQuery = true)
+        int insertFromBookings(
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime);
+
+        @Modifying
+        @Query(value = "DELETE FROM booking_daily_stats WHERE booking_count = 0", nativeQuery = true)
+        int deleteEmpty();
+}
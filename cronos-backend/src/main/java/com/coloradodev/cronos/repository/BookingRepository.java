@@ -2,15 +2,24 @@ package com.coloradodev.cronos.repository;
 
 import com.coloradodev.cronos.domain.Booking;
 import com.coloradodev.cronos.domain.Booking.BookingStatus;
+import com.coloradodev.cronos.repository.projection.BookingInterval;
+import com.coloradodev.cronos.repository.projection.ClientBookingCount;
+import com.coloradodev.cronos.repository.projection.ClientVisitStats;
+import com.coloradodev.cronos.repository.projection.ReminderCandidate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
@@ -21,6 +30,23 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
 
         List<Booking> findByTenantIdAndStatus(UUID tenantId, BookingStatus status);
 
+        Slice<Booking> findSliceByTenantId(UUID tenantId, Pageable pageable);
+
+        Slice<Booking> findSliceByTenantIdAndStatus(UUID tenantId, BookingStatus status, Pageable pageable);
+
+        // Keyset page in (start_time DESC, id DESC) order, continuing after the given row
+        @Query(value = "SELECT b.* FROM bookings b WHERE b.tenant_id = :tenantId " +
+                        "AND (CAST(:status AS VARCHAR) IS NULL OR b.status = CAST(:status AS VARCHAR)) " +
+                        "AND (b.start_time, b.id) < (:startTime, :id) " +
+                        "ORDER BY b.start_time DESC, b.id DESC " +
+                        "LIMIT :limit", nativeQuery = true)
+        List<Booking> findPageBefore(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("status") String status,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("id") UUID id,
+                        @Param("limit") int limit);
+
         List<Booking> findByTenantIdAndClientId(UUID tenantId, UUID clientId);
 
         List<Booking> findByTenantIdAndServiceId(UUID tenantId, UUID serviceId);
@@ -49,21 +75,47 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
 
         List<Booking> findByTenantIdAndClientIdOrderByCreatedAtDesc(UUID tenantId, UUID clientId);
 
-        @Query("SELECT b FROM Booking b WHERE b.tenantId = :tenantId " +
-                        "AND b.staffId = :staffId " +
+        @Query(value = "SELECT b.* FROM bookings b WHERE b.tenant_id = :tenantId " +
+                        "AND b.staff_id = :staffId " +
                         "AND b.status IN ('PENDING', 'CONFIRMED') " +
-                        "AND ((b.startTime < :endTime AND b.endTime > :startTime))")
+                        "AND b.period && tsrange(:startTime, :endTime, '[)')", nativeQuery = true)
         List<Booking> findOverlappingBookings(
                         @Param("tenantId") UUID tenantId,
                         @Param("staffId") UUID staffId,
                         @Param("startTime") LocalDateTime startTime,
                         @Param("endTime") LocalDateTime endTime);
 
-        @Query("SELECT b FROM Booking b WHERE b.tenantId = :tenantId " +
+        @Query("SELECT new com.coloradodev.cronos.repository.projection.BookingInterval(" +
+                        "b.id, b.staffId, b.startTime, b.endTime) FROM Booking b " +
+                        "WHERE b.tenantId = :tenantId " +
                         "AND b.staffId = :staffId " +
+                        "AND b.status IN ('PENDING', 'CONFIRMED') " +
+                        "AND b.startTime < :endTime AND b.endTime > :startTime " +
+                        "ORDER BY b.startTime ASC")
+        List<BookingInterval> findActiveIntervalsForStaff(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("staffId") UUID staffId,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime);
+
+        @Query("SELECT new com.coloradodev.cronos.repository.projection.BookingInterval(" +
+                        "b.id, b.staffId, b.startTime, b.endTime) FROM Booking b " +
+                        "WHERE b.tenantId = :tenantId " +
+                        "AND b.staffId IN :staffIds " +
+                        "AND b.status IN ('PENDING', 'CONFIRMED') " +
+                        "AND b.startTime < :endTime AND b.endTime > :startTime " +
+                        "ORDER BY b.staffId, b.startTime ASC")
+        List<BookingInterval> findActiveIntervalsForStaffIn(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("staffIds") Collection<UUID> staffIds,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime);
+
+        @Query(value = "SELECT b.* FROM bookings b WHERE b.tenant_id = :tenantId " +
+                        "AND b.staff_id = :staffId " +
                         "AND b.id <> :excludeBookingId " +
                         "AND b.status IN ('PENDING', 'CONFIRMED') " +
-                        "AND ((b.startTime < :endTime AND b.endTime > :startTime))")
+                        "AND b.period && tsrange(:startTime, :endTime, '[)')", nativeQuery = true)
         List<Booking> findOverlappingBookingsExcluding(
                         @Param("tenantId") UUID tenantId,
                         @Param("staffId") UUID staffId,
@@ -71,6 +123,45 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
                         @Param("endTime") LocalDateTime endTime,
                         @Param("excludeBookingId") UUID excludeBookingId);
 
+        // For notifications - bookings with everything the email templates render
+        @Query("SELECT b FROM Booking b " +
+                        "LEFT JOIN FETCH b.service " +
+                        "LEFT JOIN FETCH b.staff st LEFT JOIN FETCH st.user " +
+                        "LEFT JOIN FETCH b.tenant " +
+                        "WHERE b.id IN :ids")
+        List<Booking> findWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+        // For reporting - per-client counts of one status, aggregated in the database
+        @Query("SELECT new com.coloradodev.cronos.repository.projection.ClientBookingCount(" +
+                        "b.clientId, COUNT(b)) FROM Booking b " +
+                        "WHERE b.tenantId = :tenantId " +
+                        "AND b.status = :status " +
+                        "AND b.clientId IS NOT NULL " +
+                        "AND b.startTime BETWEEN :startTime AND :endTime " +
+                        "GROUP BY b.clientId")
+        List<ClientBookingCount> countByClientForStatus(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("status") BookingStatus status,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime);
+
+        // For client analytics - one row per client, consumed as a stream inside a transaction
+        @Query("SELECT new com.coloradodev.cronos.repository.projection.ClientVisitStats(" +
+                        "b.clientId, COUNT(b), " +
+                        "MIN(CASE WHEN b.status <> 'CANCELLED' THEN b.startTime END), " +
+                        "MAX(CASE WHEN b.status <> 'CANCELLED' THEN b.startTime END)) FROM Booking b " +
+                        "WHERE b.tenantId = :tenantId " +
+                        "AND b.clientId IS NOT NULL " +
+                        "GROUP BY b.clientId")
+        Stream<ClientVisitStats> streamClientVisitStats(@Param("tenantId") UUID tenantId);
+
+        // For the booking stats backfill
+        @Query("SELECT MIN(b.startTime) FROM Booking b")
+        LocalDateTime findEarliestStartTime();
+
+        @Query("SELECT MAX(b.startTime) FROM Booking b")
+        LocalDateTime findLatestStartTime();
+
         // Upcoming bookings
         List<Booking> findByTenantIdAndStartTimeAfterOrderByStartTimeAsc(UUID tenantId, LocalDateTime afterTime);
 
@@ -78,10 +169,80 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
         List<Booking> findByTenantIdAndStartTimeBetweenOrderByStartTimeDesc(
                         UUID tenantId, LocalDateTime startTime, LocalDateTime endTime);
 
-        // For scheduled tasks - find bookings in date range with specific statuses
-        List<Booking> findByStartTimeBetweenAndStatusIn(
-                        LocalDateTime startTime, LocalDateTime endTime, List<BookingStatus> statuses);
-
-        // For cleanup - find old cancelled bookings
-        List<Booking> findByStatusAndStartTimeBefore(BookingStatus status, LocalDateTime cutoffDate);
+        // For reminders - confirmed bookings of registered clients still waiting for their reminder
+        // Restricted to the tenant shards this instance owns (tenant_shard, see V17)
+        @Query("SELECT new com.coloradodev.cronos.repository.projection.ReminderCandidate(" +
+                        "b.tenantId, b.id, b.startTime, c.preferences) FROM Booking b JOIN b.client c " +
+                        "WHERE b.status = 'CONFIRMED' " +
+                        "AND b.reminderSentAt IS NULL " +
+                        "AND b.startTime BETWEEN :startTime AND :endTime " +
+                        "AND CAST(FUNCTION('tenant_shard', b.tenantId, :shardCount) AS Integer) IN :shardIndexes")
+        List<ReminderCandidate> findReminderCandidates(
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime,
+                        @Param("shardIndexes") Collection<Integer> shardIndexes,
+                        @Param("shardCount") int shardCount);
+
+        @Query("SELECT new com.coloradodev.cronos.repository.projection.ReminderCandidate(" +
+                        "b.tenantId, b.id, b.startTime, c.preferences) FROM Booking b JOIN b.client c " +
+                        "WHERE b.id IN :ids " +
+                        "AND b.status = 'CONFIRMED' " +
+                        "AND b.reminderSentAt IS NULL")
+        List<ReminderCandidate> findReminderCandidatesByIdIn(@Param("ids") Collection<UUID> ids);
+
+        // Lock the bookings whose reminder is about to be queued; rows another instance holds are skipped
+        @Query(value = "SELECT * FROM bookings " +
+                        "WHERE id IN :ids AND status = 'CONFIRMED' AND reminder_sent_at IS NULL " +
+                        "AND start_time > :now " +
+                        "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+        List<Booking> lockReminderDue(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE Booking b SET b.reminderSentAt = :now WHERE b.id IN :ids")
+        int markReminderSent(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+        // For batch jobs - keyset over id within the given tenants (those of one timezone bucket
+        // and tenant shard, see TenantScope), bound as one array however many there are; each
+        // chunk is locked for the set-based write that follows
+        @Query(value = "SELECT b.id FROM bookings b " +
+                        "WHERE b.status = :status " +
+                        "AND b.start_time >= :startTime AND b.start_time < :endTime " +
+                        "AND b.tenant_id = ANY(CAST(:tenantIds AS uuid[])) " +
+                        "AND b.id > :afterId " +
+                        "ORDER BY b.id " +
+                        "LIMIT :limit " +
+                        "FOR UPDATE", nativeQuery = true)
+        List<UUID> lockIdsByStatusAndStartTimeRange(
+                        @Param("status") String status,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime,
+                        @Param("tenantIds") UUID[] tenantIds,
+                        @Param("afterId") UUID afterId,
+                        @Param("limit") int limit);
+
+        @Query(value = "SELECT b.id FROM bookings b " +
+                        "WHERE b.status = :status " +
+                        "AND b.start_time < :cutoff " +
+                        "AND b.tenant_id = ANY(CAST(:tenantIds AS uuid[])) " +
+                        "AND b.id > :afterId " +
+                        "ORDER BY b.id " +
+                        "LIMIT :limit " +
+                        "FOR UPDATE", nativeQuery = true)
+        List<UUID> lockIdsByStatusAndStartTimeBefore(
+                        @Param("status") String status,
+                        @Param("cutoff") LocalDateTime cutoff,
+                        @Param("tenantIds") UUID[] tenantIds,
+                        @Param("afterId") UUID afterId,
+                        @Param("limit") int limit);
+
+        @Modifying
+        @Query("UPDATE Booking b SET b.status = :status, b.updatedAt = :now WHERE b.id IN :ids")
+        int updateStatusByIdIn(
+                        @Param("ids") Collection<UUID> ids,
+                        @Param("status") BookingStatus status,
+                        @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("DELETE FROM Booking b WHERE b.id IN :ids")
+        int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
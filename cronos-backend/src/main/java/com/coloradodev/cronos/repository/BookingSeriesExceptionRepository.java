@@ -0,0 +1,34 @@
+package com.coloradodev.cronos.repository;
+
+import com.coloradodev.cronos.domain.BookingSeriesException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BookingSeriesExceptionRepository extends JpaRepository<BookingSeriesException, UUID> {
+
+        Optional<BookingSeriesException> findBySeriesIdAndOriginalStartTime(UUID seriesId,
+                        LocalDateTime originalStartTime);
+
+        /**
+         * Exceptions affecting a window: occurrences originally starting in it (from
+         * {@code originalFrom}, which allows for occurrences running into the window) and
+         * occurrences rescheduled into it.
+         */
+        @Query("SELECT e FROM BookingSeriesException e WHERE e.seriesId IN :seriesIds " +
+                        "AND ((e.originalStartTime >= :originalFrom AND e.originalStartTime < :endTime) " +
+                        "OR (e.newStartTime < :endTime AND e.newEndTime > :startTime))")
+        List<BookingSeriesException> findForSeriesInRange(
+                        @Param("seriesIds") Collection<UUID> seriesIds,
+                        @Param("originalFrom") LocalDateTime originalFrom,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime);
+}
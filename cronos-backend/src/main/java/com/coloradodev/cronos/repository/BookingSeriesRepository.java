@@ -0,0 +1,41 @@
+package com.coloradodev.cronos.repository;
+
+import com.coloradodev.cronos.domain.BookingSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BookingSeriesRepository extends JpaRepository<BookingSeries, UUID> {
+
+        Optional<BookingSeries> findByTenantIdAndId(UUID tenantId, UUID id);
+
+        List<BookingSeries> findByTenantIdAndClientId(UUID tenantId, UUID clientId);
+
+        @Query("SELECT s FROM BookingSeries s WHERE s.tenantId = :tenantId " +
+                        "AND s.status = 'ACTIVE' " +
+                        "AND s.startTime < :endTime " +
+                        "AND (s.lastEndTime IS NULL OR s.lastEndTime > :startTime)")
+        List<BookingSeries> findActiveInRange(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime);
+
+        @Query("SELECT s FROM BookingSeries s WHERE s.tenantId = :tenantId " +
+                        "AND s.staffId IN :staffIds " +
+                        "AND s.status = 'ACTIVE' " +
+                        "AND s.startTime < :endTime " +
+                        "AND (s.lastEndTime IS NULL OR s.lastEndTime > :startTime)")
+        List<BookingSeries> findActiveForStaffInRange(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("staffIds") Collection<UUID> staffIds,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime);
+}
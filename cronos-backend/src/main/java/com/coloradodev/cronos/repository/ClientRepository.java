@@ -1,12 +1,15 @@
 package com.coloradodev.cronos.repository;
 
 import com.coloradodev.cronos.domain.Client;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +19,23 @@ public interface ClientRepository extends JpaRepository<Client, UUID> {
 
     List<Client> findByTenantId(UUID tenantId);
 
+    long countByTenantId(UUID tenantId);
+
+    long countByTenantIdAndCreatedAtGreaterThanEqual(UUID tenantId, LocalDateTime createdAt);
+
+    Slice<Client> findSliceByTenantId(UUID tenantId, Pageable pageable);
+
+    // Keyset page in (last_name, id) order, continuing after the given row
+    @Query(value = "SELECT c.* FROM clients c WHERE c.tenant_id = :tenantId " +
+            "AND (c.last_name, c.id) > (:lastName, :id) " +
+            "ORDER BY c.last_name, c.id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Client> findPageAfter(
+            @Param("tenantId") UUID tenantId,
+            @Param("lastName") String lastName,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+
     Optional<Client> findByTenantIdAndId(UUID tenantId, UUID id);
 
     Optional<Client> findByTenantIdAndEmail(UUID tenantId, String email);
@@ -0,0 +1,81 @@
+package com.coloradodev.cronos.repository;
+
+import com.coloradodev.cronos.domain.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+
+        Optional<IdempotencyRecord> findByScopeAndIdempotencyKey(String scope, String idempotencyKey);
+
+        /**
+         * Claim a key for execution. Succeeds for a new key, an expired one, or one whose
+         * request was abandoned (still pending, with no heartbeat since {@code staleBefore}).
+         *
+         * @return 1 if the caller now owns the key, 0 otherwise
+         */
+        @Transactional
+        @Modifying
+        @Query(value = "INSERT INTO idempotency_keys " +
+                        "(id, scope, idempotency_key, request_hash, created_at, expires_at, heartbeat_at) " +
+                        "VALUES (:id, :scope, :key, :requestHash, :now, :expiresAt, :now) " +
+                        "ON CONFLICT (scope, idempotency_key) DO UPDATE SET " +
+                        "request_hash = EXCLUDED.request_hash, status_code = NULL, content_type = NULL, " +
+                        "response_body = NULL, created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at, " +
+                        "heartbeat_at = EXCLUDED.heartbeat_at " +
+                        "WHERE idempotency_keys.expires_at <= :now " +
+                        "OR (idempotency_keys.status_code IS NULL AND idempotency_keys.heartbeat_at < :staleBefore)",
+                        nativeQuery = true)
+        int claim(
+                        @Param("id") UUID id,
+                        @Param("scope") String scope,
+                        @Param("key") String key,
+                        @Param("requestHash") String requestHash,
+                        @Param("now") LocalDateTime now,
+                        @Param("expiresAt") LocalDateTime expiresAt,
+                        @Param("staleBefore") LocalDateTime staleBefore);
+
+        /**
+         * Renew the heartbeat of a pending key, so it is not taken for abandoned while its
+         * request is still running.
+         */
+        @Transactional
+        @Modifying
+        @Query("UPDATE IdempotencyRecord r SET r.heartbeatAt = :now " +
+                        "WHERE r.scope = :scope AND r.idempotencyKey = :key AND r.statusCode IS NULL")
+        int heartbeat(
+                        @Param("scope") String scope,
+                        @Param("key") String key,
+                        @Param("now") LocalDateTime now);
+
+        @Transactional
+        @Modifying
+        @Query("UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.contentType = :contentType, " +
+                        "r.responseBody = :body WHERE r.scope = :scope AND r.idempotencyKey = :key")
+        int complete(
+                        @Param("scope") String scope,
+                        @Param("key") String key,
+                        @Param("statusCode") int statusCode,
+                        @Param("contentType") String contentType,
+                        @Param("body") byte[] body);
+
+        @Transactional
+        @Modifying
+        @Query("DELETE FROM IdempotencyRecord r WHERE r.scope = :scope AND r.idempotencyKey = :key " +
+                        "AND r.statusCode IS NULL")
+        int release(@Param("scope") String scope, @Param("key") String key);
+
+        @Transactional
+        @Modifying
+        @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+        int deleteExpired(@Param("now") LocalDateTime now);
+}
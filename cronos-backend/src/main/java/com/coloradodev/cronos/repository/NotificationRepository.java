@@ -2,9 +2,15 @@ package com.coloradodev.cronos.repository;
 
 import com.coloradodev.cronos.domain.Notification;
 import com.coloradodev.cronos.domain.Notification.NotificationStatus;
+import com.coloradodev.cronos.repository.projection.NotificationQueueStats;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +22,46 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     List<Notification> findByRecipientIdAndStatus(UUID recipientId, NotificationStatus status);
 
     List<Notification> findByStatus(NotificationStatus status);
+
+    /**
+     * Lock a batch of due notifications of one channel. Rows locked by another worker are
+     * skipped, and SENDING rows whose lease ran out (worker died mid-batch) are picked up again.
+     */
+    @Query(value = "SELECT * FROM notifications " +
+            "WHERE channel = :channel AND status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Notification> lockDue(
+            @Param("channel") String channel,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'SENDING', n.nextAttemptAt = :leaseUntil WHERE n.id IN :ids")
+    int markSending(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'SENT', n.sentAt = :now, n.attempts = n.attempts + 1, " +
+            "n.nextAttemptAt = NULL, n.lastError = NULL WHERE n.id IN :ids")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'PENDING', n.attempts = n.attempts + 1, " +
+            "n.nextAttemptAt = :nextAttemptAt, n.lastError = :error WHERE n.id = :id")
+    int scheduleRetry(
+            @Param("id") UUID id,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'FAILED', n.attempts = n.attempts + 1, " +
+            "n.nextAttemptAt = NULL, n.lastError = :error WHERE n.id = :id")
+    int markFailed(@Param("id") UUID id, @Param("error") String error);
+
+    @Query("SELECT new com.coloradodev.cronos.repository.projection.NotificationQueueStats(" +
+            "n.channel, COUNT(n), MIN(n.createdAt)) " +
+            "FROM Notification n WHERE n.status IN ('PENDING', 'SENDING') " +
+            "GROUP BY n.channel")
+    List<NotificationQueueStats> getQueueStats();
 }
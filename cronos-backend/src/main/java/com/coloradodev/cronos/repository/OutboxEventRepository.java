@@ -0,0 +1,55 @@
+package com.coloradodev.cronos.repository;
+
+import com.coloradodev.cronos.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+        /**
+         * Lock a batch of due events. Rows locked by another dispatcher are skipped, and
+         * PROCESSING rows whose lease ran out (dispatcher died mid-batch) are picked up again.
+         */
+        @Query(value = "SELECT * FROM outbox_events " +
+                        "WHERE status IN ('PENDING', 'PROCESSING') AND next_attempt_at <= :now " +
+                        "ORDER BY next_attempt_at " +
+                        "LIMIT :limit " +
+                        "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+        List<OutboxEvent> lockDueEvents(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+        @Modifying
+        @Query("UPDATE OutboxEvent e SET e.status = 'PROCESSING', e.nextAttemptAt = :leaseUntil " +
+                        "WHERE e.id IN :ids")
+        int markProcessing(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+        @Modifying
+        @Query("UPDATE OutboxEvent e SET e.status = 'PUBLISHED', e.processedAt = :now, " +
+                        "e.attempts = e.attempts + 1, e.lastError = NULL WHERE e.id IN :ids")
+        int markPublished(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE OutboxEvent e SET e.status = 'PENDING', e.attempts = e.attempts + 1, " +
+                        "e.nextAttemptAt = :nextAttemptAt, e.lastError = :error WHERE e.id = :id")
+        int scheduleRetry(
+                        @Param("id") UUID id,
+                        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                        @Param("error") String error);
+
+        @Modifying
+        @Query("UPDATE OutboxEvent e SET e.status = 'FAILED', e.attempts = e.attempts + 1, " +
+                        "e.processedAt = :now, e.lastError = :error WHERE e.id = :id")
+        int markFailed(@Param("id") UUID id, @Param("now") LocalDateTime now, @Param("error") String error);
+
+        @Modifying
+        @Query("DELETE FROM OutboxEvent e WHERE e.status = 'PUBLISHED' AND e.processedAt < :cutoff")
+        int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,10 +2,18 @@ package com.coloradodev.cronos.repository;
 
 import com.coloradodev.cronos.domain.Payment;
 import com.coloradodev.cronos.domain.Payment.PaymentStatus;
+import com.coloradodev.cronos.repository.projection.RevenueByGroup;
+import com.coloradodev.cronos.repository.projection.RevenueByMethod;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +27,19 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
 
     List<Payment> findByTenantIdAndStatus(UUID tenantId, PaymentStatus status);
 
+    Slice<Payment> findSliceByTenantId(UUID tenantId, Pageable pageable);
+
+    // Keyset page in (created_at DESC, id DESC) order, continuing after the given row
+    @Query(value = "SELECT p.* FROM payments p WHERE p.tenant_id = :tenantId " +
+            "AND (p.created_at, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.created_at DESC, p.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Payment> findPageBefore(
+            @Param("tenantId") UUID tenantId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+
     List<Payment> findByTenantIdAndBookingId(UUID tenantId, UUID bookingId);
 
     List<Payment> findByTenantIdAndAppointmentId(UUID tenantId, UUID appointmentId);
@@ -28,6 +49,64 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
             LocalDateTime startDate,
             LocalDateTime endDate);
 
+    // Revenue aggregates - one row per group, summed in the database
+
+    @Query("SELECT new com.coloradodev.cronos.repository.projection.RevenueByMethod(" +
+            "p.method, SUM(p.amount), COUNT(p)) FROM Payment p " +
+            "WHERE p.tenantId = :tenantId AND p.status IN :statuses " +
+            "AND p.paidAt BETWEEN :startDate AND :endDate " +
+            "GROUP BY p.method")
+    List<RevenueByMethod> sumAmountByMethod(
+            @Param("tenantId") UUID tenantId,
+            @Param("statuses") Collection<PaymentStatus> statuses,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT new com.coloradodev.cronos.repository.projection.RevenueByGroup(" +
+            "b.serviceId, SUM(p.amount)) FROM Payment p " +
+            "JOIN Booking b ON b.id = p.bookingId AND b.tenantId = p.tenantId " +
+            "WHERE p.tenantId = :tenantId AND p.status IN :statuses " +
+            "AND p.paidAt BETWEEN :startDate AND :endDate " +
+            "GROUP BY b.serviceId")
+    List<RevenueByGroup> sumAmountByService(
+            @Param("tenantId") UUID tenantId,
+            @Param("statuses") Collection<PaymentStatus> statuses,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT new com.coloradodev.cronos.repository.projection.RevenueByGroup(" +
+            "b.staffId, SUM(p.amount)) FROM Payment p " +
+            "JOIN Booking b ON b.id = p.bookingId AND b.tenantId = p.tenantId " +
+            "WHERE p.tenantId = :tenantId AND p.status IN :statuses " +
+            "AND p.paidAt BETWEEN :startDate AND :endDate " +
+            "GROUP BY b.staffId")
+    List<RevenueByGroup> sumAmountByStaff(
+            @Param("tenantId") UUID tenantId,
+            @Param("statuses") Collection<PaymentStatus> statuses,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
+    // Net of refunds, for bookings that start in the range
+    @Query("SELECT new com.coloradodev.cronos.repository.projection.RevenueByGroup(" +
+            "b.staffId, SUM(p.amount - COALESCE(p.refundAmount, 0))) FROM Payment p " +
+            "JOIN Booking b ON b.id = p.bookingId AND b.tenantId = p.tenantId " +
+            "WHERE p.tenantId = :tenantId AND p.status IN :statuses " +
+            "AND b.startTime BETWEEN :startDate AND :endDate " +
+            "GROUP BY b.staffId")
+    List<RevenueByGroup> sumNetAmountByBookingStaff(
+            @Param("tenantId") UUID tenantId,
+            @Param("statuses") Collection<PaymentStatus> statuses,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT SUM(p.refundAmount) FROM Payment p " +
+            "WHERE p.tenantId = :tenantId AND p.status = 'REFUNDED' " +
+            "AND p.refundedAt BETWEEN :startDate AND :endDate")
+    BigDecimal sumRefundAmount(
+            @Param("tenantId") UUID tenantId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
     Optional<Payment> findByBookingId(UUID bookingId);
 
     List<Payment> findAllByBookingId(UUID bookingId);
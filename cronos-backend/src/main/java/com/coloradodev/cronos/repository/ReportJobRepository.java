@@ -0,0 +1,62 @@
+package com.coloradodev.cronos.repository;
+
+import com.coloradodev.cronos.domain.ReportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, UUID> {
+
+    Optional<ReportJob> findByTenantIdAndId(UUID tenantId, UUID id);
+
+    List<ReportJob> findTop50ByTenantIdOrderByCreatedAtDesc(UUID tenantId);
+
+    List<ReportJob> findByExpiresAtBefore(LocalDateTime now);
+
+    // Jobs left behind by a node that stopped (no heartbeat since staleBefore) while holding them
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = 'FAILED', j.error = :error, j.completedAt = :now " +
+            "WHERE j.status IN ('QUEUED', 'RUNNING') AND j.heartbeatAt < :staleBefore")
+    int failStaleJobs(
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("error") String error,
+            @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.heartbeatAt = :now " +
+            "WHERE j.owner = :owner AND j.status IN ('QUEUED', 'RUNNING')")
+    int heartbeat(@Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = 'RUNNING', j.startedAt = :now, j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.status = 'QUEUED'")
+    int start(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = 'COMPLETED', j.storageKey = :storageKey, j.rowCount = :rowCount, " +
+            "j.sizeBytes = :sizeBytes, j.completedAt = :now WHERE j.id = :id AND j.status = 'RUNNING'")
+    int complete(
+            @Param("id") UUID id,
+            @Param("storageKey") String storageKey,
+            @Param("rowCount") long rowCount,
+            @Param("sizeBytes") long sizeBytes,
+            @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = 'FAILED', j.error = :error, j.completedAt = :now " +
+            "WHERE j.id = :id AND j.status IN ('QUEUED', 'RUNNING')")
+    int fail(@Param("id") UUID id, @Param("error") String error, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,56 @@
+package com.coloradodev.cronos.repository;
+
+import com.coloradodev.cronos.domain.SlotHold;
+import com.coloradodev.cronos.repository.projection.BookingInterval;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SlotHoldRepository extends JpaRepository<SlotHold, UUID> {
+
+        Optional<SlotHold> findByTenantIdAndId(UUID tenantId, UUID id);
+
+        @Query("SELECT new com.coloradodev.cronos.repository.projection.BookingInterval(" +
+                        "h.id, h.staffId, h.startTime, h.endTime) FROM SlotHold h " +
+                        "WHERE h.tenantId = :tenantId " +
+                        "AND h.staffId IN :staffIds " +
+                        "AND h.expiresAt > :now " +
+                        "AND h.startTime < :endTime AND h.endTime > :startTime")
+        List<BookingInterval> findActiveIntervalsForStaffIn(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("staffIds") Collection<UUID> staffIds,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime,
+                        @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("DELETE FROM SlotHold h WHERE h.tenantId = :tenantId " +
+                        "AND h.staffId = :staffId AND h.expiresAt <= :now")
+        int deleteExpiredForStaff(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("staffId") UUID staffId,
+                        @Param("now") LocalDateTime now);
+
+        @Query("SELECT COUNT(h) > 0 FROM SlotHold h " +
+                        "WHERE h.tenantId = :tenantId " +
+                        "AND h.staffId = :staffId " +
+                        "AND h.expiresAt > :now " +
+                        "AND h.startTime < :endTime AND h.endTime > :startTime")
+        boolean existsActiveForStaff(
+                        @Param("tenantId") UUID tenantId,
+                        @Param("staffId") UUID staffId,
+                        @Param("startTime") LocalDateTime startTime,
+                        @Param("endTime") LocalDateTime endTime,
+                        @Param("now") LocalDateTime now);
+
+        List<SlotHold> findByExpiresAtLessThanEqual(LocalDateTime now);
+}
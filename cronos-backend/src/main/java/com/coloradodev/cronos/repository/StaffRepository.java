@@ -22,6 +22,9 @@ public interface StaffRepository extends JpaRepository<Staff, UUID> {
 
     Optional<Staff> findByTenantIdAndUserId(UUID tenantId, UUID userId);
 
+    @Query("SELECT s FROM Staff s LEFT JOIN FETCH s.user WHERE s.tenantId = :tenantId AND s.userId = :userId")
+    Optional<Staff> findWithUserByTenantIdAndUserId(@Param("tenantId") UUID tenantId, @Param("userId") UUID userId);
+
     @Query("SELECT s FROM Staff s JOIN s.services srv WHERE srv.id = :serviceId AND s.isActive = true")
     List<Staff> findByServiceId(@Param("serviceId") UUID serviceId);
 
@@ -1,13 +1,19 @@
 package com.coloradodev.cronos.repository;
 
 import com.coloradodev.cronos.domain.Tenant;
+import com.coloradodev.cronos.repository.projection.TenantTimezone;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TenantRepository extends JpaRepository<Tenant, UUID> {
     Optional<Tenant> findBySlug(String slug);
+
+    @Query("SELECT new com.coloradodev.cronos.repository.projection.TenantTimezone(t.id, t.timezone) FROM Tenant t")
+    List<TenantTimezone> findAllTimezones();
 }
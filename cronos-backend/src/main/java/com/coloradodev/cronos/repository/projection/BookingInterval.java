@@ -0,0 +1,15 @@
+package com.coloradodev.cronos.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight projection of a booking's busy interval.
+ * Used by availability calculations that only need timing information.
+ */
+public record BookingInterval(
+        UUID bookingId,
+        UUID staffId,
+        LocalDateTime startTime,
+        LocalDateTime endTime) {
+}
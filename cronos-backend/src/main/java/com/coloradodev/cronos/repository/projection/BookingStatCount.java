@@ -0,0 +1,17 @@
+package com.coloradodev.cronos.repository.projection;
+
+import com.coloradodev.cronos.domain.Booking.BookingStatus;
+
+import java.util.UUID;
+
+/**
+ * Booking count of one service, staff member and status summed over a date range.
+ * {@code staffId} is {@link com.coloradodev.cronos.domain.BookingDailyStat#UNASSIGNED} for
+ * unassigned bookings.
+ */
+public record BookingStatCount(
+        UUID serviceId,
+        UUID staffId,
+        BookingStatus status,
+        Long count) {
+}
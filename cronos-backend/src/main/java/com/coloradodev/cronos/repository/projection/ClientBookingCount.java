@@ -0,0 +1,11 @@
+package com.coloradodev.cronos.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Number of bookings of one client, as returned by aggregate queries.
+ */
+public record ClientBookingCount(
+        UUID clientId,
+        Long count) {
+}
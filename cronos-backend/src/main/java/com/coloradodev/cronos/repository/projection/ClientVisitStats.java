@@ -0,0 +1,15 @@
+package com.coloradodev.cronos.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Booking count and first/last visit of one client, as returned by aggregate queries.
+ * Visits exclude cancelled bookings, so both are null for a client who only ever cancelled.
+ */
+public record ClientVisitStats(
+        UUID clientId,
+        Long bookingCount,
+        LocalDateTime firstVisit,
+        LocalDateTime lastVisit) {
+}
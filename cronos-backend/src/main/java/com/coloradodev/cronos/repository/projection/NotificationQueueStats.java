@@ -0,0 +1,12 @@
+package com.coloradodev.cronos.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Undelivered notifications of one channel and when the oldest of them was created.
+ */
+public record NotificationQueueStats(
+        String channel,
+        Long pending,
+        LocalDateTime oldestCreatedAt) {
+}
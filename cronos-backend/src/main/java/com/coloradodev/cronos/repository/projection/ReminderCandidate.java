@@ -0,0 +1,17 @@
+package com.coloradodev.cronos.repository.projection;
+
+import com.coloradodev.cronos.domain.embedded.ClientPreferences;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Confirmed booking that has not been reminded yet, with its client's reminder preferences.
+ * Preferences are null for clients who never set any.
+ */
+public record ReminderCandidate(
+        UUID tenantId,
+        UUID bookingId,
+        LocalDateTime startTime,
+        ClientPreferences preferences) {
+}
@@ -0,0 +1,13 @@
+package com.coloradodev.cronos.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Payment total of one service or staff member, as returned by aggregate queries.
+ * {@code groupId} is null for payments of unassigned bookings.
+ */
+public record RevenueByGroup(
+        UUID groupId,
+        BigDecimal amount) {
+}
@@ -0,0 +1,14 @@
+package com.coloradodev.cronos.repository.projection;
+
+import com.coloradodev.cronos.domain.Payment.PaymentMethod;
+
+import java.math.BigDecimal;
+
+/**
+ * Payment total and count of one payment method, as returned by aggregate queries.
+ */
+public record RevenueByMethod(
+        PaymentMethod method,
+        BigDecimal amount,
+        Long count) {
+}
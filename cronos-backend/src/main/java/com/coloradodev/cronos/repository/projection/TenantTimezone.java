@@ -0,0 +1,11 @@
+package com.coloradodev.cronos.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A tenant's timezone (IANA zone id).
+ */
+public record TenantTimezone(
+        UUID tenantId,
+        String timezone) {
+}
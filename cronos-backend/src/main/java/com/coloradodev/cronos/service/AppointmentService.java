@@ -8,14 +8,15 @@ import com.coloradodev.cronos.dto.appointment.TimeSlot;
 import com.coloradodev.cronos.repository.AppointmentRepository;
 import com.coloradodev.cronos.repository.ServiceRepository;
 import com.coloradodev.cronos.repository.UserRepository;
+import com.coloradodev.cronos.service.availability.OccupancyGrid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +28,9 @@ public class AppointmentService {
     private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
 
+    @Value("${app.availability.slot-granularity-minutes:5}")
+    private int slotGranularityMinutes;
+
     public List<TimeSlot> getAvailableSlots(LocalDate date, UUID serviceId) {
         Service service = serviceRepository.findById(serviceId)
                 .orElseThrow(() -> new IllegalArgumentException("Service not found"));
@@ -49,34 +53,15 @@ public class AppointmentService {
         List<Appointment> existingAppointments = appointmentRepository.findByServiceIdAndDateRange(
                 serviceId, startOfDay, endOfDay);
 
-        List<TimeSlot> availableSlots = new ArrayList<>();
-        LocalDateTime currentSlotStart = startOfDay;
-
-        while (currentSlotStart.plusMinutes(durationMinutes).isBefore(endOfDay) ||
-                currentSlotStart.plusMinutes(durationMinutes).isEqual(endOfDay)) {
-
-            LocalDateTime currentSlotEnd = currentSlotStart.plusMinutes(durationMinutes);
-
-            boolean isOverlapping = false;
-            for (Appointment appointment : existingAppointments) {
-                if (isOverlapping(currentSlotStart, currentSlotEnd, appointment.getStartTime(),
-                        appointment.getEndTime())) {
-                    isOverlapping = true;
-                    break;
-                }
-            }
+        int cellMinutes = OccupancyGrid.cellMinutesFor(slotGranularityMinutes, durationMinutes);
+        int runCells = durationMinutes / cellMinutes;
 
-            if (!isOverlapping) {
-                availableSlots.add(TimeSlot.builder()
-                        .startTime(currentSlotStart)
-                        .endTime(currentSlotEnd)
-                        .build());
-            }
-
-            currentSlotStart = currentSlotStart.plusMinutes(durationMinutes);
+        OccupancyGrid grid = OccupancyGrid.forWindow(startOfDay, endOfDay, cellMinutes);
+        for (Appointment appointment : existingAppointments) {
+            grid.markBusy(appointment.getStartTime(), appointment.getEndTime());
         }
 
-        return availableSlots;
+        return grid.toSlots(grid.freeRuns(runCells), runCells, runCells);
     }
 
     @Transactional
@@ -108,8 +93,4 @@ public class AppointmentService {
 
         return appointmentRepository.save(appointment);
     }
-
-    private boolean isOverlapping(LocalDateTime start1, LocalDateTime end1, LocalDateTime start2, LocalDateTime end2) {
-        return start1.isBefore(end2) && end1.isAfter(start2);
-    }
 }
@@ -1,16 +1,26 @@
 package com.coloradodev.cronos.service;
 
+import com.coloradodev.cronos.core.pagination.CursorPage;
+import com.coloradodev.cronos.core.pagination.KeysetCursor;
+import com.coloradodev.cronos.core.pagination.PageCount;
+import com.coloradodev.cronos.core.pagination.PageCounter;
+import com.coloradodev.cronos.core.pagination.PageQuery;
 import com.coloradodev.cronos.domain.AuditLog;
 import com.coloradodev.cronos.repository.AuditLogRepository;
+import com.coloradodev.cronos.service.audit.AuditHistory;
+import com.coloradodev.cronos.service.audit.AuditLogWriter;
+import com.coloradodev.cronos.service.audit.EntityRevision;
+import com.coloradodev.cronos.service.audit.FieldDiff;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -18,13 +28,29 @@ import java.util.UUID;
 /**
  * Service for centralized audit logging of all tenant actions.
  * Provides traceability for compliance and debugging purposes.
+ * <p>
+ * In {@link AuditMode#TRANSACTIONAL} mode entries are inserted in the caller's transaction and
+ * commit or roll back with it. In {@link AuditMode#ASYNC} mode they are handed to the
+ * {@link AuditLogWriter} after commit and inserted in batches off the request path.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuditService {
 
+    private static final Sort AUDIT_ORDER = Sort.by(Sort.Direction.DESC, "timestamp", "id");
+
+    public enum AuditMode {
+        TRANSACTIONAL,
+        ASYNC
+    }
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final PageCounter pageCounter;
+
+    @Value("${app.audit.mode:TRANSACTIONAL}")
+    private AuditMode mode;
 
     /**
      * Log an action performed by a user.
@@ -36,7 +62,7 @@ public class AuditService {
      * @param entityId   The ID of the affected entity
      * @param oldValue   Previous state of the entity (for UPDATE/DELETE)
      * @param newValue   New state of the entity (for CREATE/UPDATE)
-     * @return The created audit log entry
+     * @return The created audit log entry; in ASYNC mode it may not be stored yet
      */
     @Transactional
     public AuditLog logAction(UUID tenantId, UUID userId, String action,
@@ -53,6 +79,14 @@ public class AuditService {
         auditLog.setNewValue(newValue);
         auditLog.setTimestamp(LocalDateTime.now());
 
+        if (mode == AuditMode.ASYNC) {
+            // Bypasses JPA, so the id is assigned here rather than by the entity's generator
+            auditLog.setId(UUID.randomUUID());
+            auditLogWriter.submit(auditLog);
+            log.debug("Audit log queued: {} {} on {} by user {}", action, entityType, entityId, userId);
+            return auditLog;
+        }
+
         AuditLog saved = auditLogRepository.save(auditLog);
         log.debug("Audit log created: {} {} on {} by user {}", action, entityType, entityId, userId);
 
@@ -86,6 +120,18 @@ public class AuditService {
         return logAction(tenantId, userId, "UPDATE", entityType, entityId, oldValue, newValue);
     }
 
+    /**
+     * Log an UPDATE action with only the fields that changed. Nothing is logged if none did.
+     */
+    @Transactional
+    public void logUpdate(UUID tenantId, UUID userId, String entityType,
+            UUID entityId, FieldDiff diff) {
+        if (diff.isEmpty()) {
+            return;
+        }
+        logAction(tenantId, userId, "UPDATE", entityType, entityId, diff.oldValues(), diff.newValues());
+    }
+
     /**
      * Log a DELETE action with old value only.
      */
@@ -102,34 +148,35 @@ public class AuditService {
      * @param action    Optional action filter
      * @param startDate Optional start date filter
      * @param endDate   Optional end date filter
-     * @param pageable  Pagination parameters
-     * @return Paginated list of audit logs
+     * @param query     Page number or cursor, and count mode
+     * @return Page of audit logs, newest first
      */
     @Transactional(readOnly = true)
-    public Page<AuditLog> getAuditLogs(UUID tenantId, String action,
+    public CursorPage<AuditLog> getAuditLogs(UUID tenantId, String action,
             LocalDateTime startDate, LocalDateTime endDate,
-            Pageable pageable) {
-        List<AuditLog> logs;
-
-        if (action != null && startDate != null && endDate != null) {
-            logs = auditLogRepository.findByTenantIdAndActionAndTimestampBetween(
-                    tenantId, action, startDate, endDate);
-        } else if (startDate != null && endDate != null) {
-            logs = auditLogRepository.findByTenantIdAndTimestampRange(
-                    tenantId, startDate, endDate);
-        } else {
-            logs = auditLogRepository.findByTenantId(tenantId);
-        }
-
-        // Apply pagination manually (for now - could be optimized with custom queries)
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), logs.size());
-
-        if (start > logs.size()) {
-            return new PageImpl<>(List.of(), pageable, logs.size());
+            PageQuery query) {
+        Map<String, Object> countParams = new HashMap<>();
+        countParams.put("tenantId", tenantId);
+        countParams.put("action", action);
+        countParams.put("startDate", startDate);
+        countParams.put("endDate", endDate);
+        PageCount count = pageCounter.count(query.count(), "audit_logs",
+                "tenant_id = :tenantId "
+                        + "AND (CAST(:action AS VARCHAR) IS NULL OR action = CAST(:action AS VARCHAR)) "
+                        + "AND (CAST(:startDate AS TIMESTAMP) IS NULL OR timestamp >= CAST(:startDate AS TIMESTAMP)) "
+                        + "AND (CAST(:endDate AS TIMESTAMP) IS NULL OR timestamp <= CAST(:endDate AS TIMESTAMP))",
+                countParams);
+
+        if (query.hasCursor()) {
+            KeysetCursor after = query.decodeCursor();
+            List<AuditLog> rows = auditLogRepository.findPageBefore(tenantId, action, startDate, endDate,
+                    after.timeKey(), after.id(), query.fetchSize());
+            return CursorPage.fromRows(rows, query, AuditService::cursorOf, count);
         }
 
-        return new PageImpl<>(logs.subList(start, end), pageable, logs.size());
+        Slice<AuditLog> slice = auditLogRepository.findSlice(tenantId, action, startDate, endDate,
+                query.toPageable(AUDIT_ORDER));
+        return CursorPage.fromSlice(slice, AuditService::cursorOf, count);
     }
 
     /**
@@ -138,12 +185,13 @@ public class AuditService {
      * @param tenantId   The tenant context
      * @param entityType The type of entity
      * @param entityId   The entity ID
-     * @return List of all audit logs for this entity, ordered by timestamp
+     * @return Every audit log for this entity, oldest first, with the entity's fields after each
      */
     @Transactional(readOnly = true)
-    public List<AuditLog> getEntityHistory(UUID tenantId, String entityType, UUID entityId) {
-        return auditLogRepository.findByTenantIdAndEntityTypeAndEntityId(
+    public List<EntityRevision> getEntityHistory(UUID tenantId, String entityType, UUID entityId) {
+        List<AuditLog> changes = auditLogRepository.findByTenantIdAndEntityTypeAndEntityIdOrderByTimestampAscIdAsc(
                 tenantId, entityType, entityId);
+        return AuditHistory.replay(changes);
     }
 
     /**
@@ -153,4 +201,8 @@ public class AuditService {
     public List<AuditLog> getUserActions(UUID tenantId, UUID userId) {
         return auditLogRepository.findByTenantIdAndUserId(tenantId, userId);
     }
+
+    private static KeysetCursor cursorOf(AuditLog auditLog) {
+        return KeysetCursor.of(auditLog.getTimestamp(), auditLog.getId());
+    }
 }
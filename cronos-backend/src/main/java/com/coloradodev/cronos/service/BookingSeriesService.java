@@ -0,0 +1,308 @@
+package com.coloradodev.cronos.service;
+
+import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.BookingSeries;
+import com.coloradodev.cronos.domain.BookingSeries.SeriesStatus;
+import com.coloradodev.cronos.domain.BookingSeriesException;
+import com.coloradodev.cronos.domain.BookingSeriesException.ExceptionType;
+import com.coloradodev.cronos.domain.Staff;
+import com.coloradodev.cronos.dto.booking.BookingSeriesRequestDTO;
+import com.coloradodev.cronos.exception.BusinessRuleException;
+import com.coloradodev.cronos.exception.ResourceNotFoundException;
+import com.coloradodev.cronos.exception.SlotConflictException;
+import com.coloradodev.cronos.repository.BookingSeriesExceptionRepository;
+import com.coloradodev.cronos.repository.BookingSeriesRepository;
+import com.coloradodev.cronos.repository.ServiceRepository;
+import com.coloradodev.cronos.service.availability.DayIntervals;
+import com.coloradodev.cronos.service.availability.StaffBookingIndex;
+import com.coloradodev.cronos.service.availability.StaffCalendarLock;
+import com.coloradodev.cronos.service.recurrence.RecurrenceRule;
+import com.coloradodev.cronos.service.recurrence.SeriesOccurrences;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service for recurring booking series (standing appointments).
+ * <p>
+ * A series is stored once as a recurrence rule. Occurrences are expanded on read for the
+ * requested window, and changes to a single occurrence are stored as exception rows.
+ * <p>
+ * Occurrences are not rows in {@code bookings}, so the bookings exclusion constraint does
+ * not see them. Series changes and booking/hold writes therefore all check the staff
+ * calendar in the database under the {@link StaffCalendarLock}; bookings and holds call
+ * {@link #checkNoOccurrence}. The calendar views and slot availability expand occurrences;
+ * everything that works on booking rows does not, namely reminders, no-show marking, the
+ * {@code booking_daily_stats} rollup and reports built on it, client analytics and booking
+ * lists.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingSeriesService {
+
+    private final BookingSeriesRepository bookingSeriesRepository;
+    private final BookingSeriesExceptionRepository bookingSeriesExceptionRepository;
+    private final ServiceRepository serviceRepository;
+    private final StaffService staffService;
+    private final StaffBookingIndex staffBookingIndex;
+    private final StaffCalendarLock staffCalendarLock;
+    private final AuditService auditService;
+
+    @Value("${app.booking.series.max-occurrences:260}")
+    private int maxOccurrences;
+
+    @Value("${app.booking.series.horizon-days:365}")
+    private int horizonDays;
+
+    /**
+     * Create a booking series. Every occurrence up to the end of the series (or the
+     * configured horizon for open-ended rules) is conflict-checked, under the staff calendar
+     * lock, against one batch load of the staff member's calendar.
+     */
+    @Transactional
+    public BookingSeries createSeries(UUID tenantId, BookingSeriesRequestDTO request) {
+        var service = serviceRepository.findByTenantIdAndId(tenantId, request.getServiceId())
+                .orElseThrow(() -> new ResourceNotFoundException("Service", request.getServiceId().toString()));
+        Staff staff = staffService.getStaffById(tenantId, request.getStaffId());
+        if (!staff.getIsActive()) {
+            throw new BusinessRuleException("STAFF_INACTIVE", "Cannot book a series with an inactive staff member");
+        }
+
+        RecurrenceRule rule = RecurrenceRule.parse(request.getRrule());
+        if (rule.getCount() != null && rule.getCount() > maxOccurrences) {
+            throw new BusinessRuleException("TOO_MANY_OCCURRENCES",
+                    "A series may have at most " + maxOccurrences + " occurrences");
+        }
+        LocalDateTime dtStart = request.getStartTime();
+        int duration = service.getDuration();
+
+        LocalDateTime checkUntil = rule.isBounded()
+                ? (rule.getUntil() != null ? rule.getUntil().plusDays(1).atStartOfDay() : LocalDateTime.MAX)
+                : dtStart.plusDays(horizonDays);
+        // One past the limit is enough to reject the series, however far off its end is
+        List<LocalDateTime> occurrences = rule.between(dtStart, dtStart, checkUntil, maxOccurrences + 1);
+        if (occurrences.isEmpty()) {
+            throw new BusinessRuleException("EMPTY_SERIES", "The recurrence rule produces no occurrences");
+        }
+        if (occurrences.size() > maxOccurrences) {
+            throw new BusinessRuleException("TOO_MANY_OCCURRENCES",
+                    "A series may have at most " + maxOccurrences + " occurrences");
+        }
+
+        staffCalendarLock.lock(tenantId, staff.getId());
+        List<LocalDateTime> conflicts = findConflicts(tenantId, staff.getId(), occurrences, duration, null);
+        if (!conflicts.isEmpty()) {
+            SlotConflictException conflict = new SlotConflictException(conflicts.get(0));
+            conflict.withDetail("conflictCount", String.valueOf(conflicts.size()));
+            throw conflict;
+        }
+
+        BookingSeries series = new BookingSeries();
+        series.setTenantId(tenantId);
+        series.setServiceId(service.getId());
+        series.setStaffId(staff.getId());
+        series.setClientId(request.getClientId());
+        series.setClientName(request.getClientName());
+        series.setClientEmail(request.getClientEmail());
+        series.setClientPhone(request.getClientPhone());
+        series.setNotes(request.getNotes());
+        series.setStartTime(dtStart);
+        series.setDurationMinutes(duration);
+        series.setRrule(rule.toString());
+        series.setLastEndTime(rule.isBounded()
+                ? occurrences.get(occurrences.size() - 1).plusMinutes(duration)
+                : null);
+        series.setStatus(SeriesStatus.ACTIVE);
+
+        BookingSeries saved = bookingSeriesRepository.save(series);
+        staffBookingIndex.invalidateStaffAfterCommit(tenantId, saved.getStaffId());
+
+        auditService.logCreate(tenantId, null, "BookingSeries", saved.getId(),
+                Map.of("service", service.getName(),
+                        "startTime", dtStart.toString(),
+                        "rrule", saved.getRrule()));
+
+        log.info("Created booking series {} ({}) for tenant {}", saved.getId(), saved.getRrule(), tenantId);
+        return saved;
+    }
+
+    /**
+     * Get booking series by ID.
+     */
+    @Transactional(readOnly = true)
+    public BookingSeries getSeriesById(UUID tenantId, UUID seriesId) {
+        return bookingSeriesRepository.findByTenantIdAndId(tenantId, seriesId)
+                .orElseThrow(() -> new ResourceNotFoundException("BookingSeries", seriesId.toString()));
+    }
+
+    /**
+     * Cancel a whole series; no further occurrences are expanded.
+     */
+    @Transactional
+    public BookingSeries cancelSeries(UUID tenantId, UUID seriesId) {
+        BookingSeries series = getSeriesById(tenantId, seriesId);
+        if (series.getStatus() == SeriesStatus.CANCELLED) {
+            throw new BusinessRuleException("ALREADY_CANCELLED", "Booking series is already cancelled");
+        }
+
+        series.setStatus(SeriesStatus.CANCELLED);
+        BookingSeries saved = bookingSeriesRepository.save(series);
+        staffBookingIndex.invalidateStaffAfterCommit(tenantId, saved.getStaffId());
+
+        auditService.logAction(tenantId, null, "CANCEL", "BookingSeries", seriesId,
+                Map.of("status", "ACTIVE"), Map.of("status", "CANCELLED"));
+
+        log.info("Cancelled booking series {}", seriesId);
+        return saved;
+    }
+
+    /**
+     * Cancel a single occurrence of a series.
+     */
+    @Transactional
+    public BookingSeriesException cancelOccurrence(UUID tenantId, UUID seriesId, LocalDateTime originalStartTime) {
+        BookingSeries series = getActiveOccurrenceSeries(tenantId, seriesId, originalStartTime);
+
+        BookingSeriesException exception = findOrCreateException(series, originalStartTime);
+        exception.setType(ExceptionType.CANCELLED);
+        exception.setNewStartTime(null);
+        exception.setNewEndTime(null);
+
+        BookingSeriesException saved = bookingSeriesExceptionRepository.save(exception);
+        staffBookingIndex.invalidateStaffAfterCommit(tenantId, series.getStaffId());
+
+        auditService.logAction(tenantId, null, "CANCEL_OCCURRENCE", "BookingSeries", seriesId,
+                null, Map.of("originalStartTime", originalStartTime.toString()));
+
+        log.info("Cancelled occurrence {} of booking series {}", originalStartTime, seriesId);
+        return saved;
+    }
+
+    /**
+     * Move a single occurrence of a series to a new start time.
+     */
+    @Transactional
+    public BookingSeriesException rescheduleOccurrence(UUID tenantId, UUID seriesId, LocalDateTime originalStartTime,
+            LocalDateTime newStartTime) {
+        BookingSeries series = getActiveOccurrenceSeries(tenantId, seriesId, originalStartTime);
+        LocalDateTime newEndTime = newStartTime.plusMinutes(series.getDurationMinutes());
+
+        UUID occurrenceId = SeriesOccurrences.occurrenceId(seriesId, originalStartTime);
+        staffCalendarLock.lock(tenantId, series.getStaffId());
+        if (!findConflicts(tenantId, series.getStaffId(), List.of(newStartTime), series.getDurationMinutes(),
+                occurrenceId).isEmpty()) {
+            throw new SlotConflictException(newStartTime);
+        }
+
+        BookingSeriesException exception = findOrCreateException(series, originalStartTime);
+        exception.setType(ExceptionType.RESCHEDULED);
+        exception.setNewStartTime(newStartTime);
+        exception.setNewEndTime(newEndTime);
+
+        BookingSeriesException saved = bookingSeriesExceptionRepository.save(exception);
+        staffBookingIndex.invalidateStaffAfterCommit(tenantId, series.getStaffId());
+
+        auditService.logAction(tenantId, null, "RESCHEDULE_OCCURRENCE", "BookingSeries", seriesId,
+                Map.of("startTime", originalStartTime.toString()),
+                Map.of("startTime", newStartTime.toString()));
+
+        log.info("Rescheduled occurrence {} of booking series {} to {}", originalStartTime, seriesId, newStartTime);
+        return saved;
+    }
+
+    /**
+     * Expand series occurrences overlapping a time range.
+     *
+     * @param staffId Optional staff filter
+     */
+    @Transactional(readOnly = true)
+    public List<Booking> getOccurrences(UUID tenantId, LocalDateTime start, LocalDateTime end, UUID staffId) {
+        List<BookingSeries> series = staffId != null
+                ? bookingSeriesRepository.findActiveForStaffInRange(tenantId, List.of(staffId), start, end)
+                : bookingSeriesRepository.findActiveInRange(tenantId, start, end);
+        if (series.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> seriesIds = series.stream().map(BookingSeries::getId).toList();
+        List<BookingSeriesException> exceptions = bookingSeriesExceptionRepository.findForSeriesInRange(
+                seriesIds, start.minusDays(1), start, end);
+        return SeriesOccurrences.expand(series, exceptions, start, end);
+    }
+
+    /**
+     * Reject a booking or hold period that overlaps an occurrence of one of the staff member's
+     * series. Must run inside the writing transaction, after taking the {@link StaffCalendarLock}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public void checkNoOccurrence(UUID tenantId, UUID staffId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!getOccurrences(tenantId, startTime, endTime, staffId).isEmpty()) {
+            throw new SlotConflictException(startTime);
+        }
+    }
+
+    private BookingSeries getActiveOccurrenceSeries(UUID tenantId, UUID seriesId, LocalDateTime originalStartTime) {
+        BookingSeries series = getSeriesById(tenantId, seriesId);
+        if (series.getStatus() != SeriesStatus.ACTIVE) {
+            throw new BusinessRuleException("SERIES_CANCELLED", "Booking series is cancelled");
+        }
+        if (!RecurrenceRule.parse(series.getRrule()).isOccurrence(series.getStartTime(), originalStartTime)) {
+            throw new ResourceNotFoundException("Series occurrence", originalStartTime.toString());
+        }
+        return series;
+    }
+
+    private BookingSeriesException findOrCreateException(BookingSeries series, LocalDateTime originalStartTime) {
+        return bookingSeriesExceptionRepository.findBySeriesIdAndOriginalStartTime(series.getId(), originalStartTime)
+                .orElseGet(() -> {
+                    BookingSeriesException exception = new BookingSeriesException();
+                    exception.setTenantId(series.getTenantId());
+                    exception.setSeriesId(series.getId());
+                    exception.setOriginalStartTime(originalStartTime);
+                    return exception;
+                });
+    }
+
+    /**
+     * Check occurrence start times against one database load of the staff calendar
+     * (bookings, holds and other series) covering all of them. Callers hold the staff
+     * calendar lock, so the cache is bypassed.
+     *
+     * @param ignoreId interval to disregard, e.g. the occurrence being moved
+     * @return the conflicting start times
+     */
+    private List<LocalDateTime> findConflicts(UUID tenantId, UUID staffId, List<LocalDateTime> starts,
+            int durationMinutes, UUID ignoreId) {
+        LocalDate from = starts.get(0).toLocalDate();
+        LocalDate to = starts.get(starts.size() - 1).plusMinutes(durationMinutes).minusNanos(1).toLocalDate();
+        List<DayIntervals> days = staffBookingIndex.loadDays(tenantId, staffId, from, to);
+
+        return starts.stream()
+                .filter(start -> {
+                    LocalDateTime end = start.plusMinutes(durationMinutes);
+                    LocalDate last = end.minusNanos(1).toLocalDate();
+                    for (LocalDate date = start.toLocalDate(); !date.isAfter(last); date = date.plusDays(1)) {
+                        DayIntervals day = days.get((int) ChronoUnit.DAYS.between(from, date));
+                        if (ignoreId != null) {
+                            day = day.without(ignoreId);
+                        }
+                        if (day.overlaps(start, end)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                })
+                .toList();
+    }
+}
@@ -1,10 +1,24 @@
 package com.coloradodev.cronos.service;
 
+import com.coloradodev.cronos.core.event.DomainEventBus;
+import com.coloradodev.cronos.core.exception.DatabaseConstraints;
+import com.coloradodev.cronos.core.pagination.CursorPage;
+import com.coloradodev.cronos.core.pagination.KeysetCursor;
+import com.coloradodev.cronos.core.pagination.PageCount;
+import com.coloradodev.cronos.core.pagination.PageCounter;
+import com.coloradodev.cronos.core.pagination.PageQuery;
 import com.coloradodev.cronos.domain.Appointment;
 import com.coloradodev.cronos.domain.Booking;
 import com.coloradodev.cronos.domain.Booking.BookingStatus;
 import com.coloradodev.cronos.domain.Client;
+import com.coloradodev.cronos.domain.OutboxEvent.EventType;
+import com.coloradodev.cronos.domain.SlotHold;
 import com.coloradodev.cronos.domain.Staff;
+import com.coloradodev.cronos.domain.event.BookingCancelled;
+import com.coloradodev.cronos.domain.event.BookingConfirmed;
+import com.coloradodev.cronos.domain.event.BookingCreated;
+import com.coloradodev.cronos.domain.event.BookingNoShow;
+import com.coloradodev.cronos.domain.event.BookingRescheduled;
 import com.coloradodev.cronos.dto.booking.BookingRequestDTO;
 import com.coloradodev.cronos.exception.BusinessRuleException;
 import com.coloradodev.cronos.exception.ResourceNotFoundException;
@@ -13,15 +27,20 @@ import com.coloradodev.cronos.repository.AppointmentRepository;
 import com.coloradodev.cronos.repository.BookingRepository;
 import com.coloradodev.cronos.repository.ServiceRepository;
 import com.coloradodev.cronos.repository.TenantRepository;
+import com.coloradodev.cronos.service.assignment.StaffAssigner;
+import com.coloradodev.cronos.service.availability.StaffBookingIndex;
+import com.coloradodev.cronos.service.availability.StaffCalendarLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -34,6 +53,8 @@ import java.util.UUID;
 @Slf4j
 public class BookingService {
 
+    private static final Sort BOOKING_ORDER = Sort.by(Sort.Direction.DESC, "startTime", "id");
+
     private final BookingRepository bookingRepository;
     private final AppointmentRepository appointmentRepository;
     private final ServiceRepository serviceRepository;
@@ -42,6 +63,15 @@ public class BookingService {
     private final CalendarService calendarService;
     private final StaffService staffService;
     private final AuditService auditService;
+    private final StaffBookingIndex staffBookingIndex;
+    private final StaffCalendarLock staffCalendarLock;
+    private final SlotHoldService slotHoldService;
+    private final BookingSeriesService bookingSeriesService;
+    private final StaffAssigner staffAssigner;
+    private final OutboxService outboxService;
+    private final DomainEventBus domainEventBus;
+    private final BookingStatsService bookingStatsService;
+    private final PageCounter pageCounter;
 
     /**
      * Create a public booking (from the booking widget).
@@ -59,8 +89,14 @@ public class BookingService {
 
         LocalDateTime endTime = request.getStartTime().plusMinutes(service.getDuration());
 
-        // Validate time slot is available
-        if (!calendarService.checkSlotAvailability(tenantId, request.getServiceId(), request.getStartTime(),
+        // A hold already reserved the slot and its staff member; otherwise fast-fail against the
+        // in-memory index. Either way the calendar check and the exclusion constraint decide
+        // races at insert time.
+        SlotHold hold = null;
+        if (request.getHoldId() != null) {
+            hold = slotHoldService.consumeHold(tenantId, request.getHoldId(), request.getServiceId(),
+                    request.getStartTime());
+        } else if (!calendarService.checkSlotAvailability(tenantId, request.getServiceId(), request.getStartTime(),
                 request.getStaffId())) {
             throw new SlotConflictException("The requested time slot is no longer available");
         }
@@ -75,8 +111,8 @@ public class BookingService {
                 request.getClientEmail(),
                 request.getClientPhone());
 
-        // Assign staff if not specified - pick first available
-        UUID staffId = request.getStaffId();
+        // Assign staff if not specified - candidates come ranked by the assignment strategy
+        UUID staffId = hold != null ? hold.getStaffId() : request.getStaffId();
         if (staffId == null) {
             List<Staff> availableStaff = calendarService.getAvailableStaffForSlot(
                     tenantId, request.getServiceId(), request.getStartTime(), endTime);
@@ -99,16 +135,23 @@ public class BookingService {
         booking.setClientPhone(request.getClientPhone());
         booking.setNotes(request.getNotes());
 
-        Booking saved = bookingRepository.save(booking);
+        checkStaffCalendar(booking);
+        Booking saved = saveAndCheckOverlap(booking);
+        staffBookingIndex.recordBooking(saved);
+        bookingStatsService.recordCreated(saved);
+        if (request.getStaffId() == null && staffId != null) {
+            staffAssigner.recordAssignment(tenantId, staffId);
+        }
 
         auditService.logCreate(tenantId, null, "Booking", saved.getId(),
                 Map.of("service", service.getName(),
                         "startTime", request.getStartTime().toString(),
                         "client", client.getFirstName() + " " + client.getLastName()));
 
-        log.info("Created booking {} for tenant {}", saved.getId(), tenantId);
+        outboxService.enqueue(tenantId, "Booking", saved.getId(), EventType.BOOKING_CREATED, Map.of());
+        domainEventBus.publish(BookingCreated.of(saved));
 
-        // TODO: Send confirmation email via NotificationService
+        log.info("Created booking {} for tenant {}", saved.getId(), tenantId);
 
         return saved;
     }
@@ -140,14 +183,16 @@ public class BookingService {
         booking.setStatus(BookingStatus.CONFIRMED);
         booking.setAppointmentId(savedAppointment.getId());
         Booking saved = bookingRepository.save(booking);
+        bookingStatsService.recordStatusChange(saved, BookingStatus.PENDING);
 
         auditService.logAction(tenantId, null, "CONFIRM", "Booking", bookingId,
                 Map.of("status", "PENDING"),
                 Map.of("status", "CONFIRMED", "appointmentId", savedAppointment.getId()));
 
-        log.info("Confirmed booking {}", bookingId);
+        outboxService.enqueue(tenantId, "Booking", bookingId, EventType.BOOKING_CONFIRMED, Map.of());
+        domainEventBus.publish(BookingConfirmed.of(saved));
 
-        // TODO: Send confirmation notification
+        log.info("Confirmed booking {}", bookingId);
 
         return saved;
     }
@@ -171,14 +216,18 @@ public class BookingService {
         }
 
         Booking saved = bookingRepository.save(booking);
+        staffBookingIndex.removeBooking(saved);
+        bookingStatsService.recordStatusChange(saved, oldStatus);
 
         auditService.logAction(tenantId, null, "CANCEL", "Booking", bookingId,
                 Map.of("status", oldStatus.toString()),
                 Map.of("status", "CANCELLED", "reason", reason != null ? reason : ""));
 
-        log.info("Cancelled booking {} with reason: {}", bookingId, reason);
+        outboxService.enqueue(tenantId, "Booking", bookingId, EventType.BOOKING_CANCELLED,
+                reason != null ? Map.of("reason", reason) : Map.of());
+        domainEventBus.publish(BookingCancelled.of(saved, oldStatus, reason));
 
-        // TODO: Send cancellation notification
+        log.info("Cancelled booking {} with reason: {}", bookingId, reason);
 
         return saved;
     }
@@ -200,27 +249,27 @@ public class BookingService {
 
         LocalDateTime newEndTime = newStartTime.plusMinutes(service.getDuration());
 
-        // Check if new slot is available (excluding current booking)
-        List<Booking> conflicts = bookingRepository.findOverlappingBookingsExcluding(
-                tenantId, booking.getStaffId(), newStartTime, newEndTime, bookingId);
-
-        if (!conflicts.isEmpty()) {
-            throw new SlotConflictException("The new time slot is not available");
-        }
-
         LocalDateTime oldStartTime = booking.getStartTime();
+        LocalDateTime oldEndTime = booking.getEndTime();
         booking.setStartTime(newStartTime);
         booking.setEndTime(newEndTime);
+        booking.setReminderSentAt(null);
 
-        Booking saved = bookingRepository.save(booking);
+        // Overlaps with other active bookings are rejected by the exclusion constraint
+        checkStaffCalendar(booking);
+        Booking saved = saveAndCheckOverlap(booking);
+        staffBookingIndex.moveBooking(saved, oldStartTime, oldEndTime);
+        bookingStatsService.recordRescheduled(saved, oldStartTime);
 
         auditService.logAction(tenantId, null, "RESCHEDULE", "Booking", bookingId,
                 Map.of("startTime", oldStartTime.toString()),
                 Map.of("startTime", newStartTime.toString()));
 
-        log.info("Rescheduled booking {} from {} to {}", bookingId, oldStartTime, newStartTime);
+        outboxService.enqueue(tenantId, "Booking", bookingId, EventType.BOOKING_RESCHEDULED,
+                Map.of("oldStartTime", oldStartTime.toString()));
+        domainEventBus.publish(BookingRescheduled.of(saved, oldStartTime, oldEndTime));
 
-        // TODO: Send reschedule notification
+        log.info("Rescheduled booking {} from {} to {}", bookingId, oldStartTime, newStartTime);
 
         return saved;
     }
@@ -235,22 +284,30 @@ public class BookingService {
     }
 
     /**
-     * Get bookings for a tenant with optional status filter.
+     * Get bookings for a tenant with optional status filter, newest start time first.
      */
     @Transactional(readOnly = true)
-    public Page<Booking> getBookingsByTenant(UUID tenantId, BookingStatus status, Pageable pageable) {
-        List<Booking> bookings = status != null
-                ? bookingRepository.findByTenantIdAndStatus(tenantId, status)
-                : bookingRepository.findByTenantId(tenantId);
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), bookings.size());
-
-        if (start > bookings.size()) {
-            return new PageImpl<>(List.of(), pageable, bookings.size());
+    public CursorPage<Booking> getBookingsByTenant(UUID tenantId, BookingStatus status, PageQuery query) {
+        String statusName = status != null ? status.name() : null;
+        Map<String, Object> countParams = new HashMap<>();
+        countParams.put("tenantId", tenantId);
+        countParams.put("status", statusName);
+        PageCount count = pageCounter.count(query.count(), "bookings",
+                "tenant_id = :tenantId AND (CAST(:status AS VARCHAR) IS NULL OR status = CAST(:status AS VARCHAR))",
+                countParams);
+
+        if (query.hasCursor()) {
+            KeysetCursor after = query.decodeCursor();
+            List<Booking> rows = bookingRepository.findPageBefore(tenantId, statusName,
+                    after.timeKey(), after.id(), query.fetchSize());
+            return CursorPage.fromRows(rows, query, BookingService::cursorOf, count);
         }
 
-        return new PageImpl<>(bookings.subList(start, end), pageable, bookings.size());
+        Pageable pageable = query.toPageable(BOOKING_ORDER);
+        Slice<Booking> slice = status != null
+                ? bookingRepository.findSliceByTenantIdAndStatus(tenantId, status, pageable)
+                : bookingRepository.findSliceByTenantId(tenantId, pageable);
+        return CursorPage.fromSlice(slice, BookingService::cursorOf, count);
     }
 
     /**
@@ -277,10 +334,50 @@ public class BookingService {
 
         booking.setStatus(BookingStatus.NO_SHOW);
         Booking saved = bookingRepository.save(booking);
+        staffBookingIndex.removeBooking(saved);
+        bookingStatsService.recordStatusChange(saved, BookingStatus.CONFIRMED);
 
         auditService.logAction(tenantId, null, "NO_SHOW", "Booking", bookingId);
+        domainEventBus.publish(BookingNoShow.of(saved));
 
         log.info("Marked booking {} as no-show", bookingId);
         return saved;
     }
+
+    /**
+     * Lock the booking's staff calendar and reject the booking's period if it overlaps an
+     * unexpired slot hold or a series occurrence, which the bookings exclusion constraint
+     * cannot see.
+     */
+    private void checkStaffCalendar(Booking booking) {
+        if (booking.getStaffId() == null) {
+            return;
+        }
+        staffCalendarLock.lock(booking.getTenantId(), booking.getStaffId());
+        slotHoldService.checkNotHeld(booking.getTenantId(), booking.getStaffId(), booking.getStartTime(),
+                booking.getEndTime());
+        bookingSeriesService.checkNoOccurrence(booking.getTenantId(), booking.getStaffId(), booking.getStartTime(),
+                booking.getEndTime());
+    }
+
+    /**
+     * Insert or update a booking immediately so that the period exclusion constraint
+     * is evaluated here, and report a violation as a slot conflict.
+     */
+    private Booking saveAndCheckOverlap(Booking booking) {
+        try {
+            return bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException ex) {
+            if (DatabaseConstraints.isViolation(ex, DatabaseConstraints.BOOKING_STAFF_PERIOD)) {
+                log.info("Rejected overlapping booking for staff {} at {}", booking.getStaffId(),
+                        booking.getStartTime());
+                throw new SlotConflictException(booking.getStartTime());
+            }
+            throw ex;
+        }
+    }
+
+    private static KeysetCursor cursorOf(Booking booking) {
+        return KeysetCursor.of(booking.getStartTime(), booking.getId());
+    }
 }
@@ -0,0 +1,151 @@
+package com.coloradodev.cronos.service;
+
+import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.Booking.BookingStatus;
+import com.coloradodev.cronos.domain.BookingDailyStat;
+import com.coloradodev.cronos.repository.BookingDailyStatRepository;
+import com.coloradodev.cronos.repository.projection.BookingStatCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for the {@code booking_daily_stats} rollup.
+ * <p>
+ * Every change to a booking's day, service, staff member or status applies a +1/-1 delta in
+ * the same transaction, so the rollup always equals a GROUP BY over {@code bookings}.
+ * {@link #rebuild} recomputes a date range from scratch to repair drift or backfill.
+ * <p>
+ * Rebuilds and incremental updates are kept apart per day with transaction-scoped advisory
+ * locks: updates take the lock of each day they touch in shared mode (in ascending order),
+ * a rebuild takes the locks of its days exclusively. So a rebuild waits only for in-flight
+ * updates of its own days, and only updates of those days wait for the rebuild.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingStatsService {
+
+    // First key of the two-key advisory lock, so rollup day locks do not collide with other advisory locks
+    private static final int ADVISORY_LOCK_NAMESPACE = 0x4253;
+
+    private final BookingDailyStatRepository bookingDailyStatRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Booking booking) {
+        lockDays(booking.getStartTime().toLocalDate());
+        apply(booking, booking.getStartTime(), booking.getStatus(), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Booking booking, BookingStatus oldStatus) {
+        if (oldStatus == booking.getStatus()) {
+            return;
+        }
+        lockDays(booking.getStartTime().toLocalDate());
+        apply(booking, booking.getStartTime(), oldStatus, -1);
+        apply(booking, booking.getStartTime(), booking.getStatus(), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRescheduled(Booking booking, LocalDateTime oldStartTime) {
+        LocalDate oldDate = oldStartTime.toLocalDate();
+        LocalDate newDate = booking.getStartTime().toLocalDate();
+        if (oldDate.equals(newDate)) {
+            return;
+        }
+        lockDays(oldDate.isBefore(newDate) ? oldDate : newDate, oldDate.isBefore(newDate) ? newDate : oldDate);
+        apply(booking, oldStartTime, booking.getStatus(), -1);
+        apply(booking, booking.getStartTime(), booking.getStatus(), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Booking booking) {
+        lockDays(booking.getStartTime().toLocalDate());
+        apply(booking, booking.getStartTime(), booking.getStatus(), -1);
+    }
+
+    /**
+     * Take the given bookings out of the rollup, for a bulk change or delete. The rows must be
+     * locked; pair with {@link #addBookings} after a bulk update.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeBookings(Collection<UUID> bookingIds) {
+        lockDaysOf(bookingIds);
+        bookingDailyStatRepository.addBookingsToCount(bookingIds, -1);
+    }
+
+    /**
+     * Count the given bookings in the rollup under their current day, service, staff member and status.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addBookings(Collection<UUID> bookingIds) {
+        lockDaysOf(bookingIds);
+        bookingDailyStatRepository.addBookingsToCount(bookingIds, 1);
+    }
+
+    /**
+     * Sum the rollup over [startDate, endDate], grouped by service, staff member and status.
+     */
+    @Transactional(readOnly = true)
+    public List<BookingStatCount> getCounts(UUID tenantId, LocalDate startDate, LocalDate endDate) {
+        return bookingDailyStatRepository.sumByServiceStaffAndStatus(tenantId, startDate, endDate);
+    }
+
+    /**
+     * Recompute the rollup for all tenants over [startDate, endDate). Incremental updates of
+     * those days wait for this transaction, so keep the range short and call it once per chunk.
+     *
+     * @return number of rollup rows written
+     */
+    @Transactional
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?, CAST(d AS INTEGER)) FROM generate_series(?, ?) d",
+                ADVISORY_LOCK_NAMESPACE, (int) startDate.toEpochDay(), (int) endDate.toEpochDay() - 1);
+        int deleted = bookingDailyStatRepository.deleteRange(startDate, endDate);
+        int inserted = bookingDailyStatRepository.insertFromBookings(startDate.atStartOfDay(), endDate.atStartOfDay());
+        log.debug("Rebuilt booking stats for [{}, {}): {} rows replaced by {}", startDate, endDate, deleted, inserted);
+        return inserted;
+    }
+
+    /**
+     * Drop rows whose count went back to zero.
+     */
+    @Transactional
+    public int purgeEmpty() {
+        return bookingDailyStatRepository.deleteEmpty();
+    }
+
+    private void lockDaysOf(Collection<UUID> bookingIds) {
+        for (Integer epochDay : bookingDailyStatRepository.findEpochDaysOf(bookingIds)) {
+            lockDay(epochDay);
+        }
+    }
+
+    // Days must be given in ascending order, so that two transactions never wait on each other
+    private void lockDays(LocalDate... days) {
+        for (LocalDate day : days) {
+            lockDay((int) day.toEpochDay());
+        }
+    }
+
+    private void lockDay(int epochDay) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock_shared(?, ?)", ADVISORY_LOCK_NAMESPACE, epochDay);
+    }
+
+    private void apply(Booking booking, LocalDateTime startTime, BookingStatus status, long delta) {
+        UUID staffId = booking.getStaffId() != null ? booking.getStaffId() : BookingDailyStat.UNASSIGNED;
+        bookingDailyStatRepository.addToCount(booking.getTenantId(), startTime.toLocalDate(),
+                booking.getServiceId(), staffId, status.name(), delta);
+    }
+}
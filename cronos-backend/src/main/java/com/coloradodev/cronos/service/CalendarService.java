@@ -3,23 +3,36 @@ package com.coloradodev.cronos.service;
 import com.coloradodev.cronos.domain.Booking;
 import com.coloradodev.cronos.domain.BusinessHours;
 import com.coloradodev.cronos.domain.Staff;
+import com.coloradodev.cronos.dto.appointment.DayAvailability;
 import com.coloradodev.cronos.dto.appointment.TimeSlot;
+import com.coloradodev.cronos.exception.BusinessRuleException;
 import com.coloradodev.cronos.exception.ResourceNotFoundException;
 import com.coloradodev.cronos.repository.BookingRepository;
 import com.coloradodev.cronos.repository.ServiceRepository;
+import com.coloradodev.cronos.service.assignment.StaffAssigner;
+import com.coloradodev.cronos.service.availability.DayIntervals;
+import com.coloradodev.cronos.service.availability.OccupancyGrid;
+import com.coloradodev.cronos.service.availability.StaffBookingIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Service for calendar operations, slot availability, and scheduling logic.
@@ -33,6 +46,20 @@ public class CalendarService {
     private final BookingRepository bookingRepository;
     private final BusinessHoursService businessHoursService;
     private final StaffService staffService;
+    private final StaffBookingIndex staffBookingIndex;
+    private final BookingSeriesService bookingSeriesService;
+    private final StaffAssigner staffAssigner;
+
+    private static final int SEARCH_CHUNK_DAYS = 7;
+
+    @Value("${app.availability.slot-granularity-minutes:5}")
+    private int slotGranularityMinutes;
+
+    @Value("${app.availability.range.max-days:62}")
+    private int maxRangeDays;
+
+    @Value("${app.availability.range.parallel-threshold-days:14}")
+    private int parallelThresholdDays;
 
     /**
      * Get available time slots for booking.
@@ -45,54 +72,74 @@ public class CalendarService {
      */
     @Transactional(readOnly = true)
     public List<TimeSlot> getAvailableSlots(UUID tenantId, UUID serviceId, LocalDate date, UUID staffId) {
+        return getAvailabilityRange(tenantId, serviceId, date, date, staffId).get(0).getSlots();
+    }
+
+    /**
+     * Get available time slots for every day in a date range.
+     * Service, business hours, staff and bookings are loaded once for the whole window,
+     * so the number of queries does not grow with the number of days.
+     *
+     * @param tenantId  The tenant
+     * @param serviceId The service to book
+     * @param from      First day (inclusive)
+     * @param to        Last day (inclusive)
+     * @param staffId   Optional specific staff member
+     * @return One entry per day, in date order
+     */
+    @Transactional(readOnly = true)
+    public List<DayAvailability> getAvailabilityRange(UUID tenantId, UUID serviceId, LocalDate from, LocalDate to,
+            UUID staffId) {
+        if (to.isBefore(from)) {
+            throw new BusinessRuleException("INVALID_DATE_RANGE", "End date must not be before start date");
+        }
+        int dayCount = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (dayCount > maxRangeDays) {
+            throw new BusinessRuleException("RANGE_TOO_LARGE",
+                    "Availability can be requested for at most " + maxRangeDays + " days");
+        }
+
         // Get service
         com.coloradodev.cronos.domain.Service service = serviceRepository.findByTenantIdAndId(tenantId, serviceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service", serviceId.toString()));
 
         int durationMinutes = service.getDuration();
 
-        // Get business hours for the day
-        Optional<BusinessHours> businessHoursOpt = businessHoursService.getBusinessHoursForDate(tenantId, date);
-        if (businessHoursOpt.isEmpty() || !businessHoursOpt.get().getIsOpen()) {
-            return List.of(); // Business closed this day
+        // Get business hours for the whole week
+        Map<DayOfWeek, BusinessHours> hoursByDay = new EnumMap<>(DayOfWeek.class);
+        for (BusinessHours hours : businessHoursService.getBusinessHours(tenantId)) {
+            hoursByDay.put(hours.getDayOfWeek(), hours);
         }
 
-        BusinessHours businessHours = businessHoursOpt.get();
-        LocalDateTime startOfDay = LocalDateTime.of(date, businessHours.getOpenTime());
-        LocalDateTime endOfDay = LocalDateTime.of(date, businessHours.getCloseTime());
-
         // Get staff members who can provide this service
-        List<Staff> availableStaff = staffId != null
+        List<Staff> candidates = staffId != null
                 ? List.of(staffService.getStaffById(tenantId, staffId))
                 : staffService.getStaffForService(tenantId, serviceId);
+        List<UUID> staffIds = candidates.stream()
+                .filter(Staff::getIsActive)
+                .map(Staff::getId)
+                .toList();
 
-        if (availableStaff.isEmpty()) {
-            return List.of(); // No staff available for this service
-        }
+        // Get all bookings of those staff members for the window in one go
+        Map<UUID, List<DayIntervals>> busy = staffIds.isEmpty()
+                ? Map.of()
+                : staffBookingIndex.getDays(tenantId, staffIds, from, to);
 
-        // Generate potential time slots
-        List<TimeSlot> allSlots = new ArrayList<>();
-        LocalDateTime currentSlotStart = startOfDay;
-
-        while (!currentSlotStart.plusMinutes(durationMinutes).isAfter(endOfDay)) {
-            LocalDateTime slotEnd = currentSlotStart.plusMinutes(durationMinutes);
-
-            // Check availability for at least one staff member
-            for (Staff staff : availableStaff) {
-                if (staff.getIsActive()
-                        && isSlotAvailableForStaff(tenantId, staff.getId(), currentSlotStart, slotEnd)) {
-                    allSlots.add(TimeSlot.builder()
-                            .startTime(currentSlotStart)
-                            .endTime(slotEnd)
-                            .build());
-                    break; // One available staff is enough
-                }
-            }
+        int cellMinutes = OccupancyGrid.cellMinutesFor(slotGranularityMinutes, durationMinutes);
+        int runCells = durationMinutes / cellMinutes;
 
-            currentSlotStart = currentSlotStart.plusMinutes(durationMinutes);
+        IntStream days = IntStream.range(0, dayCount);
+        if (dayCount >= parallelThresholdDays) {
+            days = days.parallel();
         }
-
-        return allSlots;
+        return days
+                .mapToObj(offset -> {
+                    LocalDate date = from.plusDays(offset);
+                    BusinessHours hours = hoursByDay.get(date.getDayOfWeek());
+                    List<TimeSlot> slots = computeSlots(date, hours, staffIds, busy, offset, cellMinutes, runCells);
+                    return new DayAvailability(date, slots);
+                })
+                .toList();
     }
 
     /**
@@ -111,7 +158,7 @@ public class CalendarService {
                     .collect(Collectors.toList());
         }
 
-        return bookings;
+        return withSeriesOccurrences(bookings, bookingSeriesService.getOccurrences(tenantId, start, end, staffId));
     }
 
     /**
@@ -156,7 +203,9 @@ public class CalendarService {
         LocalDateTime start = LocalDateTime.of(startDate, LocalTime.MIN);
         LocalDateTime end = LocalDateTime.of(endDate, LocalTime.MAX);
 
-        return bookingRepository.findActiveBookingsForStaffInRange(tenantId, staffId, start, end);
+        return withSeriesOccurrences(
+                bookingRepository.findActiveBookingsForStaffInRange(tenantId, staffId, start, end),
+                bookingSeriesService.getOccurrences(tenantId, start, end, staffId));
     }
 
     /**
@@ -172,40 +221,81 @@ public class CalendarService {
 
     /**
      * Find first available slot for a service starting from a date.
+     * Searches a week at a time so each step costs a constant number of queries.
      */
     @Transactional(readOnly = true)
     public Optional<TimeSlot> findNextAvailableSlot(UUID tenantId, UUID serviceId, LocalDate fromDate,
             int maxDaysToSearch) {
-        for (int i = 0; i < maxDaysToSearch; i++) {
-            LocalDate date = fromDate.plusDays(i);
-            List<TimeSlot> slots = getAvailableSlots(tenantId, serviceId, date, null);
-            if (!slots.isEmpty()) {
-                return Optional.of(slots.get(0));
+        for (int offset = 0; offset < maxDaysToSearch; offset += SEARCH_CHUNK_DAYS) {
+            LocalDate chunkStart = fromDate.plusDays(offset);
+            LocalDate chunkEnd = fromDate.plusDays(Math.min(offset + SEARCH_CHUNK_DAYS, maxDaysToSearch) - 1);
+            for (DayAvailability day : getAvailabilityRange(tenantId, serviceId, chunkStart, chunkEnd, null)) {
+                if (!day.getSlots().isEmpty()) {
+                    return Optional.of(day.getSlots().get(0));
+                }
             }
         }
         return Optional.empty();
     }
 
     /**
-     * Get available staff for a specific time slot.
+     * Get available staff for a specific time slot, ranked by the configured assignment strategy.
      */
     @Transactional(readOnly = true)
     public List<Staff> getAvailableStaffForSlot(UUID tenantId, UUID serviceId, LocalDateTime startTime,
             LocalDateTime endTime) {
         List<Staff> staffForService = staffService.getStaffForService(tenantId, serviceId);
 
-        return staffForService.stream()
+        List<Staff> available = staffForService.stream()
                 .filter(Staff::getIsActive)
                 .filter(staff -> isSlotAvailableForStaff(tenantId, staff.getId(), startTime, endTime))
                 .collect(Collectors.toList());
+        return staffAssigner.rank(tenantId, available, startTime, endTime);
+    }
+
+    /**
+     * Merge expanded series occurrences into a list of stored bookings, ordered by start time.
+     */
+    private List<Booking> withSeriesOccurrences(List<Booking> bookings, List<Booking> occurrences) {
+        if (occurrences.isEmpty()) {
+            return bookings;
+        }
+        List<Booking> merged = new ArrayList<>(bookings.size() + occurrences.size());
+        merged.addAll(bookings);
+        merged.addAll(occurrences);
+        merged.sort(Comparator.comparing(Booking::getStartTime));
+        return merged;
+    }
+
+    /**
+     * Compute the open slots of one day: one occupancy bitmap per staff member,
+     * with their free runs ORed together.
+     */
+    private List<TimeSlot> computeSlots(LocalDate date, BusinessHours hours, List<UUID> staffIds,
+            Map<UUID, List<DayIntervals>> busy, int dayOffset, int cellMinutes, int runCells) {
+        if (hours == null || !Boolean.TRUE.equals(hours.getIsOpen()) || staffIds.isEmpty()) {
+            return List.of(); // Business closed this day or no staff available
+        }
+
+        LocalDateTime startOfDay = LocalDateTime.of(date, hours.getOpenTime());
+        LocalDateTime endOfDay = LocalDateTime.of(date, hours.getCloseTime());
+
+        OccupancyGrid grid = null;
+        long[] openSlots = null;
+        for (UUID id : staffIds) {
+            grid = OccupancyGrid.forWindow(startOfDay, endOfDay, cellMinutes);
+            grid.markBusy(busy.get(id).get(dayOffset));
+            openSlots = OccupancyGrid.union(openSlots, grid.freeRuns(runCells));
+        }
+        return grid.toSlots(openSlots, runCells, runCells);
     }
 
     /**
      * Check if a slot is available for a specific staff member.
+     * Served from the in-memory booking index; each staff day costs at most one query.
      */
     private boolean isSlotAvailableForStaff(UUID tenantId, UUID staffId, LocalDateTime startTime,
             LocalDateTime endTime) {
-        List<Booking> conflicts = bookingRepository.findOverlappingBookings(tenantId, staffId, startTime, endTime);
-        return conflicts.isEmpty();
+        return staffBookingIndex.isFree(tenantId, staffId, startTime, endTime);
     }
 }
@@ -1,5 +1,10 @@
 package com.coloradodev.cronos.service;
 
+import com.coloradodev.cronos.core.pagination.CursorPage;
+import com.coloradodev.cronos.core.pagination.KeysetCursor;
+import com.coloradodev.cronos.core.pagination.PageCount;
+import com.coloradodev.cronos.core.pagination.PageCounter;
+import com.coloradodev.cronos.core.pagination.PageQuery;
 import com.coloradodev.cronos.domain.Booking;
 import com.coloradodev.cronos.domain.Client;
 import com.coloradodev.cronos.dto.client.ClientRequestDTO;
@@ -7,14 +12,17 @@ import com.coloradodev.cronos.exception.BusinessRuleException;
 import com.coloradodev.cronos.exception.ResourceNotFoundException;
 import com.coloradodev.cronos.repository.BookingRepository;
 import com.coloradodev.cronos.repository.ClientRepository;
+import com.coloradodev.cronos.service.analytics.ClientStatsCacheEvictor;
+import com.coloradodev.cronos.service.audit.FieldDiff;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -27,14 +35,21 @@ import java.util.UUID;
 @Slf4j
 public class ClientService {
 
+    /**
+     * Order used for cursor pages; offset pages may use any sort.
+     */
+    public static final Sort KEYSET_ORDER = Sort.by("lastName", "id");
+
     private final ClientRepository clientRepository;
     private final BookingRepository bookingRepository;
     private final AuditService auditService;
+    private final PageCounter pageCounter;
 
     /**
      * Create a new client for a tenant.
      */
     @Transactional
+    @CacheEvict(cacheNames = ClientStatsCacheEvictor.CACHE_NAME, key = "#tenantId")
     public Client createClient(UUID tenantId, ClientRequestDTO request) {
         // Check for duplicate email
         if (request.getEmail() != null && clientRepository.existsByTenantIdAndEmail(tenantId, request.getEmail())) {
@@ -52,8 +67,13 @@ public class ClientService {
 
         Client saved = clientRepository.save(client);
 
-        auditService.logCreate(tenantId, null, "Client", saved.getId(),
-                Map.of("name", saved.getFirstName() + " " + saved.getLastName()));
+        // Same field keys as the update diffs, so replaying the history rebuilds one shape of client
+        Map<String, Object> created = new LinkedHashMap<>();
+        created.put("firstName", saved.getFirstName());
+        created.put("lastName", saved.getLastName());
+        created.put("email", saved.getEmail());
+        created.put("phone", saved.getPhone());
+        auditService.logCreate(tenantId, null, "Client", saved.getId(), created);
 
         log.info("Created client {} {} for tenant {}", saved.getFirstName(), saved.getLastName(), tenantId);
         return saved;
@@ -74,11 +94,11 @@ public class ClientService {
             }
         }
 
-        Map<String, Object> oldValues = Map.of(
-                "firstName", client.getFirstName(),
-                "lastName", client.getLastName(),
-                "email", client.getEmail() != null ? client.getEmail() : "",
-                "phone", client.getPhone() != null ? client.getPhone() : "");
+        FieldDiff diff = new FieldDiff()
+                .record("firstName", client.getFirstName(), request.getFirstName())
+                .record("lastName", client.getLastName(), request.getLastName())
+                .record("email", client.getEmail(), request.getEmail())
+                .record("phone", client.getPhone(), request.getPhone());
 
         client.setFirstName(request.getFirstName());
         client.setLastName(request.getLastName());
@@ -90,13 +110,7 @@ public class ClientService {
 
         Client saved = clientRepository.save(client);
 
-        Map<String, Object> newValues = Map.of(
-                "firstName", saved.getFirstName(),
-                "lastName", saved.getLastName(),
-                "email", saved.getEmail() != null ? saved.getEmail() : "",
-                "phone", saved.getPhone() != null ? saved.getPhone() : "");
-
-        auditService.logUpdate(tenantId, null, "Client", saved.getId(), oldValues, newValues);
+        auditService.logUpdate(tenantId, null, "Client", saved.getId(), diff);
 
         log.info("Updated client {} for tenant {}", clientId, tenantId);
         return saved;
@@ -112,20 +126,24 @@ public class ClientService {
     }
 
     /**
-     * Get all clients for a tenant with pagination.
+     * Get clients for a tenant with pagination.
+     * Cursor pages always follow {@link #KEYSET_ORDER}; offset pages use {@code sort} and only
+     * offer a next cursor when it matches that order.
      */
     @Transactional(readOnly = true)
-    public Page<Client> getClientsByTenant(UUID tenantId, Pageable pageable) {
-        List<Client> clients = clientRepository.findByTenantId(tenantId);
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), clients.size());
-
-        if (start > clients.size()) {
-            return new PageImpl<>(List.of(), pageable, clients.size());
+    public CursorPage<Client> getClientsByTenant(UUID tenantId, PageQuery query, Sort sort) {
+        PageCount count = pageCounter.count(query.count(), "clients", "tenant_id = :tenantId",
+                Map.of("tenantId", tenantId));
+
+        if (query.hasCursor()) {
+            KeysetCursor after = query.decodeCursor();
+            List<Client> rows = clientRepository.findPageAfter(tenantId, after.key(), after.id(), query.fetchSize());
+            return CursorPage.fromRows(rows, query, ClientService::cursorOf, count);
         }
 
-        return new PageImpl<>(clients.subList(start, end), pageable, clients.size());
+        Sort order = sort.and(Sort.by("id"));
+        Slice<Client> slice = clientRepository.findSliceByTenantId(tenantId, query.toPageable(order));
+        return CursorPage.fromSlice(slice, order.equals(KEYSET_ORDER) ? ClientService::cursorOf : null, count);
     }
 
     /**
@@ -175,6 +193,7 @@ public class ClientService {
      * You may want to add an isActive field to the Client entity.
      */
     @Transactional
+    @CacheEvict(cacheNames = ClientStatsCacheEvictor.CACHE_NAME, key = "#tenantId")
     public void deleteClient(UUID tenantId, UUID clientId) {
         Client client = getClientById(tenantId, clientId);
 
@@ -192,6 +211,7 @@ public class ClientService {
      * delete source).
      */
     @Transactional
+    @CacheEvict(cacheNames = ClientStatsCacheEvictor.CACHE_NAME, key = "#tenantId")
     public Client mergeClients(UUID tenantId, UUID sourceClientId, UUID targetClientId) {
         Client sourceClient = getClientById(tenantId, sourceClientId);
         Client targetClient = getClientById(tenantId, targetClientId);
@@ -277,4 +297,8 @@ public class ClientService {
 
         return createClient(tenantId, request);
     }
+
+    private static KeysetCursor cursorOf(Client client) {
+        return KeysetCursor.of(client.getLastName(), client.getId());
+    }
 }
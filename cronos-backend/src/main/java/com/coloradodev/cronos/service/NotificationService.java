@@ -3,167 +3,245 @@ package com.coloradodev.cronos.service;
 import com.coloradodev.cronos.domain.Booking;
 import com.coloradodev.cronos.domain.Notification;
 import com.coloradodev.cronos.domain.Notification.NotificationStatus;
+import com.coloradodev.cronos.domain.Notification.RecipientType;
+import com.coloradodev.cronos.domain.OutboxEvent.EventType;
 import com.coloradodev.cronos.domain.Staff;
 import com.coloradodev.cronos.repository.NotificationRepository;
-import com.coloradodev.cronos.service.notification.EmailNotificationProvider;
+import com.coloradodev.cronos.repository.projection.NotificationQueueStats;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
- * Service for sending and logging notifications.
+ * Service for queueing notifications.
+ * <p>
+ * Notifications are stored PENDING in the caller's transaction and sent later by
+ * {@link com.coloradodev.cronos.task.NotificationDispatcher}, so a slow or failing provider
+ * never holds up the request that triggered the notification. Booking notifications keep
+ * a reference to the booking and are rendered from its state at send time.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
+    public static final String CHANNEL_EMAIL = "EMAIL";
+    public static final String TYPE_BOOKING_CONFIRMATION = "BOOKING_CONFIRMATION";
+    public static final String TYPE_BOOKING_CANCELLATION = "BOOKING_CANCELLATION";
+    public static final String TYPE_BOOKING_RESCHEDULE = "BOOKING_RESCHEDULE";
+    public static final String TYPE_APPOINTMENT_REMINDER = "APPOINTMENT_REMINDER";
+    public static final String TYPE_STAFF_NOTIFICATION = "STAFF_NOTIFICATION";
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+    private static final int MAX_ERROR_LENGTH = 2000;
+
     private final NotificationRepository notificationRepository;
-    private final EmailNotificationProvider emailProvider;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.notifications.dispatch.lease-seconds:300}")
+    private long leaseSeconds;
 
     /**
-     * Send booking confirmation notification.
+     * Queue a booking confirmation notification.
      */
     @Transactional
-    public Notification sendBookingConfirmation(Booking booking) {
-        boolean sent = emailProvider.sendBookingConfirmation(booking);
-
-        return logNotification(
-                booking.getTenantId(),
-                booking.getClientId(),
-                "BOOKING_CONFIRMATION",
-                "EMAIL",
-                "Your booking has been received",
-                buildBookingMessage(booking, "confirmed"),
-                sent);
+    public Notification queueBookingConfirmation(Booking booking) {
+        return notificationRepository.save(buildBookingNotification(booking, TYPE_BOOKING_CONFIRMATION,
+                "Your booking has been received", buildBookingMessage(booking, "confirmed"), Map.of()));
     }
 
     /**
-     * Send appointment reminder notification.
+     * Queue an appointment reminder notification.
+     *
+     * @param hoursBefore hours left until the appointment, shown in the email
      */
     @Transactional
-    public Notification sendAppointmentReminder(Booking booking) {
-        boolean sent = emailProvider.sendAppointmentReminder(booking, 24);
-
-        return logNotification(
-                booking.getTenantId(),
-                booking.getClientId(),
-                "APPOINTMENT_REMINDER",
-                "EMAIL",
-                "Reminder: Your appointment tomorrow",
-                buildBookingMessage(booking, "reminder"),
-                sent);
+    public Notification queueAppointmentReminder(Booking booking, int hoursBefore) {
+        return notificationRepository.save(buildBookingNotification(booking, TYPE_APPOINTMENT_REMINDER,
+                "Reminder: Your upcoming appointment", buildBookingMessage(booking, "reminder"),
+                Map.of("hoursBefore", Integer.toString(hoursBefore))));
     }
 
     /**
-     * Send cancellation notification.
+     * Queue a cancellation notification.
      */
     @Transactional
-    public Notification sendCancellationNotification(Booking booking, String reason) {
-        boolean sent = emailProvider.sendBookingCancellation(booking, reason);
-
-        return logNotification(
-                booking.getTenantId(),
-                booking.getClientId(),
-                "BOOKING_CANCELLATION",
-                "EMAIL",
+    public Notification queueCancellationNotification(Booking booking, String reason) {
+        return notificationRepository.save(buildBookingNotification(booking, TYPE_BOOKING_CANCELLATION,
                 "Your booking has been cancelled",
                 "Your booking has been cancelled. Reason: " + (reason != null ? reason : "Not specified"),
-                sent);
+                reason != null ? Map.of("reason", reason) : Map.of()));
     }
 
     /**
-     * Send reschedule notification.
+     * Queue a reschedule notification.
      */
     @Transactional
-    public Notification sendRescheduleNotification(Booking booking, LocalDateTime oldTime) {
-        boolean sent = emailProvider.sendBookingReschedule(
-                booking,
-                oldTime.toString(),
-                booking.getStartTime().toString());
-
-        return logNotification(
-                booking.getTenantId(),
-                booking.getClientId(),
-                "BOOKING_RESCHEDULE",
-                "EMAIL",
+    public Notification queueRescheduleNotification(Booking booking, LocalDateTime oldTime) {
+        return notificationRepository.save(buildBookingNotification(booking, TYPE_BOOKING_RESCHEDULE,
                 "Your booking has been rescheduled",
                 "Your booking has been rescheduled from " + oldTime + " to " + booking.getStartTime(),
-                sent);
+                Map.of("oldStartTime", oldTime.toString())));
     }
 
     /**
-     * Send notification to a staff member.
+     * Queue a notification to a staff member.
      */
     @Transactional
-    public Notification sendStaffNotification(UUID tenantId, Staff staff, String subject, String message) {
-        boolean sent = emailProvider.sendStaffNotification(staff, subject, message);
+    public Notification queueStaffNotification(UUID tenantId, Staff staff, String subject, String message) {
+        Notification notification = buildNotification(tenantId, staff.getUserId(), TYPE_STAFF_NOTIFICATION,
+                CHANNEL_EMAIL, subject, message);
+        notification.setRecipientType(RecipientType.STAFF);
+        return notificationRepository.save(notification);
+    }
 
-        return logNotification(
-                tenantId,
-                staff.getUserId(),
-                "STAFF_NOTIFICATION",
-                "EMAIL",
-                subject,
-                message,
-                sent);
+    /**
+     * Build the client notification for a booking lifecycle event delivered from the outbox.
+     * The returned notification is not saved; callers persist it in bulk via {@link #saveAll}.
+     *
+     * @return the notification, or null if the booking has no client to notify
+     */
+    public Notification buildBookingEventNotification(EventType eventType, Booking booking,
+            Map<String, String> payload) {
+        if (booking.getClientEmail() == null || booking.getClientId() == null) {
+            return null;
+        }
+
+        return switch (eventType) {
+            case BOOKING_CREATED -> buildBookingNotification(booking, TYPE_BOOKING_CONFIRMATION,
+                    "Your booking has been received", buildBookingMessage(booking, "received"), Map.of());
+            case BOOKING_CONFIRMED -> buildBookingNotification(booking, TYPE_BOOKING_CONFIRMATION,
+                    "Your booking has been confirmed", buildBookingMessage(booking, "confirmed"), Map.of());
+            case BOOKING_CANCELLED -> {
+                String reason = payload.get("reason");
+                yield buildBookingNotification(booking, TYPE_BOOKING_CANCELLATION,
+                        "Your booking has been cancelled",
+                        "Your booking has been cancelled. Reason: " + (reason != null ? reason : "Not specified"),
+                        reason != null ? Map.of("reason", reason) : Map.of());
+            }
+            case BOOKING_RESCHEDULED -> {
+                String oldTime = payload.get("oldStartTime");
+                yield buildBookingNotification(booking, TYPE_BOOKING_RESCHEDULE,
+                        "Your booking has been rescheduled",
+                        "Your booking has been rescheduled from " + oldTime + " to " + booking.getStartTime(),
+                        oldTime != null ? Map.of("oldStartTime", oldTime) : Map.of());
+            }
+            default -> null;
+        };
     }
 
     /**
-     * Log a notification to the database.
+     * Persist a batch of notifications in one transaction.
      */
     @Transactional
-    public Notification logNotification(UUID tenantId, UUID recipientId, String type,
-            String channel, String subject, String content, boolean sent) {
-        Notification notification = new Notification();
-        notification.setTenantId(tenantId);
-        notification.setRecipientId(recipientId);
-        notification.setType(type);
-        notification.setChannel(channel);
-        notification.setSubject(subject);
-        notification.setContent(content);
-        notification.setStatus(sent ? NotificationStatus.SENT : NotificationStatus.FAILED);
-        notification.setSentAt(sent ? LocalDateTime.now() : null);
-
-        Notification saved = notificationRepository.save(notification);
-
-        log.debug("Logged notification {} to {} via {}", type, recipientId, channel);
-        return saved;
+    public void saveAll(List<Notification> notifications) {
+        if (!notifications.isEmpty()) {
+            notificationRepository.saveAll(notifications);
+            log.debug("Queued {} notifications", notifications.size());
+        }
     }
 
     /**
-     * Get pending notifications for retry.
+     * Claim up to {@code limit} due notifications of one channel for sending. Claimed rows are
+     * leased for {@code app.notifications.dispatch.lease-seconds}; if they are not resolved
+     * by then, they become due again.
      */
-    @Transactional(readOnly = true)
-    public java.util.List<Notification> getPendingNotifications() {
-        return notificationRepository.findByStatus(NotificationStatus.PENDING);
+    @Transactional
+    public List<Notification> claimBatch(String channel, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = notificationRepository.lockDue(channel, now, limit);
+        if (!notifications.isEmpty()) {
+            notificationRepository.markSending(notifications.stream().map(Notification::getId).toList(),
+                    now.plusSeconds(leaseSeconds));
+        }
+        return notifications;
     }
 
     /**
-     * Mark notification as sent.
+     * Mark sent notifications in one statement.
      */
     @Transactional
-    public void markAsSent(UUID notificationId) {
-        notificationRepository.findById(notificationId).ifPresent(notification -> {
-            notification.setStatus(NotificationStatus.SENT);
-            notification.setSentAt(LocalDateTime.now());
-            notificationRepository.save(notification);
-        });
+    public void markSent(Collection<UUID> notificationIds) {
+        if (!notificationIds.isEmpty()) {
+            notificationRepository.markSent(notificationIds, LocalDateTime.now());
+        }
     }
 
     /**
-     * Mark notification as failed.
+     * Record a failed send attempt: retry at {@code nextAttemptAt}, or give up if it is null.
      */
     @Transactional
-    public void markAsFailed(UUID notificationId) {
-        notificationRepository.findById(notificationId).ifPresent(notification -> {
-            notification.setStatus(NotificationStatus.FAILED);
-            notificationRepository.save(notification);
-        });
+    public void markAttemptFailed(UUID notificationId, LocalDateTime nextAttemptAt, String error) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        if (nextAttemptAt != null) {
+            notificationRepository.scheduleRetry(notificationId, nextAttemptAt, truncated);
+        } else {
+            notificationRepository.markFailed(notificationId, truncated);
+        }
+    }
+
+    /**
+     * Undelivered notifications per channel.
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationQueueStats> getQueueStats() {
+        return notificationRepository.getQueueStats();
+    }
+
+    public Map<String, String> readPayload(Notification notification) {
+        if (notification.getPayload() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(notification.getPayload(), PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload in notification " + notification.getId(), e);
+        }
+    }
+
+    private Notification buildBookingNotification(Booking booking, String type, String subject, String content,
+            Map<String, String> payload) {
+        Notification notification = buildNotification(booking.getTenantId(), booking.getClientId(), type,
+                CHANNEL_EMAIL, subject, content);
+        notification.setRecipientType(RecipientType.CLIENT);
+        notification.setBookingId(booking.getId());
+        notification.setPayload(payload.isEmpty() ? null : writePayload(payload));
+        return notification;
+    }
+
+    private Notification buildNotification(UUID tenantId, UUID recipientId, String type,
+            String channel, String subject, String content) {
+        Notification notification = new Notification();
+        notification.setTenantId(tenantId);
+        notification.setRecipientId(recipientId);
+        notification.setType(type);
+        notification.setChannel(channel);
+        notification.setSubject(subject);
+        notification.setContent(content);
+        notification.setStatus(NotificationStatus.PENDING);
+        return notification;
+    }
+
+    private String writePayload(Map<String, String> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize notification payload", e);
+        }
     }
 
     private String buildBookingMessage(Booking booking, String action) {
@@ -0,0 +1,131 @@
+package com.coloradodev.cronos.service;
+
+import com.coloradodev.cronos.domain.OutboxEvent;
+import com.coloradodev.cronos.domain.OutboxEvent.EventType;
+import com.coloradodev.cronos.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service for the transactional outbox.
+ * <p>
+ * Events are written in the caller's transaction, so they exist exactly when the state
+ * change they describe was committed. Delivery happens later in
+ * {@link com.coloradodev.cronos.task.OutboxDispatcher}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.outbox.retention-days:7}")
+    private long retentionDays;
+
+    /**
+     * Record an event as part of the current transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent enqueue(UUID tenantId, String aggregateType, UUID aggregateId, EventType eventType,
+            Map<String, String> payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setTenantId(tenantId);
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        event.setPayload(writePayload(payload));
+
+        OutboxEvent saved = outboxEventRepository.save(event);
+        log.debug("Enqueued outbox event {} for {} {}", eventType, aggregateType, aggregateId);
+        return saved;
+    }
+
+    /**
+     * Claim up to {@code limit} due events for delivery. Claimed events are leased for
+     * {@code app.outbox.lease-seconds}; if they are not resolved by then, they become due again.
+     */
+    @Transactional
+    public List<OutboxEvent> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockDueEvents(now, limit);
+        if (!events.isEmpty()) {
+            outboxEventRepository.markProcessing(events.stream().map(OutboxEvent::getId).toList(),
+                    now.plusSeconds(leaseSeconds));
+        }
+        return events;
+    }
+
+    /**
+     * Mark delivered events as published in one statement.
+     */
+    @Transactional
+    public void markPublished(Collection<UUID> eventIds) {
+        if (!eventIds.isEmpty()) {
+            outboxEventRepository.markPublished(eventIds, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Record a failed delivery attempt: retry at {@code nextAttemptAt}, or give up if it is null.
+     */
+    @Transactional
+    public void markAttemptFailed(UUID eventId, LocalDateTime nextAttemptAt, String error) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        if (nextAttemptAt != null) {
+            outboxEventRepository.scheduleRetry(eventId, nextAttemptAt, truncated);
+        } else {
+            outboxEventRepository.markFailed(eventId, LocalDateTime.now(), truncated);
+        }
+    }
+
+    public Map<String, String> readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload in outbox event " + event.getId(), e);
+        }
+    }
+
+    /**
+     * Delete published events past the retention period. Scheduled by {@code ScheduledTasks}.
+     */
+    @Transactional
+    public void purgePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+
+    private String writePayload(Map<String, String> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox payload", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.coloradodev.cronos.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly range partitions of {@code audit_logs} and {@code notifications}.
+ * <p>
+ * Upcoming months are created ahead of time with the {@code create_monthly_partition}
+ * database function, since a row whose month has no partition cannot be inserted.
+ * Months past their table's retention are dropped (or detached, for archiving) as a whole.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionService {
+
+    public static final String AUDIT_LOGS = "audit_logs";
+    public static final String NOTIFICATIONS = "notifications";
+
+    private static final Pattern PARTITION_SUFFIX = Pattern.compile("_(\\d{4})_(\\d{2})$");
+
+    public enum ExpiredAction {
+        DROP,
+        DETACH
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.partitions.audit-logs.retention-months:24}")
+    private int auditLogRetentionMonths;
+
+    @Value("${app.partitions.notifications.retention-months:6}")
+    private int notificationRetentionMonths;
+
+    @Value("${app.partitions.expired-action:DROP}")
+    private ExpiredAction expiredAction;
+
+    /**
+     * Create the partitions from the current month through {@code app.partitions.months-ahead}.
+     * Existing partitions are left alone.
+     */
+    public void ensurePartitions() {
+        for (String table : retentionMonths().keySet()) {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM create_monthly_partitions(?, CURRENT_DATE, ?)",
+                    Long.class, table, monthsAhead);
+        }
+        log.debug("Ensured partitions {} months ahead", monthsAhead);
+    }
+
+    /**
+     * Drop or detach the partitions whose whole month lies outside the retention period.
+     *
+     * @return number of partitions removed
+     */
+    public int removeExpiredPartitions() {
+        int removed = 0;
+        YearMonth now = YearMonth.now();
+        for (Map.Entry<String, Integer> entry : retentionMonths().entrySet()) {
+            String table = entry.getKey();
+            List<String> partitions = jdbcTemplate.queryForList(
+                    "SELECT c.relname FROM pg_inherits i "
+                            + "JOIN pg_class c ON c.oid = i.inhrelid "
+                            + "JOIN pg_class p ON p.oid = i.inhparent "
+                            + "WHERE p.relname = ?",
+                    String.class, table);
+
+            for (String partition : expiredPartitions(table, partitions, now.minusMonths(entry.getValue()))) {
+                // Names were matched against the <table>_YYYY_MM pattern, so they are safe to inline
+                if (expiredAction == ExpiredAction.DETACH) {
+                    jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                } else {
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                }
+                log.info("{} expired partition {}", expiredAction == ExpiredAction.DETACH ? "Detached" : "Dropped",
+                        partition);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Select the partitions of {@code table} for months before {@code oldestKept}.
+     * Names that do not follow the {@code <table>_YYYY_MM} scheme are never selected.
+     */
+    static List<String> expiredPartitions(String table, List<String> partitions, YearMonth oldestKept) {
+        List<String> expired = new ArrayList<>();
+        for (String partition : partitions) {
+            if (!partition.startsWith(table + "_")) {
+                continue;
+            }
+            Matcher matcher = PARTITION_SUFFIX.matcher(partition);
+            if (!matcher.find() || matcher.start() != table.length()) {
+                continue;
+            }
+            int month = Integer.parseInt(matcher.group(2));
+            if (month < 1 || month > 12) {
+                continue;
+            }
+            if (YearMonth.of(Integer.parseInt(matcher.group(1)), month).isBefore(oldestKept)) {
+                expired.add(partition);
+            }
+        }
+        expired.sort(null);
+        return expired;
+    }
+
+    private Map<String, Integer> retentionMonths() {
+        return Map.of(AUDIT_LOGS, auditLogRetentionMonths, NOTIFICATIONS, notificationRetentionMonths);
+    }
+}
@@ -1,16 +1,24 @@
 package com.coloradodev.cronos.service;
 
+import com.coloradodev.cronos.core.event.DomainEventBus;
+import com.coloradodev.cronos.core.pagination.CursorPage;
+import com.coloradodev.cronos.core.pagination.KeysetCursor;
+import com.coloradodev.cronos.core.pagination.PageCount;
+import com.coloradodev.cronos.core.pagination.PageCounter;
+import com.coloradodev.cronos.core.pagination.PageQuery;
+import com.coloradodev.cronos.domain.OutboxEvent.EventType;
 import com.coloradodev.cronos.domain.Payment;
 import com.coloradodev.cronos.domain.Payment.PaymentStatus;
+import com.coloradodev.cronos.domain.event.PaymentCompleted;
+import com.coloradodev.cronos.domain.event.PaymentRefunded;
 import com.coloradodev.cronos.exception.BusinessRuleException;
 import com.coloradodev.cronos.exception.ResourceNotFoundException;
 import com.coloradodev.cronos.repository.PaymentRepository;
 import com.coloradodev.cronos.service.payment.PaymentProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,9 +36,14 @@ import java.util.UUID;
 @Slf4j
 public class PaymentService {
 
+    private static final Sort PAYMENT_ORDER = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final PaymentRepository paymentRepository;
     private final PaymentProvider paymentProvider;
     private final AuditService auditService;
+    private final OutboxService outboxService;
+    private final DomainEventBus domainEventBus;
+    private final PageCounter pageCounter;
 
     /**
      * Create a payment record for a booking.
@@ -77,6 +90,10 @@ public class PaymentService {
                     Map.of("status", "PENDING"),
                     Map.of("status", "COMPLETED", "transactionId", transactionId));
 
+            outboxService.enqueue(tenantId, "Payment", paymentId, EventType.PAYMENT_COMPLETED,
+                    Map.of("bookingId", String.valueOf(payment.getBookingId()), "transactionId", transactionId));
+            domainEventBus.publish(PaymentCompleted.of(payment));
+
             log.info("Payment {} processed successfully. Transaction: {}", paymentId, transactionId);
         } else {
             payment.setStatus(PaymentStatus.FAILED);
@@ -85,6 +102,9 @@ public class PaymentService {
                     Map.of("status", "PENDING"),
                     Map.of("status", "FAILED"));
 
+            outboxService.enqueue(tenantId, "Payment", paymentId, EventType.PAYMENT_FAILED,
+                    Map.of("bookingId", String.valueOf(payment.getBookingId())));
+
             log.warn("Payment {} processing failed", paymentId);
         }
 
@@ -121,6 +141,10 @@ public class PaymentService {
                     Map.of("status", "COMPLETED"),
                     Map.of("status", "REFUNDED", "refundAmount", amount, "reason", reason));
 
+            outboxService.enqueue(tenantId, "Payment", paymentId, EventType.PAYMENT_REFUNDED,
+                    Map.of("bookingId", String.valueOf(payment.getBookingId()), "refundAmount", amount.toString()));
+            domainEventBus.publish(PaymentRefunded.of(payment));
+
             log.info("Payment {} refunded ${} - {}", paymentId, amount, reason);
         } else {
             throw new BusinessRuleException("REFUND_FAILED", "Refund processing failed");
@@ -147,20 +171,22 @@ public class PaymentService {
     }
 
     /**
-     * Get payments for a tenant with pagination.
+     * Get payments for a tenant with pagination, newest first.
      */
     @Transactional(readOnly = true)
-    public Page<Payment> getPaymentsByTenant(UUID tenantId, Pageable pageable) {
-        List<Payment> payments = paymentRepository.findByTenantId(tenantId);
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), payments.size());
-
-        if (start > payments.size()) {
-            return new PageImpl<>(List.of(), pageable, payments.size());
+    public CursorPage<Payment> getPaymentsByTenant(UUID tenantId, PageQuery query) {
+        PageCount count = pageCounter.count(query.count(), "payments", "tenant_id = :tenantId",
+                Map.of("tenantId", tenantId));
+
+        if (query.hasCursor()) {
+            KeysetCursor after = query.decodeCursor();
+            List<Payment> rows = paymentRepository.findPageBefore(tenantId, after.timeKey(), after.id(),
+                    query.fetchSize());
+            return CursorPage.fromRows(rows, query, PaymentService::cursorOf, count);
         }
 
-        return new PageImpl<>(payments.subList(start, end), pageable, payments.size());
+        Slice<Payment> slice = paymentRepository.findSliceByTenantId(tenantId, query.toPageable(PAYMENT_ORDER));
+        return CursorPage.fromSlice(slice, PaymentService::cursorOf, count);
     }
 
     /**
@@ -184,4 +210,8 @@ public class PaymentService {
                 .map(Payment::getAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
+
+    private static KeysetCursor cursorOf(Payment payment) {
+        return KeysetCursor.of(payment.getCreatedAt(), payment.getId());
+    }
 }
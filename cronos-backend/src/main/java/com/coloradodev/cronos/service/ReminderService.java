@@ -0,0 +1,198 @@
+package com.coloradodev.cronos.service;
+
+import com.coloradodev.cronos.core.cluster.TenantShard;
+import com.coloradodev.cronos.core.tenant.TenantTimezones;
+import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.embedded.ClientPreferences;
+import com.coloradodev.cronos.repository.BookingRepository;
+import com.coloradodev.cronos.repository.projection.ReminderCandidate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Works out when each booking's appointment reminder is due and queues it.
+ * <p>
+ * A reminder is due {@code reminderHours} before the appointment, as set in the client's
+ * preferences. Booking times are local times of the tenant's timezone; clients without a
+ * timezone of their own are assumed to be in it too. If the reminder falls into the quiet
+ * hours of the client's timezone it is moved back to the start of the quiet hours, so clients
+ * are not messaged at night. Queueing sets
+ * {@code reminder_sent_at} under a row lock, so a booking is reminded at most once.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReminderService {
+
+    private final BookingRepository bookingRepository;
+    private final NotificationService notificationService;
+    private final TenantTimezones tenantTimezones;
+
+    @Value("${app.reminders.default-hours:24}")
+    private int defaultHours;
+
+    @Value("${app.reminders.max-hours:168}")
+    private int maxHours;
+
+    @Value("${app.reminders.min-lead-minutes:60}")
+    private long minLeadMinutes;
+
+    @Value("${app.reminders.quiet-hours.start-hour:21}")
+    private int quietStartHour;
+
+    @Value("${app.reminders.quiet-hours.end-hour:8}")
+    private int quietEndHour;
+
+    /**
+     * A booking's reminder and when it is due.
+     */
+    public record DueReminder(UUID tenantId, UUID bookingId, Instant dueAt) {
+    }
+
+    /**
+     * Reminders not sent yet that fall due before {@code horizon}, including overdue ones,
+     * of the tenants in the given shards (all of the same shard count).
+     */
+    @Transactional(readOnly = true)
+    public List<DueReminder> findDueBefore(Instant horizon, Collection<TenantShard> shards) {
+        if (shards.isEmpty()) {
+            return List.of();
+        }
+        // Local times of every possible tenant timezone; toDueReminder applies the tenant's own
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.MIN);
+        // A reminder is due at most max-hours before its booking starts
+        LocalDateTime lastStart = LocalDateTime.ofInstant(horizon, ZoneOffset.MAX).plusHours(maxHours);
+        List<Integer> shardIndexes = shards.stream().map(TenantShard::index).toList();
+        int shardCount = shards.iterator().next().count();
+        List<DueReminder> due = new ArrayList<>();
+        for (ReminderCandidate candidate : bookingRepository.findReminderCandidates(now, lastStart,
+                shardIndexes, shardCount)) {
+            DueReminder reminder = toDueReminder(candidate);
+            if (reminder != null && reminder.dueAt().isBefore(horizon)) {
+                due.add(reminder);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Current reminders of the given bookings. Bookings that are not confirmed, already
+     * reminded or have reminders disabled are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<DueReminder> findDue(Collection<UUID> bookingIds) {
+        List<DueReminder> due = new ArrayList<>();
+        for (ReminderCandidate candidate : bookingRepository.findReminderCandidatesByIdIn(bookingIds)) {
+            DueReminder reminder = toDueReminder(candidate);
+            if (reminder != null) {
+                due.add(reminder);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Queue the reminders of the given bookings. Bookings that were cancelled, already started,
+     * or reminded by another instance in the meantime are skipped.
+     *
+     * @return number of reminders queued
+     */
+    @Transactional
+    public int queueReminders(Collection<UUID> bookingIds) {
+        List<Booking> bookings = bookingRepository.lockReminderDue(bookingIds, LocalDateTime.now(ZoneOffset.MIN));
+        if (bookings.isEmpty()) {
+            return 0;
+        }
+        bookingRepository.markReminderSent(bookings.stream().map(Booking::getId).toList(), LocalDateTime.now());
+        int queued = 0;
+        for (Booking booking : bookings) {
+            LocalDateTime now = LocalDateTime.now(tenantTimezones.zoneOf(booking.getTenantId()));
+            if (!booking.getStartTime().isAfter(now)) {
+                // Already started in the tenant's timezone; marked so it is not picked up again
+                continue;
+            }
+            long hoursBefore = Duration.between(now, booking.getStartTime()).toHours();
+            notificationService.queueAppointmentReminder(booking, (int) Math.max(1, hoursBefore));
+            queued++;
+        }
+        log.debug("Queued {} appointment reminders", queued);
+        return queued;
+    }
+
+    private DueReminder toDueReminder(ReminderCandidate candidate) {
+        ClientPreferences preferences = candidate.preferences();
+        if (preferences != null && Boolean.FALSE.equals(preferences.getReminderEnabled())) {
+            return null;
+        }
+        int hours = preferences != null && preferences.getReminderHours() != null
+                ? Math.max(1, Math.min(preferences.getReminderHours(), maxHours))
+                : defaultHours;
+        ZoneId bookingZone = tenantTimezones.zoneOf(candidate.tenantId());
+        ZoneId clientZone = clientZone(preferences, bookingZone);
+
+        Instant dueAt = reminderDueAt(candidate.startTime(), bookingZone, hours, clientZone,
+                LocalTime.of(quietStartHour, 0), LocalTime.of(quietEndHour, 0));
+        Instant start = candidate.startTime().atZone(bookingZone).toInstant();
+        Instant now = Instant.now();
+        if (dueAt.isBefore(now) && Duration.between(now, start).toMinutes() < minLeadMinutes) {
+            // Too close to the appointment to be worth a late reminder
+            return null;
+        }
+        return new DueReminder(candidate.tenantId(), candidate.bookingId(), dueAt);
+    }
+
+    /**
+     * When to send the reminder for an appointment starting at {@code startTime} (in
+     * {@code bookingZone}): {@code reminderHours} before it, moved back to {@code quietStart}
+     * if that lands inside the quiet hours in the client's timezone. Quiet hours may wrap
+     * past midnight; equal start and end disable them.
+     */
+    static Instant reminderDueAt(LocalDateTime startTime, ZoneId bookingZone, int reminderHours,
+            ZoneId clientZone, LocalTime quietStart, LocalTime quietEnd) {
+        ZonedDateTime due = startTime.atZone(bookingZone).minusHours(reminderHours).withZoneSameInstant(clientZone);
+        if (quietStart.equals(quietEnd)) {
+            return due.toInstant();
+        }
+
+        LocalTime time = due.toLocalTime();
+        boolean wraps = quietStart.isAfter(quietEnd);
+        boolean quiet = wraps
+                ? time.isAfter(quietStart) || time.isBefore(quietEnd)
+                : time.isAfter(quietStart) && time.isBefore(quietEnd);
+        if (!quiet) {
+            return due.toInstant();
+        }
+        // Early-morning times belong to the quiet period that started the evening before
+        ZonedDateTime quietBegan = wraps && time.isBefore(quietEnd)
+                ? due.minusDays(1).with(quietStart)
+                : due.with(quietStart);
+        return quietBegan.toInstant();
+    }
+
+    private ZoneId clientZone(ClientPreferences preferences, ZoneId bookingZone) {
+        if (preferences == null || preferences.getTimezone() == null) {
+            return bookingZone;
+        }
+        try {
+            return ZoneId.of(preferences.getTimezone());
+        } catch (DateTimeException e) {
+            return bookingZone;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.coloradodev.cronos.service;
+
+import com.coloradodev.cronos.core.cluster.JobLeaseManager;
+import com.coloradodev.cronos.domain.ReportJob;
+import com.coloradodev.cronos.domain.ReportJob.JobStatus;
+import com.coloradodev.cronos.domain.ReportJob.ReportType;
+import com.coloradodev.cronos.exception.BusinessRuleException;
+import com.coloradodev.cronos.exception.ResourceNotFoundException;
+import com.coloradodev.cronos.repository.ReportJobRepository;
+import com.coloradodev.cronos.service.report.ReportExporter;
+import com.coloradodev.cronos.service.storage.StorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Service for asynchronous report exports.
+ * <p>
+ * A submitted job is stored as QUEUED and run on the bounded {@code reportExecutor}. The
+ * export is streamed into a temporary gzip file, which is then copied to storage, so neither
+ * the request thread nor the heap ever holds the whole report.
+ * <p>
+ * Jobs belong to the node that queued them, which renews their heartbeat while they are
+ * queued or running. Jobs whose heartbeat stopped (the node went away) are failed by the
+ * cleanup, however long they have been waiting or running; state changes are conditional on
+ * the current status, so a job failed that way is never overwritten.
+ */
+@Service
+@Slf4j
+public class ReportJobService {
+
+    private static final String STORAGE_FOLDER = "reports";
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportExporter reportExporter;
+    private final StorageService storageService;
+    private final ThreadPoolTaskExecutor reportExecutor;
+    private final JobLeaseManager leaseManager;
+
+    @Value("${app.reports.max-range-days:1830}")
+    private long maxRangeDays;
+
+    @Value("${app.reports.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${app.reports.stale-after-minutes:5}")
+    private long staleAfterMinutes;
+
+    public ReportJobService(ReportJobRepository reportJobRepository,
+            ReportExporter reportExporter,
+            StorageService storageService,
+            @Qualifier("reportExecutor") ThreadPoolTaskExecutor reportExecutor,
+            JobLeaseManager leaseManager) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportExporter = reportExporter;
+        this.storageService = storageService;
+        this.reportExecutor = reportExecutor;
+        this.leaseManager = leaseManager;
+    }
+
+    /**
+     * Queue an export of {@code type} over [startDate, endDate].
+     */
+    public ReportJob submit(UUID tenantId, ReportType type, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessRuleException("INVALID_DATE_RANGE", "End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= maxRangeDays) {
+            throw new BusinessRuleException("INVALID_DATE_RANGE",
+                    "Report range cannot exceed " + maxRangeDays + " days");
+        }
+
+        ReportJob job = new ReportJob();
+        job.setTenantId(tenantId);
+        job.setReportType(type);
+        job.setStartDate(startDate);
+        job.setEndDate(endDate);
+        job.setExpiresAt(LocalDateTime.now().plusHours(retentionHours));
+        job.setOwner(leaseManager.getNodeId());
+        job.setHeartbeatAt(LocalDateTime.now());
+        ReportJob saved = reportJobRepository.save(job);
+
+        try {
+            reportExecutor.execute(() -> run(saved.getId()));
+        } catch (RejectedExecutionException e) {
+            fail(saved, "Report queue is full");
+            throw new BusinessRuleException("REPORT_QUEUE_FULL",
+                    "Too many reports are being generated, please try again later");
+        }
+
+        log.info("Queued {} report job {} for tenant {}", type, saved.getId(), tenantId);
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public ReportJob getJob(UUID tenantId, UUID jobId) {
+        return reportJobRepository.findByTenantIdAndId(tenantId, jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("ReportJob", jobId.toString()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReportJob> getRecentJobs(UUID tenantId) {
+        return reportJobRepository.findTop50ByTenantIdOrderByCreatedAtDesc(tenantId);
+    }
+
+    /**
+     * Open the finished file of a job. The caller closes the stream.
+     */
+    public InputStream openResult(ReportJob job) {
+        if (job.getStatus() != JobStatus.COMPLETED || job.getStorageKey() == null) {
+            throw new BusinessRuleException("REPORT_NOT_READY", "Report is not ready. Current status: "
+                    + job.getStatus());
+        }
+        return storageService.open(job.getStorageKey());
+    }
+
+    /**
+     * Renew the heartbeat of the jobs queued or running on this node.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        reportJobRepository.heartbeat(leaseManager.getNodeId(), LocalDateTime.now());
+    }
+
+    /**
+     * Fail jobs orphaned by a stopped node and delete expired jobs with their files.
+     * Scheduled by {@code ScheduledTasks}.
+     */
+    @Transactional
+    public void cleanupJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int stale = reportJobRepository.failStaleJobs(now.minusMinutes(staleAfterMinutes),
+                "Report generation was interrupted", now);
+        if (stale > 0) {
+            log.warn("Marked {} interrupted report jobs as failed", stale);
+        }
+
+        List<ReportJob> expired = reportJobRepository.findByExpiresAtBefore(now);
+        for (ReportJob job : expired) {
+            if (job.getStorageKey() != null) {
+                storageService.delete(job.getStorageKey());
+            }
+        }
+        reportJobRepository.deleteAll(expired);
+        if (!expired.isEmpty()) {
+            log.info("Deleted {} expired report jobs", expired.size());
+        }
+    }
+
+    private void run(UUID jobId) {
+        ReportJob job = reportJobRepository.findById(jobId).orElse(null);
+        if (job == null || reportJobRepository.start(jobId, LocalDateTime.now()) == 0) {
+            log.warn("Report job {} is no longer queued, skipping it", jobId);
+            return;
+        }
+
+        Path file = null;
+        try {
+            file = Files.createTempFile("report-" + jobId, ".csv.gz");
+            long rows;
+            try (OutputStream out = Files.newOutputStream(file)) {
+                rows = reportExporter.export(job, out);
+            }
+
+            String key = STORAGE_FOLDER + "/" + job.getTenantId() + "/" + jobId + ".csv.gz";
+            try (InputStream in = Files.newInputStream(file)) {
+                storageService.store(key, in);
+            }
+
+            long size = Files.size(file);
+            if (reportJobRepository.complete(jobId, key, rows, size, LocalDateTime.now()) == 0) {
+                // Failed as stale meanwhile; do not resurrect it
+                log.warn("Report job {} is no longer running, discarding its result", jobId);
+                storageService.delete(key);
+                return;
+            }
+
+            log.info("Report job {} completed: {} rows, {} bytes", jobId, rows, size);
+        } catch (Exception e) {
+            log.error("Report job {} failed", jobId, e);
+            fail(job, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Could not delete temporary report file {}", file, e);
+                }
+            }
+        }
+    }
+
+    private void fail(ReportJob job, String error) {
+        reportJobRepository.fail(job.getId(),
+                error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+                LocalDateTime.now());
+    }
+}
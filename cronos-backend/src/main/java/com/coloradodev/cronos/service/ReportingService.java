@@ -1,14 +1,21 @@
 package com.coloradodev.cronos.service;
 
-import com.coloradodev.cronos.domain.Booking;
 import com.coloradodev.cronos.domain.Booking.BookingStatus;
-import com.coloradodev.cronos.domain.Payment;
+import com.coloradodev.cronos.domain.BookingDailyStat;
 import com.coloradodev.cronos.domain.Payment.PaymentStatus;
 import com.coloradodev.cronos.repository.BookingRepository;
 import com.coloradodev.cronos.repository.ClientRepository;
 import com.coloradodev.cronos.repository.PaymentRepository;
+import com.coloradodev.cronos.repository.projection.BookingStatCount;
+import com.coloradodev.cronos.repository.projection.ClientBookingCount;
+import com.coloradodev.cronos.repository.projection.ClientVisitStats;
+import com.coloradodev.cronos.repository.projection.RevenueByGroup;
+import com.coloradodev.cronos.repository.projection.RevenueByMethod;
+import com.coloradodev.cronos.service.analytics.ClientAnalytics;
+import com.coloradodev.cronos.service.analytics.ClientStatsCacheEvictor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,49 +23,58 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for generating business reports and analytics.
+ * Booking reports read the {@code booking_daily_stats} rollup, so their cost grows with the
+ * number of days in the range rather than the number of bookings. Revenue is summed per group
+ * in the database.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReportingService {
 
+        /**
+         * Payments that brought in money. A refunded payment still counts as revenue when it was
+         * paid; the refund is subtracted in the period it was issued.
+         */
+        private static final List<PaymentStatus> PAID_STATUSES = List.of(PaymentStatus.COMPLETED,
+                        PaymentStatus.REFUNDED);
+        private static final int TOP_CLIENTS = 10;
+
         private final BookingRepository bookingRepository;
         private final PaymentRepository paymentRepository;
         private final ClientRepository clientRepository;
+        private final BookingStatsService bookingStatsService;
 
         /**
          * Get appointment statistics for a date range.
          */
         @Transactional(readOnly = true)
         public AppointmentStats getAppointmentStats(UUID tenantId, LocalDate startDate, LocalDate endDate) {
-                LocalDateTime start = LocalDateTime.of(startDate, LocalTime.MIN);
-                LocalDateTime end = LocalDateTime.of(endDate, LocalTime.MAX);
-
-                List<Booking> bookings = bookingRepository.findByTenantIdAndDateRange(tenantId, start, end);
+                List<BookingStatCount> counts = bookingStatsService.getCounts(tenantId, startDate, endDate);
 
                 // Count by status
-                Map<BookingStatus, Long> byStatus = bookings.stream()
-                                .collect(Collectors.groupingBy(Booking::getStatus, Collectors.counting()));
+                Map<BookingStatus, Long> byStatus = counts.stream()
+                                .collect(Collectors.groupingBy(BookingStatCount::status,
+                                                Collectors.summingLong(BookingStatCount::count)));
 
                 // Count by service
-                Map<UUID, Long> byService = bookings.stream()
-                                .collect(Collectors.groupingBy(Booking::getServiceId, Collectors.counting()));
+                Map<UUID, Long> byService = sumByService(counts);
 
                 // Count by staff
-                Map<UUID, Long> byStaff = bookings.stream()
-                                .filter(b -> b.getStaffId() != null)
-                                .collect(Collectors.groupingBy(Booking::getStaffId, Collectors.counting()));
+                Map<UUID, Long> byStaff = sumByStaff(counts);
 
                 return new AppointmentStats(
-                                bookings.size(),
+                                (int) total(counts),
                                 byStatus.getOrDefault(BookingStatus.CONFIRMED, 0L),
                                 byStatus.getOrDefault(BookingStatus.CANCELLED, 0L),
                                 byStatus.getOrDefault(BookingStatus.NO_SHOW, 0L),
@@ -75,91 +91,75 @@ public class ReportingService {
                 LocalDateTime start = LocalDateTime.of(startDate, LocalTime.MIN);
                 LocalDateTime end = LocalDateTime.of(endDate, LocalTime.MAX);
 
-                List<Payment> payments = paymentRepository.findByTenantIdAndPaidAtBetween(tenantId, start, end)
-                                .stream()
-                                .filter(p -> p.getStatus() == PaymentStatus.COMPLETED)
-                                .toList();
-
-                BigDecimal totalRevenue = payments.stream()
-                                .map(Payment::getAmount)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
                 // Revenue by payment method
-                Map<String, BigDecimal> byMethod = payments.stream()
+                List<RevenueByMethod> methods = paymentRepository.sumAmountByMethod(tenantId, PAID_STATUSES,
+                                start, end);
+                Map<String, BigDecimal> byMethod = methods.stream()
                                 .collect(Collectors.toMap(
-                                                p -> p.getMethod() != null ? p.getMethod().name() : "UNKNOWN",
-                                                Payment::getAmount,
+                                                r -> r.method() != null ? r.method().name() : "UNKNOWN",
+                                                RevenueByMethod::amount,
                                                 BigDecimal::add));
 
-                // Revenue by booking (to link to services)
-                Map<UUID, BigDecimal> byBooking = payments.stream()
-                                .filter(p -> p.getBookingId() != null)
-                                .collect(Collectors.groupingBy(
-                                                Payment::getBookingId,
-                                                Collectors.reducing(BigDecimal.ZERO, Payment::getAmount,
-                                                                BigDecimal::add)));
+                BigDecimal totalRevenue = methods.stream()
+                                .map(RevenueByMethod::amount)
+                                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                long transactionCount = methods.stream()
+                                .mapToLong(RevenueByMethod::count)
+                                .sum();
+
+                // Revenue by service and staff of the paid booking
+                Map<UUID, BigDecimal> byService = byGroup(
+                                paymentRepository.sumAmountByService(tenantId, PAID_STATUSES, start, end));
+                Map<UUID, BigDecimal> byStaff = byGroup(
+                                paymentRepository.sumAmountByStaff(tenantId, PAID_STATUSES, start, end));
 
                 // Refunds
-                BigDecimal totalRefunds = paymentRepository.findByTenantIdAndStatus(tenantId, PaymentStatus.REFUNDED)
-                                .stream()
-                                .filter(p -> p.getRefundedAt() != null &&
-                                                !p.getRefundedAt().isBefore(start) &&
-                                                !p.getRefundedAt().isAfter(end))
-                                .map(p -> p.getRefundAmount() != null ? p.getRefundAmount() : BigDecimal.ZERO)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                BigDecimal totalRefunds = paymentRepository.sumRefundAmount(tenantId, start, end);
+                if (totalRefunds == null) {
+                        totalRefunds = BigDecimal.ZERO;
+                }
 
                 return new RevenueReport(
                                 totalRevenue,
                                 totalRefunds,
                                 totalRevenue.subtract(totalRefunds),
-                                payments.size(),
+                                (int) transactionCount,
                                 byMethod,
-                                byBooking);
+                                byService,
+                                byStaff);
         }
 
         /**
-         * Get client statistics.
+         * Get client statistics. Computed in one pass over per-client aggregates and cached per
+         * tenant until one of its bookings or clients changes.
          */
         @Transactional(readOnly = true)
+        @Cacheable(cacheNames = ClientStatsCacheEvictor.CACHE_NAME, key = "#tenantId")
         public ClientStats getClientStats(UUID tenantId) {
-                var clients = clientRepository.findByTenantId(tenantId);
-                int totalClients = clients.size();
+                long totalClients = clientRepository.countByTenantId(tenantId);
 
                 // New clients this month
                 LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
-                long newClientsThisMonth = clients.stream()
-                                .filter(c -> c.getCreatedAt() != null && !c.getCreatedAt().isBefore(startOfMonth))
-                                .count();
-
-                // Clients with bookings (returning clients indicator)
-                Map<UUID, Long> bookingCounts = new HashMap<>();
-                for (var client : clients) {
-                        long count = bookingRepository
-                                        .findByTenantIdAndClientIdOrderByCreatedAtDesc(tenantId, client.getId())
-                                        .size();
-                        if (count > 0) {
-                                bookingCounts.put(client.getId(), count);
-                        }
-                }
+                long newClientsThisMonth = clientRepository.countByTenantIdAndCreatedAtGreaterThanEqual(
+                                tenantId, startOfMonth);
 
-                long clientsWithBookings = bookingCounts.size();
-                long returningClients = bookingCounts.values().stream()
-                                .filter(count -> count > 1)
-                                .count();
+                // Booking counts, returning clients and top clients
+                ClientAnalytics analytics = new ClientAnalytics(TOP_CLIENTS);
+                try (Stream<ClientVisitStats> rows = bookingRepository.streamClientVisitStats(tenantId)) {
+                        rows.forEach(analytics::accept);
+                }
 
-                // Top clients by booking count
-                List<Map.Entry<UUID, Long>> topClients = bookingCounts.entrySet().stream()
-                                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
-                                .limit(10)
-                                .toList();
+                List<ClientVisitStats> topClients = analytics.getTopClients();
+                Map<UUID, Long> topClientsByBookings = new LinkedHashMap<>();
+                topClients.forEach(c -> topClientsByBookings.put(c.clientId(), c.bookingCount()));
 
                 return new ClientStats(
-                                totalClients,
+                                (int) totalClients,
                                 newClientsThisMonth,
-                                clientsWithBookings,
-                                returningClients,
-                                topClients.stream()
-                                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+                                analytics.getClientsWithBookings(),
+                                analytics.getReturningClients(),
+                                Collections.unmodifiableMap(topClientsByBookings),
+                                topClients);
         }
 
         /**
@@ -168,32 +168,26 @@ public class ReportingService {
         @Transactional(readOnly = true)
         public StaffPerformance getStaffPerformance(UUID tenantId, UUID staffId, LocalDate startDate,
                         LocalDate endDate) {
-                LocalDateTime start = LocalDateTime.of(startDate, LocalTime.MIN);
-                LocalDateTime end = LocalDateTime.of(endDate, LocalTime.MAX);
-
-                List<Booking> bookings = bookingRepository.findByTenantIdAndDateRange(tenantId, start, end)
+                List<BookingStatCount> counts = bookingStatsService.getCounts(tenantId, startDate, endDate)
                                 .stream()
-                                .filter(b -> staffId == null || staffId.equals(b.getStaffId()))
+                                .filter(c -> staffId == null || staffId.equals(c.staffId()))
                                 .toList();
 
-                long completed = bookings.stream()
-                                .filter(b -> b.getStatus() == BookingStatus.CONFIRMED)
-                                .count();
+                long completed = total(withStatus(counts, BookingStatus.CONFIRMED));
+                long cancelled = total(withStatus(counts, BookingStatus.CANCELLED));
+                long noShows = total(withStatus(counts, BookingStatus.NO_SHOW));
 
-                long cancelled = bookings.stream()
-                                .filter(b -> b.getStatus() == BookingStatus.CANCELLED)
-                                .count();
-
-                long noShows = bookings.stream()
-                                .filter(b -> b.getStatus() == BookingStatus.NO_SHOW)
-                                .count();
-
-                // Calculate revenue (would need to join with payments in real implementation)
-                BigDecimal revenue = BigDecimal.ZERO; // Placeholder
+                // Revenue of the bookings in the range, net of refunds
+                BigDecimal revenue = paymentRepository.sumNetAmountByBookingStaff(tenantId, PAID_STATUSES,
+                                LocalDateTime.of(startDate, LocalTime.MIN), LocalDateTime.of(endDate, LocalTime.MAX))
+                                .stream()
+                                .filter(r -> staffId == null || staffId.equals(r.groupId()))
+                                .map(RevenueByGroup::amount)
+                                .reduce(BigDecimal.ZERO, BigDecimal::add);
 
                 return new StaffPerformance(
                                 staffId,
-                                bookings.size(),
+                                (int) total(counts),
                                 completed,
                                 cancelled,
                                 noShows,
@@ -208,15 +202,14 @@ public class ReportingService {
                 LocalDateTime start = LocalDateTime.of(startDate, LocalTime.MIN);
                 LocalDateTime end = LocalDateTime.of(endDate, LocalTime.MAX);
 
-                List<Booking> noShows = bookingRepository.findByTenantIdAndDateRange(tenantId, start, end)
-                                .stream()
-                                .filter(b -> b.getStatus() == BookingStatus.NO_SHOW)
-                                .toList();
+                long totalNoShows = total(withStatus(
+                                bookingStatsService.getCounts(tenantId, startDate, endDate), BookingStatus.NO_SHOW));
 
-                // Group by client
-                Map<UUID, Long> byClient = noShows.stream()
-                                .filter(b -> b.getClientId() != null)
-                                .collect(Collectors.groupingBy(Booking::getClientId, Collectors.counting()));
+                // Group by client (not part of the rollup, so aggregated over the bookings themselves)
+                Map<UUID, Long> byClient = bookingRepository
+                                .countByClientForStatus(tenantId, BookingStatus.NO_SHOW, start, end)
+                                .stream()
+                                .collect(Collectors.toMap(ClientBookingCount::clientId, ClientBookingCount::count));
 
                 // Repeat offenders (2+ no-shows)
                 List<UUID> repeatOffenders = byClient.entrySet().stream()
@@ -225,7 +218,7 @@ public class ReportingService {
                                 .toList();
 
                 return new NoShowReport(
-                                noShows.size(),
+                                (int) totalNoShows,
                                 byClient,
                                 repeatOffenders);
         }
@@ -235,29 +228,52 @@ public class ReportingService {
          */
         @Transactional(readOnly = true)
         public CancellationReport getCancellationReport(UUID tenantId, LocalDate startDate, LocalDate endDate) {
-                LocalDateTime start = LocalDateTime.of(startDate, LocalTime.MIN);
-                LocalDateTime end = LocalDateTime.of(endDate, LocalTime.MAX);
-
-                List<Booking> cancellations = bookingRepository.findByTenantIdAndDateRange(tenantId, start, end)
-                                .stream()
-                                .filter(b -> b.getStatus() == BookingStatus.CANCELLED)
-                                .toList();
+                List<BookingStatCount> cancellations = withStatus(
+                                bookingStatsService.getCounts(tenantId, startDate, endDate), BookingStatus.CANCELLED);
 
                 // Group by service
-                Map<UUID, Long> byService = cancellations.stream()
-                                .collect(Collectors.groupingBy(Booking::getServiceId, Collectors.counting()));
+                Map<UUID, Long> byService = sumByService(cancellations);
 
                 // Group by staff
-                Map<UUID, Long> byStaff = cancellations.stream()
-                                .filter(b -> b.getStaffId() != null)
-                                .collect(Collectors.groupingBy(Booking::getStaffId, Collectors.counting()));
+                Map<UUID, Long> byStaff = sumByStaff(cancellations);
 
                 return new CancellationReport(
-                                cancellations.size(),
+                                (int) total(cancellations),
                                 byService,
                                 byStaff);
         }
 
+        private static Map<UUID, BigDecimal> byGroup(List<RevenueByGroup> rows) {
+                return rows.stream()
+                                .filter(r -> r.groupId() != null)
+                                .collect(Collectors.toMap(RevenueByGroup::groupId, RevenueByGroup::amount));
+        }
+
+        private static List<BookingStatCount> withStatus(List<BookingStatCount> counts, BookingStatus status) {
+                return counts.stream()
+                                .filter(c -> c.status() == status)
+                                .toList();
+        }
+
+        private static long total(List<BookingStatCount> counts) {
+                return counts.stream()
+                                .mapToLong(BookingStatCount::count)
+                                .sum();
+        }
+
+        private static Map<UUID, Long> sumByService(List<BookingStatCount> counts) {
+                return counts.stream()
+                                .collect(Collectors.groupingBy(BookingStatCount::serviceId,
+                                                Collectors.summingLong(BookingStatCount::count)));
+        }
+
+        private static Map<UUID, Long> sumByStaff(List<BookingStatCount> counts) {
+                return counts.stream()
+                                .filter(c -> !BookingDailyStat.UNASSIGNED.equals(c.staffId()))
+                                .collect(Collectors.groupingBy(BookingStatCount::staffId,
+                                                Collectors.summingLong(BookingStatCount::count)));
+        }
+
         // Report DTOs
         public record AppointmentStats(
                         int total,
@@ -275,7 +291,8 @@ public class ReportingService {
                         BigDecimal netRevenue,
                         int transactionCount,
                         Map<String, BigDecimal> byPaymentMethod,
-                        Map<UUID, BigDecimal> byBooking) {
+                        Map<UUID, BigDecimal> byService,
+                        Map<UUID, BigDecimal> byStaff) {
         }
 
         public record ClientStats(
@@ -283,7 +300,8 @@ public class ReportingService {
                         long newClientsThisMonth,
                         long clientsWithBookings,
                         long returningClients,
-                        Map<UUID, Long> topClientsByBookings) {
+                        Map<UUID, Long> topClientsByBookings,
+                        List<ClientVisitStats> topClients) {
         }
 
         public record StaffPerformance(
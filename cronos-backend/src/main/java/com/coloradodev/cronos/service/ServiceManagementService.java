@@ -6,6 +6,7 @@ import com.coloradodev.cronos.dto.service.ServiceRequestDTO;
 import com.coloradodev.cronos.exception.ResourceNotFoundException;
 import com.coloradodev.cronos.repository.ServiceRepository;
 import com.coloradodev.cronos.repository.StaffRepository;
+import com.coloradodev.cronos.service.audit.FieldDiff;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -62,29 +63,24 @@ public class ServiceManagementService {
     public Service updateService(UUID tenantId, UUID serviceId, ServiceRequestDTO request) {
         Service service = getServiceById(tenantId, serviceId);
 
-        Map<String, Object> oldValues = Map.of(
-                "name", service.getName(),
-                "description", service.getDescription() != null ? service.getDescription() : "",
-                "duration", service.getDuration(),
-                "price", service.getPrice());
+        FieldDiff diff = new FieldDiff()
+                .record("name", service.getName(), request.getName())
+                .record("description", service.getDescription(), request.getDescription())
+                .record("duration", service.getDuration(), request.getDuration())
+                .record("price", service.getPrice(), request.getPrice());
 
         service.setName(request.getName());
         service.setDescription(request.getDescription());
         service.setDuration(request.getDuration());
         service.setPrice(request.getPrice());
         if (request.getCategoryId() != null) {
+            diff.record("categoryId", service.getCategoryId(), request.getCategoryId());
             service.setCategoryId(request.getCategoryId());
         }
 
         Service saved = serviceRepository.save(service);
 
-        Map<String, Object> newValues = Map.of(
-                "name", saved.getName(),
-                "description", saved.getDescription() != null ? saved.getDescription() : "",
-                "duration", saved.getDuration(),
-                "price", saved.getPrice());
-
-        auditService.logUpdate(tenantId, null, "Service", saved.getId(), oldValues, newValues);
+        auditService.logUpdate(tenantId, null, "Service", saved.getId(), diff);
 
         log.info("Updated service {} for tenant {}", saved.getName(), tenantId);
         return saved;
@@ -188,8 +184,7 @@ public class ServiceManagementService {
         Service saved = serviceRepository.save(service);
 
         auditService.logUpdate(tenantId, null, "Service", serviceId,
-                Map.of("price", oldPrice),
-                Map.of("price", newPrice));
+                new FieldDiff().record("price", oldPrice, newPrice));
 
         log.info("Updated pricing for service {} from {} to {}", serviceId, oldPrice, newPrice);
         return saved;
@@ -0,0 +1,258 @@
+package com.coloradodev.cronos.service;
+
+import com.coloradodev.cronos.core.exception.DatabaseConstraints;
+import com.coloradodev.cronos.core.timer.TimingWheel;
+import com.coloradodev.cronos.domain.SlotHold;
+import com.coloradodev.cronos.domain.Staff;
+import com.coloradodev.cronos.exception.BusinessRuleException;
+import com.coloradodev.cronos.exception.ResourceNotFoundException;
+import com.coloradodev.cronos.exception.SlotConflictException;
+import com.coloradodev.cronos.repository.BookingRepository;
+import com.coloradodev.cronos.repository.ServiceRepository;
+import com.coloradodev.cronos.repository.SlotHoldRepository;
+import com.coloradodev.cronos.service.availability.StaffBookingIndex;
+import com.coloradodev.cronos.service.availability.StaffCalendarLock;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for temporary slot holds taken during widget checkout.
+ * <p>
+ * Holds are stored in {@code slot_holds} (an exclusion constraint keeps them from
+ * overlapping) and tracked in a timing wheel for O(1) expiry on this node. A periodic
+ * sweep removes holds that expired while owned by another node or before a restart.
+ * <p>
+ * Holds, bookings and series occurrences are kept apart, so no exclusion constraint sees
+ * all of them. Every writer takes the {@link StaffCalendarLock} and checks the others in the
+ * database before writing: holds against bookings and series here, bookings against holds
+ * through {@link #checkNotHeld}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotHoldService {
+
+    private final SlotHoldRepository slotHoldRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingSeriesService bookingSeriesService;
+    private final ServiceRepository serviceRepository;
+    private final CalendarService calendarService;
+    private final StaffBookingIndex staffBookingIndex;
+    private final StaffCalendarLock staffCalendarLock;
+
+    @Value("${app.holds.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${app.holds.wheel.tick-millis:1000}")
+    private long tickMillis;
+
+    @Value("${app.holds.wheel.size:512}")
+    private int wheelSize;
+
+    private final Map<UUID, TimingWheel.Timeout<SlotHold>> timeouts = new ConcurrentHashMap<>();
+
+    private TimingWheel<SlotHold> wheel;
+
+    @PostConstruct
+    public void init() {
+        wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        log.info("Slot hold wheel initialized: ttl={}s, tick={}ms, size={}", ttlSeconds, tickMillis, wheelSize);
+    }
+
+    /**
+     * Place a hold on a slot. If no staff member is given, the first available one is held.
+     */
+    @Transactional
+    public SlotHold createHold(UUID tenantId, UUID serviceId, LocalDateTime startTime, UUID staffId) {
+        var service = serviceRepository.findByTenantIdAndId(tenantId, serviceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Service", serviceId.toString()));
+
+        LocalDateTime endTime = startTime.plusMinutes(service.getDuration());
+
+        if (!calendarService.checkSlotAvailability(tenantId, serviceId, startTime, staffId)) {
+            throw new SlotConflictException("The requested time slot is no longer available");
+        }
+
+        UUID holdStaffId = staffId;
+        if (holdStaffId == null) {
+            List<Staff> availableStaff = calendarService.getAvailableStaffForSlot(
+                    tenantId, serviceId, startTime, endTime);
+            if (availableStaff.isEmpty()) {
+                throw new SlotConflictException(startTime);
+            }
+            holdStaffId = availableStaff.get(0).getId();
+        }
+
+        // The availability check above used the index; re-check bookings and series under the lock
+        staffCalendarLock.lock(tenantId, holdStaffId);
+        if (!bookingRepository.findActiveIntervalsForStaff(tenantId, holdStaffId, startTime, endTime).isEmpty()) {
+            throw new SlotConflictException(startTime);
+        }
+        bookingSeriesService.checkNoOccurrence(tenantId, holdStaffId, startTime, endTime);
+
+        LocalDateTime now = LocalDateTime.now();
+        // Expired holds would otherwise still trip the exclusion constraint
+        slotHoldRepository.deleteExpiredForStaff(tenantId, holdStaffId, now);
+
+        SlotHold hold = new SlotHold();
+        hold.setTenantId(tenantId);
+        hold.setServiceId(serviceId);
+        hold.setStaffId(holdStaffId);
+        hold.setStartTime(startTime);
+        hold.setEndTime(endTime);
+        hold.setExpiresAt(now.plusSeconds(ttlSeconds));
+
+        SlotHold saved;
+        try {
+            saved = slotHoldRepository.saveAndFlush(hold);
+        } catch (DataIntegrityViolationException ex) {
+            if (DatabaseConstraints.isViolation(ex, DatabaseConstraints.SLOT_HOLD_STAFF_PERIOD)) {
+                throw new SlotConflictException(startTime);
+            }
+            throw ex;
+        }
+
+        staffBookingIndex.recordHold(saved);
+        timeouts.put(saved.getId(), wheel.schedule(saved, System.currentTimeMillis() + ttlSeconds * 1000));
+
+        log.info("Created slot hold {} for staff {} at {}", saved.getId(), holdStaffId, startTime);
+        return saved;
+    }
+
+    /**
+     * Release a hold before it expires (e.g. the client left checkout).
+     */
+    @Transactional
+    public void releaseHold(UUID tenantId, UUID holdId) {
+        SlotHold hold = getHoldById(tenantId, holdId);
+        slotHoldRepository.delete(hold);
+        staffBookingIndex.removeHold(hold);
+        afterCommit(() -> cancelTimeout(holdId));
+
+        log.info("Released slot hold {}", holdId);
+    }
+
+    /**
+     * Turn a hold into the slot of a new booking. Must run inside the booking transaction
+     * so the hold is only removed if the booking is stored; if the booking fails, the hold
+     * stays in place and still expires on time.
+     *
+     * @return the consumed hold, whose staff member the booking should be assigned to
+     */
+    @Transactional
+    public SlotHold consumeHold(UUID tenantId, UUID holdId, UUID serviceId, LocalDateTime startTime) {
+        SlotHold hold = getHoldById(tenantId, holdId);
+
+        if (hold.isExpired(LocalDateTime.now())) {
+            throw new BusinessRuleException("HOLD_EXPIRED", "The slot hold has expired");
+        }
+        if (!hold.getServiceId().equals(serviceId) || !hold.getStartTime().equals(startTime)) {
+            throw new BusinessRuleException("HOLD_MISMATCH", "The booking does not match the held slot");
+        }
+
+        slotHoldRepository.delete(hold);
+        staffBookingIndex.removeHold(hold);
+        afterCommit(() -> cancelTimeout(holdId));
+        return hold;
+    }
+
+    /**
+     * Reject a booking period that overlaps an unexpired hold on the staff member. Must run
+     * inside the booking transaction, after taking the {@link StaffCalendarLock}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public void checkNotHeld(UUID tenantId, UUID staffId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (slotHoldRepository.existsActiveForStaff(tenantId, staffId, startTime, endTime, LocalDateTime.now())) {
+            throw new SlotConflictException(startTime);
+        }
+    }
+
+    /**
+     * Get hold by ID.
+     */
+    @Transactional(readOnly = true)
+    public SlotHold getHoldById(UUID tenantId, UUID holdId) {
+        return slotHoldRepository.findByTenantIdAndId(tenantId, holdId)
+                .orElseThrow(() -> new ResourceNotFoundException("SlotHold", holdId.toString()));
+    }
+
+    /**
+     * Advance the expiry wheel and delete the holds that timed out on this node.
+     */
+    @Scheduled(fixedDelayString = "${app.holds.wheel.tick-millis:1000}")
+    public void expireHolds() {
+        List<SlotHold> expired = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), expired::add);
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        List<UUID> ids = new ArrayList<>(expired.size());
+        for (SlotHold hold : expired) {
+            timeouts.remove(hold.getId());
+            staffBookingIndex.removeHold(hold);
+            ids.add(hold.getId());
+        }
+        slotHoldRepository.deleteAllByIdInBatch(ids);
+
+        log.debug("Expired {} slot holds", ids.size());
+    }
+
+    /**
+     * Delete holds that expired without passing through a node's wheel. Scheduled by
+     * {@code ScheduledTasks}.
+     */
+    @Transactional
+    public void sweepExpiredHolds() {
+        List<SlotHold> expired = slotHoldRepository.findByExpiresAtLessThanEqual(LocalDateTime.now());
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        List<UUID> ids = new ArrayList<>(expired.size());
+        for (SlotHold hold : expired) {
+            staffBookingIndex.removeHold(hold);
+            afterCommit(() -> cancelTimeout(hold.getId()));
+            ids.add(hold.getId());
+        }
+        slotHoldRepository.deleteAllByIdInBatch(ids);
+
+        log.info("Swept {} expired slot holds", ids.size());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void cancelTimeout(UUID holdId) {
+        TimingWheel.Timeout<SlotHold> timeout = timeouts.remove(holdId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+}
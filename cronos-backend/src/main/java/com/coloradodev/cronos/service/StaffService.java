@@ -6,6 +6,7 @@ import com.coloradodev.cronos.dto.staff.StaffRequestDTO;
 import com.coloradodev.cronos.exception.ResourceNotFoundException;
 import com.coloradodev.cronos.repository.ServiceRepository;
 import com.coloradodev.cronos.repository.StaffRepository;
+import com.coloradodev.cronos.service.audit.FieldDiff;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -64,27 +65,23 @@ public class StaffService {
     public Staff updateStaff(UUID tenantId, UUID staffId, StaffRequestDTO request) {
         Staff staff = getStaffById(tenantId, staffId);
 
-        Map<String, Object> oldValues = Map.of(
-                "position", staff.getPosition() != null ? staff.getPosition() : "",
-                "bio", staff.getBio() != null ? staff.getBio() : "");
-
+        FieldDiff diff = new FieldDiff();
         if (request.getPosition() != null) {
+            diff.record("position", staff.getPosition(), request.getPosition());
             staff.setPosition(request.getPosition());
         }
         if (request.getBio() != null) {
+            diff.record("bio", staff.getBio(), request.getBio());
             staff.setBio(request.getBio());
         }
         if (request.getPhotoUrl() != null) {
+            diff.record("photoUrl", staff.getPhotoUrl(), request.getPhotoUrl());
             staff.setPhotoUrl(request.getPhotoUrl());
         }
 
         Staff saved = staffRepository.save(staff);
 
-        Map<String, Object> newValues = Map.of(
-                "position", saved.getPosition() != null ? saved.getPosition() : "",
-                "bio", saved.getBio() != null ? saved.getBio() : "");
-
-        auditService.logUpdate(tenantId, null, "Staff", saved.getId(), oldValues, newValues);
+        auditService.logUpdate(tenantId, null, "Staff", saved.getId(), diff);
 
         log.info("Updated staff {} for tenant {}", staffId, tenantId);
         return saved;
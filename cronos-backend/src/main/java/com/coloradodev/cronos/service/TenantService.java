@@ -1,8 +1,10 @@
 package com.coloradodev.cronos.service;
 
+import com.coloradodev.cronos.core.tenant.TenantTimezones;
 import com.coloradodev.cronos.domain.Tenant;
 import com.coloradodev.cronos.domain.User;
 import com.coloradodev.cronos.dto.tenant.TenantOnboardingRequest;
+import com.coloradodev.cronos.exception.BusinessRuleException;
 import com.coloradodev.cronos.repository.TenantRepository;
 import com.coloradodev.cronos.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
 @Service
 @RequiredArgsConstructor
 public class TenantService {
@@ -18,9 +24,13 @@ public class TenantService {
         private final TenantRepository tenantRepository;
         private final UserRepository userRepository;
         private final PasswordEncoder passwordEncoder;
+        private final TenantTimezones tenantTimezones;
 
         @Transactional
         public Tenant createTenant(TenantOnboardingRequest request) {
+                ZoneId zone = parseTimezone(request.getTimezone() != null ? request.getTimezone()
+                                : Tenant.DEFAULT_TIMEZONE);
+
                 // 1. Create Tenant
                 Tenant tenant = Tenant.builder()
                                 .name(request.getName())
@@ -32,10 +42,12 @@ public class TenantService {
                                                                 : java.time.LocalTime.of(9, 0))
                                 .workDayEnd(request.getWorkDayEnd() != null ? request.getWorkDayEnd()
                                                 : java.time.LocalTime.of(17, 0))
+                                .timezone(zone.getId())
                                 .status("ACTIVE")
                                 .build();
 
                 Tenant savedTenant = tenantRepository.save(tenant);
+                tenantTimezones.update(savedTenant.getId(), zone);
 
                 // 2. Create Admin User
                 User adminUser = User.builder()
@@ -52,6 +64,24 @@ public class TenantService {
                 return savedTenant;
         }
 
+        /**
+         * Parse an IANA timezone id such as {@code America/Denver}.
+         *
+         * @throws BusinessRuleException if it is unknown or a fixed offset
+         */
+        public ZoneId parseTimezone(String timezone) {
+                try {
+                        ZoneId zone = ZoneId.of(timezone);
+                        if (zone instanceof ZoneOffset) {
+                                // A fixed offset would not follow the business's daylight saving time
+                                throw new DateTimeException("Not a region-based zone: " + timezone);
+                        }
+                        return zone;
+                } catch (DateTimeException e) {
+                        throw new BusinessRuleException("INVALID_TIMEZONE", "Unknown timezone: " + timezone);
+                }
+        }
+
         @Transactional(readOnly = true)
         public com.coloradodev.cronos.dto.TenantPublicDto getPublicTenantBySlug(String slug) {
                 Tenant tenant = tenantRepository.findBySlug(slug)
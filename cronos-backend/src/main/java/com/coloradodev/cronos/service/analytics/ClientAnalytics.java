@@ -0,0 +1,75 @@
+package com.coloradodev.cronos.service.analytics;
+
+import com.coloradodev.cronos.repository.projection.ClientVisitStats;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Single-pass accumulator over per-client booking aggregates.
+ * <p>
+ * Counts clients with bookings and returning clients (more than one booking) and keeps the
+ * top N clients by booking count in a bounded min-heap, so memory stays O(N) however many
+ * clients are fed in.
+ */
+public final class ClientAnalytics {
+
+    /**
+     * Highest booking count first; ties go to the client seen most recently.
+     */
+    static final Comparator<ClientVisitStats> RANKING = Comparator
+            .comparingLong(ClientVisitStats::bookingCount)
+            .thenComparing(ClientVisitStats::lastVisit, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .reversed();
+
+    private final int topN;
+    private final PriorityQueue<ClientVisitStats> top;
+    private long clientsWithBookings;
+    private long returningClients;
+
+    public ClientAnalytics(int topN) {
+        if (topN < 0) {
+            throw new IllegalArgumentException("topN must not be negative");
+        }
+        this.topN = topN;
+        // Head is the weakest of the current top N, i.e. the next one to be displaced
+        this.top = new PriorityQueue<>(Math.max(1, topN + 1), RANKING.reversed());
+    }
+
+    public void accept(ClientVisitStats stats) {
+        if (stats.bookingCount() == null || stats.bookingCount() <= 0) {
+            return;
+        }
+        clientsWithBookings++;
+        if (stats.bookingCount() > 1) {
+            returningClients++;
+        }
+        if (topN == 0) {
+            return;
+        }
+        top.offer(stats);
+        if (top.size() > topN) {
+            top.poll();
+        }
+    }
+
+    public long getClientsWithBookings() {
+        return clientsWithBookings;
+    }
+
+    public long getReturningClients() {
+        return returningClients;
+    }
+
+    /**
+     * The top clients, highest booking count first.
+     */
+    public List<ClientVisitStats> getTopClients() {
+        List<ClientVisitStats> result = new ArrayList<>(top);
+        result.sort(RANKING);
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -0,0 +1,61 @@
+package com.coloradodev.cronos.service.analytics;
+
+import com.coloradodev.cronos.core.event.DomainEvent;
+import com.coloradodev.cronos.core.event.DomainEventSubscriber;
+import com.coloradodev.cronos.domain.event.BookingCancelled;
+import com.coloradodev.cronos.domain.event.BookingCreated;
+import com.coloradodev.cronos.domain.event.BookingNoShow;
+import com.coloradodev.cronos.domain.event.BookingRescheduled;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Drops a tenant's cached client statistics whenever one of its bookings changes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientStatsCacheEvictor implements DomainEventSubscriber {
+
+    public static final String CACHE_NAME = "clientStats";
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public String getSubscriberName() {
+        return "client-stats-cache";
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        // A batch often holds several events of the same tenant
+        Set<UUID> tenants = new HashSet<>();
+        for (DomainEvent event : events) {
+            if (changesClientStats(event) && tenants.add(event.tenantId())) {
+                cache.evict(event.tenantId());
+            }
+        }
+        if (!tenants.isEmpty()) {
+            log.debug("Evicted client stats of {} tenants", tenants.size());
+        }
+    }
+
+    private static boolean changesClientStats(DomainEvent event) {
+        return event instanceof BookingCreated
+                || event instanceof BookingCancelled
+                || event instanceof BookingRescheduled
+                || event instanceof BookingNoShow;
+    }
+}
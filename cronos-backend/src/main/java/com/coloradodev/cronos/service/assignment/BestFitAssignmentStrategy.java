@@ -0,0 +1,57 @@
+package com.coloradodev.cronos.service.assignment;
+
+import com.coloradodev.cronos.domain.Staff;
+import com.coloradodev.cronos.service.availability.DayIntervals;
+import com.coloradodev.cronos.service.availability.StaffBookingIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Prefers the staff member whose schedule the slot fits most tightly, i.e. the one
+ * left with the smallest idle gaps around it. Keeps other calendars open for long services.
+ */
+@Component
+@RequiredArgsConstructor
+public class BestFitAssignmentStrategy implements StaffAssignmentStrategy {
+
+    public static final String NAME = "best-fit";
+
+    private final StaffBookingIndex staffBookingIndex;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Staff> rank(UUID tenantId, List<Staff> candidates, LocalDateTime start, LocalDateTime end) {
+        LocalDate date = start.toLocalDate();
+        Map<UUID, List<DayIntervals>> days = staffBookingIndex.getDays(tenantId,
+                candidates.stream().map(Staff::getId).toList(), date, date);
+
+        return candidates.stream()
+                .sorted(Comparator.comparingLong(staff -> idleSeconds(days.get(staff.getId()).get(0), start, end)))
+                .toList();
+    }
+
+    static long idleSeconds(DayIntervals day, LocalDateTime start, LocalDateTime end) {
+        // Without a neighbouring booking the gap runs to the edge of the day
+        long before = day.gapBefore(start);
+        if (before < 0) {
+            before = ChronoUnit.SECONDS.between(start.toLocalDate().atStartOfDay(), start);
+        }
+        long after = day.gapAfter(end);
+        if (after < 0) {
+            after = ChronoUnit.SECONDS.between(end, start.toLocalDate().plusDays(1).atStartOfDay());
+        }
+        return before + Math.max(0, after);
+    }
+}
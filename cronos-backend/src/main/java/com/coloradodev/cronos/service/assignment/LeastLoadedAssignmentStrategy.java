@@ -0,0 +1,43 @@
+package com.coloradodev.cronos.service.assignment;
+
+import com.coloradodev.cronos.domain.Staff;
+import com.coloradodev.cronos.service.availability.DayIntervals;
+import com.coloradodev.cronos.service.availability.StaffBookingIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Prefers the staff member with the fewest booked minutes on the day of the slot.
+ * Load is read from the staff booking index, which booking events keep current.
+ */
+@Component
+@RequiredArgsConstructor
+public class LeastLoadedAssignmentStrategy implements StaffAssignmentStrategy {
+
+    public static final String NAME = "least-loaded";
+
+    private final StaffBookingIndex staffBookingIndex;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Staff> rank(UUID tenantId, List<Staff> candidates, LocalDateTime start, LocalDateTime end) {
+        LocalDate date = start.toLocalDate();
+        Map<UUID, List<DayIntervals>> days = staffBookingIndex.getDays(tenantId,
+                candidates.stream().map(Staff::getId).toList(), date, date);
+
+        return candidates.stream()
+                .sorted(Comparator.comparingLong(staff -> days.get(staff.getId()).get(0).busySeconds()))
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.coloradodev.cronos.service.assignment;
+
+import com.coloradodev.cronos.domain.Staff;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rotates through staff: the member assigned longest ago (or never) comes first.
+ * Rotation state is kept per node and restarts empty after a restart.
+ */
+@Component
+public class RoundRobinAssignmentStrategy implements StaffAssignmentStrategy {
+
+    public static final String NAME = "round-robin";
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<UUID, Map<UUID, Long>> lastAssigned = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Staff> rank(UUID tenantId, List<Staff> candidates, LocalDateTime start, LocalDateTime end) {
+        Map<UUID, Long> tenantTurns = lastAssigned.getOrDefault(tenantId, Map.of());
+        return candidates.stream()
+                .sorted(Comparator.comparingLong(staff -> tenantTurns.getOrDefault(staff.getId(), 0L)))
+                .toList();
+    }
+
+    @Override
+    public void onAssigned(UUID tenantId, UUID staffId) {
+        lastAssigned.computeIfAbsent(tenantId, id -> new ConcurrentHashMap<>())
+                .put(staffId, sequence.incrementAndGet());
+    }
+}
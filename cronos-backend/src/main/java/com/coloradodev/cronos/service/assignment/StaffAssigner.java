@@ -0,0 +1,66 @@
+package com.coloradodev.cronos.service.assignment;
+
+import com.coloradodev.cronos.domain.Staff;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Applies the configured {@link StaffAssignmentStrategy} to available staff.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StaffAssigner {
+
+    private final List<StaffAssignmentStrategy> strategies;
+
+    @Value("${app.booking.assignment-strategy:" + LeastLoadedAssignmentStrategy.NAME + "}")
+    private String strategyName;
+
+    private StaffAssignmentStrategy strategy;
+
+    @PostConstruct
+    public void init() {
+        strategy = strategies.stream()
+                .filter(candidate -> candidate.getName().equals(strategyName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown staff assignment strategy: " + strategyName));
+        log.info("Staff assignment strategy: {}", strategy.getName());
+    }
+
+    /**
+     * Order available staff for [start, end), best candidate first.
+     */
+    public List<Staff> rank(UUID tenantId, List<Staff> candidates, LocalDateTime start, LocalDateTime end) {
+        if (candidates.size() < 2) {
+            return candidates;
+        }
+        return strategy.rank(tenantId, candidates, start, end);
+    }
+
+    /**
+     * Record that a booking was auto-assigned to a staff member. Inside a transaction it is
+     * recorded only after commit, so a rolled-back booking does not move the strategy's state.
+     */
+    public void recordAssignment(UUID tenantId, UUID staffId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            strategy.onAssigned(tenantId, staffId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                strategy.onAssigned(tenantId, staffId);
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.coloradodev.cronos.service.assignment;
+
+import com.coloradodev.cronos.domain.Staff;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Policy for choosing which available staff member gets an unassigned booking.
+ * Implementations rank from in-memory state only, so assignment adds no queries.
+ */
+public interface StaffAssignmentStrategy {
+
+    /**
+     * Name used to select the strategy via {@code app.booking.assignment-strategy}.
+     */
+    String getName();
+
+    /**
+     * Order the candidates, best first. All candidates are free for [start, end).
+     */
+    List<Staff> rank(UUID tenantId, List<Staff> candidates, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Called after a booking was auto-assigned to a staff member.
+     */
+    default void onAssigned(UUID tenantId, UUID staffId) {
+    }
+}
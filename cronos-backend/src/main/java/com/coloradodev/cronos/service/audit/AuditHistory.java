@@ -0,0 +1,41 @@
+package com.coloradodev.cronos.service.audit;
+
+import com.coloradodev.cronos.domain.AuditLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebuilds the state of an entity at each audited change from compact entries.
+ * <p>
+ * Creates carry the initial fields and updates only the fields that changed (see
+ * {@link FieldDiff}), so each entry's new values are applied on top of the state before it.
+ * Older entries holding every field replay the same way.
+ */
+public final class AuditHistory {
+
+    private AuditHistory() {
+    }
+
+    /**
+     * Replay the audit entries of one entity.
+     *
+     * @param changes the entity's entries, oldest first
+     */
+    public static List<EntityRevision> replay(List<AuditLog> changes) {
+        List<EntityRevision> revisions = new ArrayList<>(changes.size());
+        Map<String, Object> state = new LinkedHashMap<>();
+        for (AuditLog change : changes) {
+            if ("DELETE".equals(change.getAction())) {
+                state.clear();
+            } else if (change.getNewValue() != null) {
+                state.putAll(change.getNewValue());
+            }
+            revisions.add(new EntityRevision(change, Collections.unmodifiableMap(new LinkedHashMap<>(state))));
+        }
+        return revisions;
+    }
+}
@@ -0,0 +1,246 @@
+package com.coloradodev.cronos.service.audit;
+
+import com.coloradodev.cronos.core.event.RingBuffer;
+import com.coloradodev.cronos.domain.AuditLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background writer for audit logs in asynchronous mode.
+ * <p>
+ * Entries submitted inside a transaction are queued once it commits, so rolled-back actions
+ * are not audited. The queue is a bounded {@link RingBuffer} drained by one thread that
+ * serialises the JSON values and inserts each batch with a single JDBC batch statement.
+ * When the ring is full, or the writer is stopping, the caller inserts its entry itself,
+ * which slows producers down instead of dropping entries. On shutdown the thread drains
+ * what is left before the data source closes, and a caller whose entry landed after that
+ * final drain inserts what is left itself; entries are only lost if the JVM dies.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs "
+            + "(id, tenant_id, user_id, action, entity_type, entity_id, old_value, new_value, ip_address, "
+            + "user_agent, timestamp) "
+            + "VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb), ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.audit.ring-size:8192}")
+    private int ringSize;
+
+    @Value("${app.audit.max-batch:500}")
+    private int maxBatch;
+
+    @Value("${app.audit.idle-park-micros:2000}")
+    private long idleParkMicros;
+
+    @Value("${app.audit.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    private RingBuffer<AuditLog> ring;
+    private RingBuffer.Cursor cursor;
+    private Thread writerThread;
+    private volatile boolean running;
+    // Guards the ring's cursor once the writer thread has made its final drain
+    private final Object finalDrainLock = new Object();
+    private boolean stopped;
+
+    private Counter queued;
+    private Counter written;
+    private Counter callerWritten;
+    private Counter failed;
+    private DistributionSummary batchSize;
+
+    @PostConstruct
+    public void init() {
+        ring = new RingBuffer<>(ringSize);
+        cursor = ring.addCursor();
+
+        Gauge.builder("cronos.audit.queue.depth", ring, r -> r.lag(cursor))
+                .description("Audit logs queued but not yet taken by the writer")
+                .register(meterRegistry);
+        Gauge.builder("cronos.audit.queue.capacity", ring, RingBuffer::capacity)
+                .register(meterRegistry);
+        queued = Counter.builder("cronos.audit.queued")
+                .register(meterRegistry);
+        written = Counter.builder("cronos.audit.written")
+                .description("Audit logs inserted by the background writer")
+                .register(meterRegistry);
+        callerWritten = Counter.builder("cronos.audit.caller_written")
+                .description("Audit logs inserted by the caller because the queue was full or stopped")
+                .register(meterRegistry);
+        failed = Counter.builder("cronos.audit.failed")
+                .description("Audit logs that could not be inserted")
+                .register(meterRegistry);
+        batchSize = DistributionSummary.builder("cronos.audit.batch.size")
+                .register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::drain, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit log writer initialized: ringSize={}, maxBatch={}", ring.capacity(), maxBatch);
+    }
+
+    /**
+     * Queue an entry for insertion. Inside a transaction it is queued only after commit.
+     * The entry and its value maps must not be modified afterwards.
+     */
+    public void submit(AuditLog auditLog) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(auditLog);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(auditLog);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long remaining = ring.lag(cursor);
+        if (remaining > 0) {
+            log.warn("Audit log writer stopped with {} entries still queued", remaining);
+        }
+    }
+
+    private void enqueue(AuditLog auditLog) {
+        if (running && ring.tryPublish(auditLog) >= 0) {
+            queued.increment();
+            if (!running) {
+                // The writer may have made its final drain before the entry was published
+                drainAfterStop();
+            }
+            return;
+        }
+        callerWritten.increment();
+        try {
+            insert(List.of(auditLog));
+        } catch (RuntimeException e) {
+            // Runs after commit, so the business change stands either way
+            failed.increment();
+            log.error("Failed to write audit log {} {} on {}", auditLog.getAction(), auditLog.getEntityType(),
+                    auditLog.getEntityId(), e);
+        }
+    }
+
+    private void drain() {
+        List<AuditLog> batch = new ArrayList<>(maxBatch);
+        long idleParkNanos = TimeUnit.MICROSECONDS.toNanos(idleParkMicros);
+        while (true) {
+            batch.clear();
+            int taken = ring.poll(cursor, batch, maxBatch);
+            if (taken == 0) {
+                if (!running) {
+                    // Entries published from here on are drained by their callers
+                    synchronized (finalDrainLock) {
+                        drainRemaining(batch);
+                        stopped = true;
+                    }
+                    return;
+                }
+                LockSupport.parkNanos(idleParkNanos);
+                continue;
+            }
+            batchSize.record(taken);
+            writeBatch(batch);
+        }
+    }
+
+    private void drainAfterStop() {
+        synchronized (finalDrainLock) {
+            if (stopped) {
+                drainRemaining(new ArrayList<>(maxBatch));
+            }
+        }
+    }
+
+    private void drainRemaining(List<AuditLog> batch) {
+        while (true) {
+            batch.clear();
+            int taken = ring.poll(cursor, batch, maxBatch);
+            if (taken == 0) {
+                return;
+            }
+            batchSize.record(taken);
+            writeBatch(batch);
+        }
+    }
+
+    private void writeBatch(List<AuditLog> batch) {
+        try {
+            insert(batch);
+            written.increment(batch.size());
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Audit log batch of {} failed, retrying row by row", batch.size(), e);
+        }
+        // One bad row must not take the rest of the batch with it
+        for (AuditLog auditLog : batch) {
+            try {
+                insert(List.of(auditLog));
+                written.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("Failed to write audit log {} {} on {}", auditLog.getAction(),
+                        auditLog.getEntityType(), auditLog.getEntityId(), e);
+            }
+        }
+    }
+
+    private void insert(List<AuditLog> entries) {
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for (AuditLog entry : entries) {
+            rows.add(new Object[] {
+                    entry.getId(), entry.getTenantId(), entry.getUserId(), entry.getAction(),
+                    entry.getEntityType(), entry.getEntityId(), toJson(entry.getOldValue()),
+                    toJson(entry.getNewValue()), entry.getIpAddress(), entry.getUserAgent(), entry.getTimestamp()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private String toJson(Map<String, Object> value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize audit value", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.coloradodev.cronos.service.audit;
+
+import com.coloradodev.cronos.domain.AuditLog;
+
+import java.util.Map;
+
+/**
+ * One audited change of an entity together with the entity's audited fields after it.
+ *
+ * @param change the audit log entry
+ * @param state  every field known after the change; empty once the entity is deleted
+ */
+public record EntityRevision(AuditLog change, Map<String, Object> state) {
+}
@@ -0,0 +1,61 @@
+package com.coloradodev.cronos.service.audit;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Collects the fields of an entity update whose value actually changes, for a compact
+ * audit entry holding only those fields.
+ * <p>
+ * Call {@link #record} with the current and the incoming value before applying each change.
+ * Unchanged fields cost one comparison; the value maps are only allocated once a field differs.
+ */
+public final class FieldDiff {
+
+    private Map<String, Object> oldValues;
+    private Map<String, Object> newValues;
+
+    /**
+     * Record a field if {@code newValue} differs from {@code oldValue}. Decimals are compared
+     * by value, so {@code 10.0} and {@code 10.00} count as unchanged.
+     */
+    public FieldDiff record(String field, Object oldValue, Object newValue) {
+        if (sameValue(oldValue, newValue)) {
+            return this;
+        }
+        if (oldValues == null) {
+            oldValues = new LinkedHashMap<>();
+            newValues = new LinkedHashMap<>();
+        }
+        oldValues.put(field, oldValue);
+        newValues.put(field, newValue);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return oldValues == null;
+    }
+
+    /**
+     * Previous values of the changed fields, or null if nothing changed.
+     */
+    public Map<String, Object> oldValues() {
+        return oldValues;
+    }
+
+    /**
+     * New values of the changed fields, or null if nothing changed.
+     */
+    public Map<String, Object> newValues() {
+        return newValues;
+    }
+
+    private static boolean sameValue(Object oldValue, Object newValue) {
+        if (oldValue instanceof BigDecimal oldDecimal && newValue instanceof BigDecimal newDecimal) {
+            return oldDecimal.compareTo(newDecimal) == 0;
+        }
+        return Objects.equals(oldValue, newValue);
+    }
+}
@@ -0,0 +1,204 @@
+package com.coloradodev.cronos.service.availability;
+
+import com.coloradodev.cronos.repository.projection.BookingInterval;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable, start-ordered set of busy intervals for one staff member on one day.
+ * <p>
+ * Overlap checks use a binary search on start times combined with a running
+ * maximum of end times, so they stay O(log n) even when the stored intervals
+ * overlap each other. Mutations return a new instance (copy-on-write), which keeps
+ * readers lock-free.
+ */
+public final class DayIntervals {
+
+    public static final DayIntervals EMPTY = new DayIntervals(new UUID[0], new long[0], new long[0]);
+
+    private final UUID[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final long busySeconds;
+
+    private DayIntervals(UUID[] ids, long[] starts, long[] ends) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new long[ends.length];
+        long max = Long.MIN_VALUE;
+        long busy = 0;
+        for (int i = 0; i < ends.length; i++) {
+            // Count only the part of each interval not already covered by earlier ones
+            long coveredUntil = i == 0 ? starts[i] : Math.max(starts[i], max);
+            busy += Math.max(0, ends[i] - coveredUntil);
+            max = Math.max(max, ends[i]);
+            maxEnds[i] = max;
+        }
+        this.busySeconds = busy;
+    }
+
+    /**
+     * Build an index from booking intervals in any order.
+     */
+    public static DayIntervals of(Collection<BookingInterval> intervals) {
+        if (intervals.isEmpty()) {
+            return EMPTY;
+        }
+        List<BookingInterval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(BookingInterval::startTime));
+
+        int n = sorted.size();
+        UUID[] ids = new UUID[n];
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        for (int i = 0; i < n; i++) {
+            BookingInterval interval = sorted.get(i);
+            ids[i] = interval.bookingId();
+            starts[i] = toSeconds(interval.startTime());
+            ends[i] = toSeconds(interval.endTime());
+        }
+        return new DayIntervals(ids, starts, ends);
+    }
+
+    /**
+     * Check whether [start, end) intersects any stored interval.
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        long startSec = toSeconds(start);
+        int idx = lastStartingBefore(toSeconds(end));
+        return idx >= 0 && maxEnds[idx] > startSec;
+    }
+
+    /**
+     * Return a copy with the given interval added (or replaced if the id is already present).
+     */
+    public DayIntervals with(UUID id, LocalDateTime start, LocalDateTime end) {
+        DayIntervals base = without(id);
+        long startSec = toSeconds(start);
+        int pos = base.lastStartingBefore(startSec + 1) + 1;
+        int n = base.size();
+
+        UUID[] newIds = new UUID[n + 1];
+        long[] newStarts = new long[n + 1];
+        long[] newEnds = new long[n + 1];
+        System.arraycopy(base.ids, 0, newIds, 0, pos);
+        System.arraycopy(base.starts, 0, newStarts, 0, pos);
+        System.arraycopy(base.ends, 0, newEnds, 0, pos);
+        newIds[pos] = id;
+        newStarts[pos] = startSec;
+        newEnds[pos] = toSeconds(end);
+        System.arraycopy(base.ids, pos, newIds, pos + 1, n - pos);
+        System.arraycopy(base.starts, pos, newStarts, pos + 1, n - pos);
+        System.arraycopy(base.ends, pos, newEnds, pos + 1, n - pos);
+        return new DayIntervals(newIds, newStarts, newEnds);
+    }
+
+    /**
+     * Return a copy without the interval with the given id.
+     */
+    public DayIntervals without(UUID id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i].equals(id)) {
+                if (ids.length == 1) {
+                    return EMPTY;
+                }
+                UUID[] newIds = new UUID[ids.length - 1];
+                long[] newStarts = new long[ids.length - 1];
+                long[] newEnds = new long[ids.length - 1];
+                System.arraycopy(ids, 0, newIds, 0, i);
+                System.arraycopy(starts, 0, newStarts, 0, i);
+                System.arraycopy(ends, 0, newEnds, 0, i);
+                System.arraycopy(ids, i + 1, newIds, i, ids.length - i - 1);
+                System.arraycopy(starts, i + 1, newStarts, i, ids.length - i - 1);
+                System.arraycopy(ends, i + 1, newEnds, i, ids.length - i - 1);
+                return new DayIntervals(newIds, newStarts, newEnds);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Visit every interval in start order, as epoch seconds (UTC-normalised local time).
+     */
+    public void forEach(IntervalVisitor visitor) {
+        for (int i = 0; i < ids.length; i++) {
+            visitor.visit(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Total busy time, with overlapping intervals counted once.
+     */
+    public long busySeconds() {
+        return busySeconds;
+    }
+
+    /**
+     * Idle seconds between the end of the latest interval finishing by {@code start}
+     * and {@code start}, or -1 if nothing precedes it.
+     */
+    public long gapBefore(LocalDateTime start) {
+        long startSec = toSeconds(start);
+        int idx = lastStartingBefore(startSec);
+        return idx < 0 ? -1 : Math.max(0, startSec - maxEnds[idx]);
+    }
+
+    /**
+     * Idle seconds between {@code end} and the next interval starting at or after it,
+     * or -1 if nothing follows it.
+     */
+    public long gapAfter(LocalDateTime end) {
+        long endSec = toSeconds(end);
+        int idx = lastStartingBefore(endSec) + 1;
+        return idx >= starts.length ? -1 : starts[idx] - endSec;
+    }
+
+    public boolean contains(UUID id) {
+        return Arrays.asList(ids).contains(id);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    /**
+     * Index of the last interval whose start is strictly before the given second, or -1.
+     */
+    private int lastStartingBefore(long second) {
+        int lo = 0;
+        int hi = starts.length - 1;
+        int result = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < second) {
+                result = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @FunctionalInterface
+    public interface IntervalVisitor {
+        void visit(long startSecond, long endSecond);
+    }
+}
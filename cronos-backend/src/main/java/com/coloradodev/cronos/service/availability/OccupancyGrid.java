@@ -0,0 +1,196 @@
+package com.coloradodev.cronos.service.availability;
+
+import com.coloradodev.cronos.dto.appointment.TimeSlot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bitmap occupancy model for one resource over one opening window.
+ * <p>
+ * The window is split into fixed-size cells; bit {@code i} is set when cell {@code i}
+ * intersects a busy interval. Free runs of a given length are found with
+ * word-level shift-and-AND operations, so slot generation costs O(cells / 64)
+ * per resource instead of one interval comparison per candidate slot.
+ */
+public final class OccupancyGrid {
+
+    private final LocalDateTime origin;
+    private final long originSecond;
+    private final int cellMinutes;
+    private final long cellSeconds;
+    private final int cells;
+    private final long[] busy;
+
+    private OccupancyGrid(LocalDateTime origin, int cellMinutes, int cells) {
+        this.origin = origin;
+        this.originSecond = DayIntervals.toSeconds(origin);
+        this.cellMinutes = cellMinutes;
+        this.cellSeconds = cellMinutes * 60L;
+        this.cells = cells;
+        this.busy = new long[wordsFor(cells)];
+    }
+
+    /**
+     * Create an empty grid covering [open, close) at the given cell size.
+     * A trailing partial cell is dropped, matching the "slot must end by closing time" rule.
+     */
+    public static OccupancyGrid forWindow(LocalDateTime open, LocalDateTime close, int cellMinutes) {
+        long minutes = Math.max(0, Duration.between(open, close).toMinutes());
+        return new OccupancyGrid(open, cellMinutes, (int) (minutes / cellMinutes));
+    }
+
+    /**
+     * Pick a cell size that keeps slot boundaries exact: the greatest common divisor
+     * of the configured granularity and the service duration.
+     */
+    public static int cellMinutesFor(int granularityMinutes, int durationMinutes) {
+        if (granularityMinutes <= 0) {
+            return durationMinutes;
+        }
+        int a = granularityMinutes;
+        int b = durationMinutes;
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    public int getCells() {
+        return cells;
+    }
+
+    public int getCellMinutes() {
+        return cellMinutes;
+    }
+
+    /**
+     * Mark every cell intersecting [start, end) as busy.
+     */
+    public void markBusy(LocalDateTime start, LocalDateTime end) {
+        markBusy(DayIntervals.toSeconds(start), DayIntervals.toSeconds(end));
+    }
+
+    /**
+     * Mark all intervals of a staff day as busy.
+     */
+    public void markBusy(DayIntervals intervals) {
+        intervals.forEach(this::markBusy);
+    }
+
+    private void markBusy(long startSecond, long endSecond) {
+        if (endSecond <= originSecond || cells == 0) {
+            return;
+        }
+        long from = Math.max(0, (startSecond - originSecond) / cellSeconds);
+        long to = Math.min(cells, ceilDiv(endSecond - originSecond, cellSeconds));
+        if (from >= to) {
+            return;
+        }
+        setRange((int) from, (int) to);
+    }
+
+    /**
+     * Compute a bitmap whose bit {@code i} is set when cells {@code i .. i + runCells - 1}
+     * are all free.
+     */
+    public long[] freeRuns(int runCells) {
+        long[] runs = new long[busy.length];
+        for (int w = 0; w < busy.length; w++) {
+            runs[w] = ~busy[w];
+        }
+        clearTail(runs, cells);
+
+        int covered = 1;
+        while (covered < runCells) {
+            int shift = Math.min(covered, runCells - covered);
+            andShifted(runs, shift);
+            covered += shift;
+        }
+        return runs;
+    }
+
+    /**
+     * OR {@code other} into {@code target}; a slot is open if any resource can take it.
+     */
+    public static long[] union(long[] target, long[] other) {
+        if (target == null) {
+            return other;
+        }
+        for (int w = 0; w < target.length; w++) {
+            target[w] |= other[w];
+        }
+        return target;
+    }
+
+    /**
+     * Materialise slots for the set bits of a run bitmap that fall on the step grid.
+     */
+    public List<TimeSlot> toSlots(long[] runs, int stepCells, int runCells) {
+        List<TimeSlot> slots = new ArrayList<>();
+        if (runs == null) {
+            return slots;
+        }
+        for (int w = 0; w < runs.length; w++) {
+            long word = runs[w];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                int cell = (w << 6) + bit;
+                if (cell % stepCells == 0) {
+                    LocalDateTime start = origin.plusMinutes((long) cell * cellMinutes);
+                    slots.add(TimeSlot.builder()
+                            .startTime(start)
+                            .endTime(start.plusMinutes((long) runCells * cellMinutes))
+                            .build());
+                }
+                word &= word - 1;
+            }
+        }
+        return slots;
+    }
+
+    private void setRange(int from, int to) {
+        for (int cell = from; cell < to;) {
+            int w = cell >>> 6;
+            int bit = cell & 63;
+            int span = Math.min(64 - bit, to - cell);
+            long mask = span == 64 ? -1L : ((1L << span) - 1) << bit;
+            busy[w] |= mask;
+            cell += span;
+        }
+    }
+
+    /**
+     * bits[i] &= bits[i + shift], treating bits past the end as zero.
+     */
+    private static void andShifted(long[] bits, int shift) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int w = 0; w < bits.length; w++) {
+            int src = w + wordShift;
+            long lo = src < bits.length ? bits[src] : 0L;
+            long hi = src + 1 < bits.length ? bits[src + 1] : 0L;
+            long shifted = bitShift == 0 ? lo : (lo >>> bitShift) | (hi << (64 - bitShift));
+            bits[w] &= shifted;
+        }
+    }
+
+    private static void clearTail(long[] bits, int cells) {
+        int tail = cells & 63;
+        if (tail != 0 && bits.length > 0) {
+            bits[bits.length - 1] &= (1L << tail) - 1;
+        }
+    }
+
+    private static int wordsFor(int cells) {
+        return (cells + 63) >>> 6;
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return -Math.floorDiv(-a, b);
+    }
+}
@@ -0,0 +1,309 @@
+package com.coloradodev.cronos.service.availability;
+
+import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.Booking.BookingStatus;
+import com.coloradodev.cronos.domain.BookingSeries;
+import com.coloradodev.cronos.domain.BookingSeriesException;
+import com.coloradodev.cronos.domain.SlotHold;
+import com.coloradodev.cronos.repository.BookingRepository;
+import com.coloradodev.cronos.repository.BookingSeriesExceptionRepository;
+import com.coloradodev.cronos.repository.BookingSeriesRepository;
+import com.coloradodev.cronos.repository.SlotHoldRepository;
+import com.coloradodev.cronos.repository.projection.BookingInterval;
+import com.coloradodev.cronos.service.recurrence.SeriesOccurrences;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * In-memory, per-tenant and per-staff index of active (PENDING/CONFIRMED) bookings,
+ * booking series occurrences and unexpired slot holds.
+ * <p>
+ * Each staff member's day is loaded with a single range query the first time it is
+ * needed and then kept up to date by {@code BookingService} after each committed
+ * create/cancel/reschedule. Entries expire after a short TTL so that changes made by
+ * other application nodes are picked up; the database remains the source of truth.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StaffBookingIndex {
+
+    private final BookingRepository bookingRepository;
+    private final SlotHoldRepository slotHoldRepository;
+    private final BookingSeriesRepository bookingSeriesRepository;
+    private final BookingSeriesExceptionRepository bookingSeriesExceptionRepository;
+
+    @Value("${app.availability.index.max-days:50000}")
+    private long maxDays;
+
+    @Value("${app.availability.index.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<StaffDayKey, DayIntervals> days;
+
+    @PostConstruct
+    public void init() {
+        days = Caffeine.newBuilder()
+                .maximumSize(maxDays)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        log.info("Staff booking index initialized: maxDays={}, ttl={}s", maxDays, ttlSeconds);
+    }
+
+    /**
+     * Get the busy intervals of a staff member for a day, loading them if needed.
+     */
+    public DayIntervals getDay(UUID tenantId, UUID staffId, LocalDate date) {
+        return days.get(new StaffDayKey(tenantId, staffId, date), this::load);
+    }
+
+    /**
+     * Get the busy intervals of several staff members for every day in [from, to].
+     * Days that are not cached yet are loaded together with a single range query.
+     *
+     * @return per staff member, one entry per day starting at {@code from}
+     */
+    public Map<UUID, List<DayIntervals>> getDays(UUID tenantId, Collection<UUID> staffIds,
+            LocalDate from, LocalDate to) {
+        List<StaffDayKey> keys = new ArrayList<>();
+        for (UUID staffId : staffIds) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                keys.add(new StaffDayKey(tenantId, staffId, date));
+            }
+        }
+        Map<StaffDayKey, DayIntervals> loaded = days.getAll(keys, this::loadAll);
+
+        Map<UUID, List<DayIntervals>> result = new HashMap<>();
+        for (StaffDayKey key : keys) {
+            result.computeIfAbsent(key.staffId(), id -> new ArrayList<>()).add(loaded.get(key));
+        }
+        return result;
+    }
+
+    /**
+     * Load a staff member's busy intervals for every day in [from, to] straight from the
+     * database, bypassing the cache. For checks made under the {@link StaffCalendarLock},
+     * which must not trust days cached before the lock was taken.
+     *
+     * @return one entry per day starting at {@code from}
+     */
+    public List<DayIntervals> loadDays(UUID tenantId, UUID staffId, LocalDate from, LocalDate to) {
+        Set<StaffDayKey> keys = new LinkedHashSet<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            keys.add(new StaffDayKey(tenantId, staffId, date));
+        }
+        Map<StaffDayKey, DayIntervals> loaded = loadAll(keys);
+        return keys.stream().map(loaded::get).toList();
+    }
+
+    /**
+     * Check whether a staff member has no active booking overlapping [start, end).
+     */
+    public boolean isFree(UUID tenantId, UUID staffId, LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDate lastDate = endTime.minusNanos(1).toLocalDate();
+        for (LocalDate date = startTime.toLocalDate(); !date.isAfter(lastDate); date = date.plusDays(1)) {
+            if (getDay(tenantId, staffId, date).overlaps(startTime, endTime)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Register a newly created or rescheduled booking.
+     * Overlaps are rejected by the bookings exclusion constraint; the index is only
+     * updated once the transaction has committed.
+     */
+    public void recordBooking(Booking booking) {
+        if (booking.getStaffId() == null || !isActive(booking.getStatus())) {
+            return;
+        }
+        afterCommit(booking.getTenantId(), booking.getStaffId(), () -> put(booking.getTenantId(),
+                booking.getStaffId(), booking.getId(), booking.getStartTime(), booking.getEndTime()));
+    }
+
+    /**
+     * Remove a booking that was cancelled or otherwise left the active set.
+     */
+    public void removeBooking(Booking booking) {
+        if (booking.getStaffId() == null) {
+            return;
+        }
+        afterCommit(booking.getTenantId(), booking.getStaffId(), () -> drop(booking.getTenantId(),
+                booking.getStaffId(), booking.getId(), booking.getStartTime(), booking.getEndTime()));
+    }
+
+    /**
+     * Update the index for a booking that moved from its previous time range.
+     */
+    public void moveBooking(Booking booking, LocalDateTime oldStartTime, LocalDateTime oldEndTime) {
+        if (booking.getStaffId() == null) {
+            return;
+        }
+        afterCommit(booking.getTenantId(), booking.getStaffId(), () -> {
+            drop(booking.getTenantId(), booking.getStaffId(), booking.getId(), oldStartTime, oldEndTime);
+            put(booking.getTenantId(), booking.getStaffId(), booking.getId(),
+                    booking.getStartTime(), booking.getEndTime());
+        });
+    }
+
+    /**
+     * Register a slot hold as busy time once its transaction has committed.
+     */
+    public void recordHold(SlotHold hold) {
+        afterCommit(hold.getTenantId(), hold.getStaffId(), () -> put(hold.getTenantId(),
+                hold.getStaffId(), hold.getId(), hold.getStartTime(), hold.getEndTime()));
+    }
+
+    /**
+     * Release a slot hold that expired or was turned into a booking.
+     */
+    public void removeHold(SlotHold hold) {
+        afterCommit(hold.getTenantId(), hold.getStaffId(), () -> drop(hold.getTenantId(),
+                hold.getStaffId(), hold.getId(), hold.getStartTime(), hold.getEndTime()));
+    }
+
+    /**
+     * Drop every cached day of a staff member once the current transaction commits.
+     * Used for changes that affect many days at once, such as booking series.
+     */
+    public void invalidateStaffAfterCommit(UUID tenantId, UUID staffId) {
+        afterCommit(tenantId, staffId, () -> invalidateStaff(tenantId, staffId));
+    }
+
+    /**
+     * Drop every cached day of a staff member.
+     */
+    public void invalidateStaff(UUID tenantId, UUID staffId) {
+        days.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId) && key.staffId().equals(staffId));
+    }
+
+    private DayIntervals load(StaffDayKey key) {
+        return loadAll(Set.of(key)).get(key);
+    }
+
+    private Map<StaffDayKey, DayIntervals> loadAll(Set<? extends StaffDayKey> keys) {
+        // Keys always come from a single getDays call, so they share one tenant
+        UUID tenantId = keys.iterator().next().tenantId();
+        Set<UUID> staffIds = new HashSet<>();
+        LocalDate from = LocalDate.MAX;
+        LocalDate to = LocalDate.MIN;
+        for (StaffDayKey key : keys) {
+            staffIds.add(key.staffId());
+            from = key.date().isBefore(from) ? key.date() : from;
+            to = key.date().isAfter(to) ? key.date() : to;
+        }
+
+        LocalDateTime windowStart = LocalDateTime.of(from, LocalTime.MIN);
+        LocalDateTime windowEnd = LocalDateTime.of(to.plusDays(1), LocalTime.MIN);
+        // Active holds count as busy time just like bookings
+        List<BookingInterval> intervals = new ArrayList<>(bookingRepository.findActiveIntervalsForStaffIn(
+                tenantId, staffIds, windowStart, windowEnd));
+        intervals.addAll(slotHoldRepository.findActiveIntervalsForStaffIn(
+                tenantId, staffIds, windowStart, windowEnd, LocalDateTime.now()));
+        intervals.addAll(loadSeriesIntervals(tenantId, staffIds, windowStart, windowEnd));
+
+        Map<StaffDayKey, List<BookingInterval>> buckets = new HashMap<>();
+        for (BookingInterval interval : intervals) {
+            LocalDate startDate = interval.startTime().toLocalDate();
+            LocalDate first = startDate.isBefore(from) ? from : startDate;
+            LocalDate last = interval.endTime().minusNanos(1).toLocalDate();
+            for (LocalDate date = first; !date.isAfter(last) && !date.isAfter(to); date = date.plusDays(1)) {
+                StaffDayKey key = new StaffDayKey(tenantId, interval.staffId(), date);
+                if (keys.contains(key)) {
+                    buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(interval);
+                }
+            }
+        }
+
+        Map<StaffDayKey, DayIntervals> result = new HashMap<>();
+        for (StaffDayKey key : keys) {
+            result.put(key, DayIntervals.of(buckets.getOrDefault(key, List.of())));
+        }
+        return result;
+    }
+
+    private List<BookingInterval> loadSeriesIntervals(UUID tenantId, Set<UUID> staffIds,
+            LocalDateTime windowStart, LocalDateTime windowEnd) {
+        List<BookingSeries> series = bookingSeriesRepository.findActiveForStaffInRange(
+                tenantId, staffIds, windowStart, windowEnd);
+        if (series.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> seriesIds = series.stream().map(BookingSeries::getId).toList();
+        List<BookingSeriesException> exceptions = bookingSeriesExceptionRepository.findForSeriesInRange(
+                seriesIds, windowStart.minusDays(1), windowStart, windowEnd);
+
+        List<BookingInterval> intervals = new ArrayList<>();
+        for (Booking occurrence : SeriesOccurrences.expand(series, exceptions, windowStart, windowEnd)) {
+            intervals.add(new BookingInterval(occurrence.getId(), occurrence.getStaffId(),
+                    occurrence.getStartTime(), occurrence.getEndTime()));
+        }
+        return intervals;
+    }
+
+    private void put(UUID tenantId, UUID staffId, UUID id, LocalDateTime startTime, LocalDateTime endTime) {
+        forEachDay(tenantId, staffId, startTime, endTime,
+                key -> days.asMap().computeIfPresent(key, (k, v) -> v.with(id, startTime, endTime)));
+    }
+
+    private void drop(UUID tenantId, UUID staffId, UUID id, LocalDateTime startTime, LocalDateTime endTime) {
+        forEachDay(tenantId, staffId, startTime, endTime,
+                key -> days.asMap().computeIfPresent(key, (k, v) -> v.without(id)));
+    }
+
+    private void afterCommit(UUID tenantId, UUID staffId, Runnable onCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    invalidateStaff(tenantId, staffId);
+                }
+            }
+        });
+    }
+
+    private void forEachDay(UUID tenantId, UUID staffId, LocalDateTime startTime, LocalDateTime endTime,
+            Consumer<StaffDayKey> action) {
+        LocalDate lastDate = endTime.minusNanos(1).toLocalDate();
+        for (LocalDate date = startTime.toLocalDate(); !date.isAfter(lastDate); date = date.plusDays(1)) {
+            action.accept(new StaffDayKey(tenantId, staffId, date));
+        }
+    }
+
+    private static boolean isActive(BookingStatus status) {
+        return status == BookingStatus.PENDING || status == BookingStatus.CONFIRMED;
+    }
+
+    private record StaffDayKey(UUID tenantId, UUID staffId, LocalDate date) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.coloradodev.cronos.service.availability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Transaction-scoped lock on one staff member's calendar.
+ * <p>
+ * The exclusion constraints only compare bookings with bookings and holds with holds, and
+ * {@link StaffBookingIndex} may be up to its TTL behind other nodes. Writers that check a
+ * staff member's calendar in the database before changing it (bookings, slot holds) take
+ * this lock first, so what they checked still holds when they commit. It is a Postgres
+ * advisory lock, released at commit or rollback.
+ */
+@Component
+@RequiredArgsConstructor
+public class StaffCalendarLock {
+
+    // First key of the two-key advisory lock, so calendar locks do not collide with other advisory locks
+    private static final int ADVISORY_LOCK_NAMESPACE = 0x5343;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Wait for and take the lock on a staff member's calendar until the current transaction ends.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(UUID tenantId, UUID staffId) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?, hashtext(?))",
+                ADVISORY_LOCK_NAMESPACE, tenantId + ":" + staffId);
+    }
+}
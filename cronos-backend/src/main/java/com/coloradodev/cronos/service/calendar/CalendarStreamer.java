@@ -0,0 +1,213 @@
+package com.coloradodev.cronos.service.calendar;
+
+import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.Booking.BookingStatus;
+import com.coloradodev.cronos.dto.booking.BookingResponseDTO;
+import com.coloradodev.cronos.dto.mapper.BookingMapper;
+import com.coloradodev.cronos.dto.service.ServiceSummaryDTO;
+import com.coloradodev.cronos.dto.staff.StaffSummaryDTO;
+import com.coloradodev.cronos.exception.BusinessRuleException;
+import com.coloradodev.cronos.service.BookingSeriesService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes the calendar view of a date range as newline-delimited JSON, one booking per line.
+ * <p>
+ * Bookings are read through a forward-only JDBC cursor that joins in the service and staff
+ * summaries, so no entities are loaded and memory use does not depend on the number of rows.
+ * Series occurrences are expanded up front and merged into the cursor by start time, giving
+ * the same order as {@code CalendarService.getCalendarView}; they grow with the number of
+ * active series times the length of the range, so ranges are capped at
+ * {@code app.calendar.stream.max-range-days}.
+ */
+@Component
+@Slf4j
+public class CalendarStreamer {
+
+    private static final String SELECT_BOOKINGS =
+            "SELECT b.id, b.client_id, b.client_name, b.client_email, b.client_phone, b.start_time, b.end_time, "
+                    + "b.status, b.notes, b.appointment_id, b.created_at, b.updated_at, "
+                    + "s.id, s.name, s.duration, s.price, "
+                    + "st.id, u.first_name, u.last_name, st.position, st.photo_url "
+                    + "FROM bookings b "
+                    + "JOIN services s ON s.id = b.service_id "
+                    + "LEFT JOIN staff st ON st.id = b.staff_id "
+                    + "LEFT JOIN users u ON u.id = st.user_id "
+                    + "WHERE b.tenant_id = ? AND b.start_time >= ? AND b.end_time <= ? ";
+
+    private static final String ORDER_BY = "ORDER BY b.start_time, b.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BookingSeriesService bookingSeriesService;
+    private final BookingMapper bookingMapper;
+    private final ObjectMapper objectMapper;
+    private final int flushRows;
+    private final long maxRangeDays;
+
+    public CalendarStreamer(DataSource dataSource, PlatformTransactionManager transactionManager,
+            BookingSeriesService bookingSeriesService, BookingMapper bookingMapper, ObjectMapper objectMapper,
+            @Value("${app.calendar.stream.fetch-size:500}") int fetchSize,
+            @Value("${app.calendar.stream.flush-rows:200}") int flushRows,
+            @Value("${app.calendar.stream.max-range-days:366}") long maxRangeDays) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bookingSeriesService = bookingSeriesService;
+        this.bookingMapper = bookingMapper;
+        this.objectMapper = objectMapper;
+        this.flushRows = Math.max(1, flushRows);
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    /**
+     * Check the range before the response is committed; errors after the first line cannot
+     * be reported with a status code.
+     */
+    public void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessRuleException("INVALID_DATE_RANGE", "End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= maxRangeDays) {
+            throw new BusinessRuleException("INVALID_DATE_RANGE",
+                    "Calendar range cannot exceed " + maxRangeDays + " days");
+        }
+    }
+
+    /**
+     * Write the calendar to {@code out}, which is flushed but not closed.
+     *
+     * @param staffId Optional staff filter
+     * @return number of lines written
+     */
+    public long write(UUID tenantId, LocalDate startDate, LocalDate endDate, UUID staffId, OutputStream out)
+            throws IOException {
+        LocalDateTime start = LocalDateTime.of(startDate, LocalTime.MIN);
+        LocalDateTime end = LocalDateTime.of(endDate, LocalTime.MAX);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        Long lines;
+        try {
+            lines = readOnlyTransaction.execute(status -> streamLines(tenantId, start, end, staffId, generator));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        generator.flush();
+        log.debug("Streamed {} calendar entries for tenant {} between {} and {}", lines, tenantId, startDate, endDate);
+        return lines != null ? lines : 0;
+    }
+
+    private long streamLines(UUID tenantId, LocalDateTime start, LocalDateTime end, UUID staffId,
+            JsonGenerator generator) {
+        Deque<BookingResponseDTO> occurrences = occurrences(tenantId, start, end, staffId);
+        long[] count = new long[1];
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SELECT_BOOKINGS + (staffId != null ? "AND b.staff_id = ? " : "") + ORDER_BY,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setObject(1, tenantId);
+            statement.setObject(2, start);
+            statement.setObject(3, end);
+            if (staffId != null) {
+                statement.setObject(4, staffId);
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            BookingResponseDTO booking = toResponse(rs);
+            while (!occurrences.isEmpty() && occurrences.peek().getStartTime().isBefore(booking.getStartTime())) {
+                writeLine(generator, occurrences.poll(), ++count[0]);
+            }
+            writeLine(generator, booking, ++count[0]);
+        });
+
+        while (!occurrences.isEmpty()) {
+            writeLine(generator, occurrences.poll(), ++count[0]);
+        }
+        return count[0];
+    }
+
+    private Deque<BookingResponseDTO> occurrences(UUID tenantId, LocalDateTime start, LocalDateTime end,
+            UUID staffId) {
+        List<Booking> occurrences = bookingSeriesService.getOccurrences(tenantId, start, end, staffId);
+        Deque<BookingResponseDTO> queue = new ArrayDeque<>(occurrences.size());
+        occurrences.stream()
+                .sorted(Comparator.comparing(Booking::getStartTime))
+                .map(bookingMapper::toResponseDTO)
+                .forEach(queue::add);
+        return queue;
+    }
+
+    private void writeLine(JsonGenerator generator, BookingResponseDTO booking, long line) {
+        try {
+            objectMapper.writeValue(generator, booking);
+            generator.writeRaw('\n');
+            // Flush the first line right away so clients see data before the cursor is drained
+            if (line == 1 || line % flushRows == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BookingResponseDTO toResponse(ResultSet rs) throws SQLException {
+        UUID staffId = rs.getObject(17, UUID.class);
+        return BookingResponseDTO.builder()
+                .id(rs.getObject(1, UUID.class))
+                .clientId(rs.getObject(2, UUID.class))
+                .clientName(rs.getString(3))
+                .clientEmail(rs.getString(4))
+                .clientPhone(rs.getString(5))
+                .startTime(rs.getObject(6, LocalDateTime.class))
+                .endTime(rs.getObject(7, LocalDateTime.class))
+                .status(BookingStatus.valueOf(rs.getString(8)))
+                .notes(rs.getString(9))
+                .appointmentId(rs.getObject(10, UUID.class))
+                .createdAt(rs.getObject(11, LocalDateTime.class))
+                .updatedAt(rs.getObject(12, LocalDateTime.class))
+                .service(ServiceSummaryDTO.builder()
+                        .id(rs.getObject(13, UUID.class))
+                        .name(rs.getString(14))
+                        .duration(rs.getObject(15, Integer.class))
+                        .price(rs.getBigDecimal(16))
+                        .build())
+                .staff(staffId == null ? null : StaffSummaryDTO.builder()
+                        .id(staffId)
+                        .firstName(rs.getString(18))
+                        .lastName(rs.getString(19))
+                        .position(rs.getString(20))
+                        .photoUrl(rs.getString(21))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.coloradodev.cronos.service.notification;
+
+import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.Notification;
+import com.coloradodev.cronos.domain.Staff;
+import com.coloradodev.cronos.repository.BookingRepository;
+import com.coloradodev.cronos.repository.StaffRepository;
+import com.coloradodev.cronos.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends queued EMAIL notifications through the configured {@link EmailNotificationProvider}.
+ * Booking emails are rendered from the booking as it is at send time.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailNotificationSender implements NotificationSender {
+
+    private static final String DEFAULT_REMINDER_HOURS = "24";
+
+    private final EmailNotificationProvider emailProvider;
+    private final NotificationService notificationService;
+    private final BookingRepository bookingRepository;
+    private final StaffRepository staffRepository;
+
+    @Override
+    public String getChannel() {
+        return NotificationService.CHANNEL_EMAIL;
+    }
+
+    @Override
+    public boolean send(Notification notification) {
+        if (NotificationService.TYPE_STAFF_NOTIFICATION.equals(notification.getType())) {
+            Staff staff = staffRepository
+                    .findWithUserByTenantIdAndUserId(notification.getTenantId(), notification.getRecipientId())
+                    .orElseThrow(() -> new UndeliverableNotificationException(
+                            "Staff user " + notification.getRecipientId() + " no longer exists"));
+            return emailProvider.sendStaffNotification(staff, notification.getSubject(), notification.getContent());
+        }
+
+        if (notification.getBookingId() == null) {
+            throw new UndeliverableNotificationException(
+                    "Unsupported email notification type " + notification.getType());
+        }
+        Booking booking = bookingRepository.findWithDetailsByIdIn(List.of(notification.getBookingId())).stream()
+                .findFirst()
+                .orElseThrow(() -> new UndeliverableNotificationException(
+                        "Booking " + notification.getBookingId() + " no longer exists"));
+        Map<String, String> payload = notificationService.readPayload(notification);
+
+        return switch (notification.getType()) {
+            case NotificationService.TYPE_BOOKING_CONFIRMATION -> emailProvider.sendBookingConfirmation(booking);
+            case NotificationService.TYPE_BOOKING_CANCELLATION ->
+                    emailProvider.sendBookingCancellation(booking, payload.get("reason"));
+            case NotificationService.TYPE_BOOKING_RESCHEDULE -> emailProvider.sendBookingReschedule(
+                    booking, payload.get("oldStartTime"), booking.getStartTime().toString());
+            case NotificationService.TYPE_APPOINTMENT_REMINDER ->
+                    emailProvider.sendAppointmentReminder(booking,
+                            Integer.parseInt(payload.getOrDefault("hoursBefore", DEFAULT_REMINDER_HOURS)));
+            default -> throw new UndeliverableNotificationException(
+                    "Unsupported email notification type " + notification.getType());
+        };
+    }
+}
@@ -0,0 +1,179 @@
+package com.coloradodev.cronos.service.notification;
+
+import com.coloradodev.cronos.domain.Tenant;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the email templates, re-rendering only the per-email part of each message.
+ * <p>
+ * Every email template is a tenant-branded shell (head, styles, header and footer) around
+ * a {@code content} fragment. The shell depends only on the locale and the tenant's branding
+ * (name, colour, logo), so it is rendered once per combination with the fragment replaced by
+ * a slot marker, split at the marker and cached; at send time only the fragment is rendered
+ * and spliced in. Templates are parsed with their own always-cacheable engine, independent of
+ * {@code spring.thymeleaf.cache}, and are all parsed at startup so the first emails do not
+ * pay for it.
+ * <p>
+ * Templates must therefore keep every booking-specific expression inside the
+ * {@code th:fragment="content"} element, skip that element when {@code contentSlot} is set,
+ * and print {@code contentSlot} unescaped where it stood.
+ */
+@Component
+@Slf4j
+public class EmailTemplateRenderer {
+
+    static final List<String> TEMPLATES = List.of(
+            "booking-confirmation",
+            "booking-cancellation",
+            "booking-reschedule",
+            "appointment-reminder",
+            "staff-notification");
+
+    private static final Set<String> CONTENT_FRAGMENT = Set.of("content");
+    private static final String CONTENT_SLOT = "<!--cronos:content-->";
+
+    private final TemplateEngine templateEngine = createTemplateEngine();
+    private final Locale defaultLocale;
+    private final Cache<ShellKey, Shell> shells;
+
+    public EmailTemplateRenderer(@Value("${app.email.locale:es}") String defaultLocale,
+            @Value("${app.email.templates.shell-cache-size:1000}") long shellCacheSize,
+            @Value("${app.email.templates.shell-ttl-minutes:60}") long shellTtlMinutes) {
+        this.defaultLocale = Locale.forLanguageTag(defaultLocale);
+        this.shells = Caffeine.newBuilder()
+                .maximumSize(shellCacheSize)
+                .expireAfterAccess(Duration.ofMinutes(shellTtlMinutes))
+                .build();
+    }
+
+    /**
+     * Parse every template and render the unbranded shells ahead of the first email.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompile() {
+        long start = System.nanoTime();
+        for (String template : TEMPLATES) {
+            try {
+                templateEngine.process(template, CONTENT_FRAGMENT, new Context(defaultLocale));
+                shells.get(new ShellKey(template, defaultLocale, TenantBranding.PLATFORM), this::renderShell);
+            } catch (RuntimeException e) {
+                log.error("Failed to precompile email template {}: {}", template, e.getMessage(), e);
+            }
+        }
+        log.info("Email templates precompiled: {} templates in {} ms", TEMPLATES.size(),
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * Render an email in the default locale.
+     *
+     * @param tenant the tenant whose branding to use; {@code null} for platform emails
+     */
+    public String render(String template, Tenant tenant, Map<String, Object> variables) {
+        return render(template, defaultLocale, tenant, variables);
+    }
+
+    /**
+     * Render an email: the cached shell for the locale and tenant branding around the
+     * freshly rendered {@code content} fragment.
+     *
+     * @param tenant the tenant whose branding to use; {@code null} for platform emails
+     */
+    public String render(String template, Locale locale, Tenant tenant, Map<String, Object> variables) {
+        TenantBranding branding = TenantBranding.of(tenant);
+        Shell shell = shells.get(new ShellKey(template, locale, branding), this::renderShell);
+
+        Context context = new Context(locale);
+        context.setVariables(variables);
+        branding.applyTo(context);
+        String content = templateEngine.process(template, CONTENT_FRAGMENT, context);
+
+        return shell.prefix() + content + shell.suffix();
+    }
+
+    private Shell renderShell(ShellKey key) {
+        Context context = new Context(key.locale());
+        key.branding().applyTo(context);
+        context.setVariable("contentSlot", CONTENT_SLOT);
+        String html = templateEngine.process(key.template(), context);
+
+        int slot = html.indexOf(CONTENT_SLOT);
+        if (slot < 0) {
+            throw new IllegalStateException("Email template " + key.template() + " has no content slot");
+        }
+        return new Shell(html.substring(0, slot), html.substring(slot + CONTENT_SLOT.length()));
+    }
+
+    /**
+     * Engine over {@code templates/email/}, caching parsed templates (and parsed fragments)
+     * for the life of the application. Expressions are evaluated with SpEL, like the rest of
+     * the application's templates.
+     */
+    static TemplateEngine createTemplateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/email/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+
+    /**
+     * What a shell depends on besides the template and locale. Tenants with the same
+     * branding share shells, and a branding change simply leads to a new cache entry.
+     * The colour goes into inline CSS, so anything but a hex colour is dropped and the
+     * template's default header colour applies.
+     */
+    private record TenantBranding(String name, String primaryColor, String logoUrl) {
+
+        static final TenantBranding PLATFORM = new TenantBranding(null, null, null);
+
+        private static final Pattern HEX_COLOR = Pattern.compile("#(?:[0-9a-fA-F]{3}|[0-9a-fA-F]{6})");
+
+        static TenantBranding of(Tenant tenant) {
+            if (tenant == null) {
+                return PLATFORM;
+            }
+            String color = tenant.getPrimaryColor();
+            if (color != null && !HEX_COLOR.matcher(color).matches()) {
+                color = null;
+            }
+            return new TenantBranding(tenant.getName(), color, tenant.getLogoUrl());
+        }
+
+        void applyTo(Context context) {
+            context.setVariable("tenantName", name);
+            context.setVariable("primaryColor", primaryColor);
+            context.setVariable("logoUrl", logoUrl);
+        }
+    }
+
+    private record ShellKey(String template, Locale locale, TenantBranding branding) {
+    }
+
+    private record Shell(String prefix, String suffix) {
+    }
+}
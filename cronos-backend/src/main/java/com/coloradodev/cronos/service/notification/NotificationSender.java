@@ -0,0 +1,23 @@
+package com.coloradodev.cronos.service.notification;
+
+import com.coloradodev.cronos.domain.Notification;
+
+/**
+ * Delivers queued notifications of one channel. Called by
+ * {@link com.coloradodev.cronos.task.NotificationDispatcher} outside any transaction.
+ */
+public interface NotificationSender {
+
+    /**
+     * The channel this sender delivers, matching {@link Notification#getChannel()}.
+     */
+    String getChannel();
+
+    /**
+     * Send one notification.
+     *
+     * @return false if the provider rejected the message; it is retried later
+     * @throws UndeliverableNotificationException if the notification can never be sent
+     */
+    boolean send(Notification notification);
+}
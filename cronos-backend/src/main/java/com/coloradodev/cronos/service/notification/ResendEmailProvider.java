@@ -10,10 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
@@ -22,6 +19,9 @@ import java.util.Map;
 /**
  * Email provider implementation using Resend API.
  * Active in non-dev profiles (staging, prod).
+ * <p>
+ * Calls are synchronous so callers get the real delivery result; asynchronous delivery
+ * is handled by the outbox dispatcher.
  */
 @Service
 @Slf4j
@@ -41,19 +41,18 @@ public class ResendEmailProvider implements EmailNotificationProvider {
     @Value("${app.base-url}")
     private String baseUrl;
 
-    private final TemplateEngine templateEngine;
+    private final EmailTemplateRenderer templateRenderer;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
-    @Async
     @Override
     public boolean sendBookingConfirmation(Booking booking) {
         try {
             Map<String, Object> data = buildBookingData(booking);
             data.put("bookingUrl", baseUrl + "/booking/" + booking.getId());
 
-            String htmlContent = renderTemplate("booking-confirmation", data);
+            String htmlContent = templateRenderer.render("booking-confirmation", booking.getTenant(), data);
             String subject = "Confirmación de reserva - " + data.get("serviceName");
 
             return sendEmail(booking.getClientEmail(), subject, htmlContent);
@@ -64,14 +63,13 @@ public class ResendEmailProvider implements EmailNotificationProvider {
         }
     }
 
-    @Async
     @Override
     public boolean sendBookingCancellation(Booking booking, String reason) {
         try {
             Map<String, Object> data = buildBookingData(booking);
             data.put("cancellationReason", reason);
 
-            String htmlContent = renderTemplate("booking-cancellation", data);
+            String htmlContent = templateRenderer.render("booking-cancellation", booking.getTenant(), data);
             String subject = "Cancelación de reserva";
 
             return sendEmail(booking.getClientEmail(), subject, htmlContent);
@@ -82,7 +80,6 @@ public class ResendEmailProvider implements EmailNotificationProvider {
         }
     }
 
-    @Async
     @Override
     public boolean sendBookingReschedule(Booking booking, String oldTime, String newTime) {
         try {
@@ -91,7 +88,7 @@ public class ResendEmailProvider implements EmailNotificationProvider {
             data.put("newTime", newTime);
             data.put("bookingUrl", baseUrl + "/booking/" + booking.getId());
 
-            String htmlContent = renderTemplate("booking-reschedule", data);
+            String htmlContent = templateRenderer.render("booking-reschedule", booking.getTenant(), data);
             String subject = "Cambio de horario de tu reserva";
 
             return sendEmail(booking.getClientEmail(), subject, htmlContent);
@@ -102,7 +99,6 @@ public class ResendEmailProvider implements EmailNotificationProvider {
         }
     }
 
-    @Async
     @Override
     public boolean sendAppointmentReminder(Booking booking, int hoursBeforeAppointment) {
         try {
@@ -110,7 +106,7 @@ public class ResendEmailProvider implements EmailNotificationProvider {
             data.put("hoursUntil", hoursBeforeAppointment);
             data.put("bookingUrl", baseUrl + "/booking/" + booking.getId());
 
-            String htmlContent = renderTemplate("appointment-reminder", data);
+            String htmlContent = templateRenderer.render("appointment-reminder", booking.getTenant(), data);
             String subject = "Recordatorio: Tu cita es mañana";
 
             return sendEmail(booking.getClientEmail(), subject, htmlContent);
@@ -121,7 +117,6 @@ public class ResendEmailProvider implements EmailNotificationProvider {
         }
     }
 
-    @Async
     @Override
     public boolean sendStaffNotification(Staff staff, String subject, String message) {
         try {
@@ -133,7 +128,7 @@ public class ResendEmailProvider implements EmailNotificationProvider {
             data.put("staffName", staffName);
             data.put("message", message);
 
-            String htmlContent = renderTemplate("staff-notification", data);
+            String htmlContent = templateRenderer.render("staff-notification", null, data);
 
             String email = staff.getUser() != null ? staff.getUser().getEmail() : null;
             if (email == null) {
@@ -192,16 +187,6 @@ public class ResendEmailProvider implements EmailNotificationProvider {
                     booking.getStaff().getUser().getLastName());
         }
 
-        if (booking.getTenant() != null) {
-            data.put("tenantName", booking.getTenant().getName());
-        }
-
         return data;
     }
-
-    private String renderTemplate(String templateName, Map<String, Object> variables) {
-        Context context = new Context();
-        context.setVariables(variables);
-        return templateEngine.process("email/" + templateName, context);
-    }
 }
@@ -0,0 +1,11 @@
+package com.coloradodev.cronos.service.notification;
+
+/**
+ * Thrown by a {@link NotificationSender} when retrying cannot help, e.g. the booking was deleted.
+ */
+public class UndeliverableNotificationException extends RuntimeException {
+
+    public UndeliverableNotificationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,260 @@
+package com.coloradodev.cronos.service.recurrence;
+
+import com.coloradodev.cronos.exception.BusinessRuleException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Subset of the iCalendar RRULE grammar used for standing appointments:
+ * {@code FREQ=DAILY|WEEKLY}, {@code INTERVAL}, {@code COUNT}, {@code UNTIL} and {@code BYDAY}
+ * (weekly only, weeks start on Monday).
+ * <p>
+ * Occurrences are never stored; {@link #between} expands only the requested window and,
+ * for rules without COUNT, jumps straight to the period containing the window start.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY
+    }
+
+    private static final Map<String, DayOfWeek> DAY_CODES = Map.of(
+            "MO", DayOfWeek.MONDAY,
+            "TU", DayOfWeek.TUESDAY,
+            "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY,
+            "SA", DayOfWeek.SATURDAY,
+            "SU", DayOfWeek.SUNDAY);
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDate until;
+    private final EnumSet<DayOfWeek> byDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDate until,
+            EnumSet<DayOfWeek> byDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+    }
+
+    /**
+     * Parse a rule such as {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH;COUNT=10}.
+     * An optional {@code RRULE:} prefix is accepted.
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw invalid("Recurrence rule is required");
+        }
+        String body = rule.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDate until = null;
+        EnumSet<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+
+        for (String part : body.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw invalid("Malformed recurrence rule part: " + part);
+            }
+            String value = pair[1].trim().toUpperCase();
+            try {
+                switch (pair[0].trim().toUpperCase()) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = parseUntil(value);
+                    case "BYDAY" -> {
+                        for (String code : value.split(",")) {
+                            DayOfWeek day = DAY_CODES.get(code.trim());
+                            if (day == null) {
+                                throw invalid("Unsupported BYDAY value: " + code);
+                            }
+                            byDay.add(day);
+                        }
+                    }
+                    case "WKST" -> {
+                        if (!"MO".equals(value)) {
+                            throw invalid("Only WKST=MO is supported");
+                        }
+                    }
+                    default -> throw invalid("Unsupported recurrence rule part: " + pair[0]);
+                }
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw invalid("Invalid value in recurrence rule part: " + part);
+            }
+        }
+
+        if (frequency == null) {
+            throw invalid("Recurrence rule must specify FREQ");
+        }
+        if (interval < 1) {
+            throw invalid("INTERVAL must be at least 1");
+        }
+        if (count != null && count < 1) {
+            throw invalid("COUNT must be at least 1");
+        }
+        if (frequency == Frequency.DAILY && !byDay.isEmpty()) {
+            throw invalid("BYDAY is only supported with FREQ=WEEKLY");
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byDay);
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * Whether the rule produces a finite number of occurrences.
+     */
+    public boolean isBounded() {
+        return count != null || until != null;
+    }
+
+    /**
+     * Expand the start times of all occurrences in [from, to), in order.
+     *
+     * @param dtStart start of the first occurrence; its time of day applies to every occurrence
+     */
+    public List<LocalDateTime> between(LocalDateTime dtStart, LocalDateTime from, LocalDateTime to) {
+        return between(dtStart, from, to, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Expand the start times of the first {@code limit} occurrences in [from, to), in order.
+     * Expansion stops at the limit, so a far-off UNTIL or window end costs no more than
+     * {@code limit} occurrences.
+     *
+     * @param dtStart start of the first occurrence; its time of day applies to every occurrence
+     */
+    public List<LocalDateTime> between(LocalDateTime dtStart, LocalDateTime from, LocalDateTime to, int limit) {
+        List<LocalDateTime> result = new ArrayList<>();
+        LocalTime time = dtStart.toLocalTime();
+        LocalDate firstDate = dtStart.toLocalDate();
+        LocalDate anchor = frequency == Frequency.WEEKLY
+                ? firstDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : firstDate;
+        long periodDays = frequency == Frequency.WEEKLY ? 7L * interval : interval;
+        EnumSet<DayOfWeek> days = byDay.isEmpty() ? EnumSet.of(dtStart.getDayOfWeek()) : byDay;
+
+        // Without COUNT nothing before the window matters, so skip the periods before it
+        long period = 0;
+        if (count == null && from.toLocalDate().isAfter(anchor)) {
+            period = Math.max(0, ChronoUnit.DAYS.between(anchor, from.toLocalDate()) / periodDays - 1);
+        }
+
+        int produced = 0;
+        while (true) {
+            LocalDate periodStart = anchor.plusDays(period * periodDays);
+            if (until != null && periodStart.isAfter(until)) {
+                return result;
+            }
+            if (!LocalDateTime.of(periodStart, time).isBefore(to)) {
+                return result;
+            }
+            for (DayOfWeek day : days) {
+                LocalDate date = frequency == Frequency.WEEKLY
+                        ? periodStart.plusDays(day.getValue() - 1L)
+                        : periodStart;
+                if (date.isBefore(firstDate)) {
+                    continue;
+                }
+                if (until != null && date.isAfter(until)) {
+                    return result;
+                }
+                LocalDateTime occurrence = LocalDateTime.of(date, time);
+                if (!occurrence.isBefore(to)) {
+                    return result;
+                }
+                produced++;
+                if (!occurrence.isBefore(from)) {
+                    result.add(occurrence);
+                    if (result.size() >= limit) {
+                        return result;
+                    }
+                }
+                if (count != null && produced >= count) {
+                    return result;
+                }
+                if (frequency == Frequency.DAILY) {
+                    break;
+                }
+            }
+            period++;
+        }
+    }
+
+    /**
+     * Check whether the given start time is an occurrence of this rule.
+     */
+    public boolean isOccurrence(LocalDateTime dtStart, LocalDateTime candidate) {
+        return between(dtStart, candidate, candidate.plusSeconds(1)).contains(candidate);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            sb.append(";INTERVAL=").append(interval);
+        }
+        if (!byDay.isEmpty()) {
+            sb.append(";BYDAY=").append(byDay.stream()
+                    .map(day -> day.name().substring(0, 2))
+                    .collect(Collectors.joining(",")));
+        }
+        if (count != null) {
+            sb.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            sb.append(";UNTIL=").append(until.format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+        return sb.toString();
+    }
+
+    private static LocalDate parseUntil(String value) {
+        // Accept both date (20300115) and date-time (20300115T235959Z) forms; only the date is used
+        String date = value.length() >= 8 ? value.substring(0, 8) : value;
+        return LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private static BusinessRuleException invalid(String message) {
+        return new BusinessRuleException("INVALID_RECURRENCE_RULE", message);
+    }
+}
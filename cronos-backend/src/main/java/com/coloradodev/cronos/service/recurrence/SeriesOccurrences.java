@@ -0,0 +1,102 @@
+package com.coloradodev.cronos.service.recurrence;
+
+import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.Booking.BookingStatus;
+import com.coloradodev.cronos.domain.BookingSeries;
+import com.coloradodev.cronos.domain.BookingSeriesException;
+import com.coloradodev.cronos.domain.BookingSeriesException.ExceptionType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Expands booking series into transient {@link Booking} occurrences for a time window.
+ */
+public final class SeriesOccurrences {
+
+    private SeriesOccurrences() {
+    }
+
+    /**
+     * Stable id of one occurrence, derived from its series and original start time,
+     * so an occurrence can be tracked like a stored booking.
+     */
+    public static UUID occurrenceId(UUID seriesId, LocalDateTime originalStartTime) {
+        return UUID.nameUUIDFromBytes((seriesId + "@" + originalStartTime).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Expand every occurrence overlapping [from, to), with cancelled occurrences left out
+     * and rescheduled ones moved to their new time.
+     *
+     * @return occurrences ordered by start time
+     */
+    public static List<Booking> expand(Collection<BookingSeries> series,
+            Collection<BookingSeriesException> exceptions, LocalDateTime from, LocalDateTime to) {
+        Map<UUID, Map<LocalDateTime, BookingSeriesException>> exceptionsBySeries = new HashMap<>();
+        for (BookingSeriesException exception : exceptions) {
+            exceptionsBySeries.computeIfAbsent(exception.getSeriesId(), id -> new HashMap<>())
+                    .put(exception.getOriginalStartTime(), exception);
+        }
+
+        List<Booking> occurrences = new ArrayList<>();
+        for (BookingSeries s : series) {
+            RecurrenceRule rule = RecurrenceRule.parse(s.getRrule());
+            Map<LocalDateTime, BookingSeriesException> overrides =
+                    exceptionsBySeries.getOrDefault(s.getId(), Map.of());
+            long duration = s.getDurationMinutes();
+
+            for (LocalDateTime start : rule.between(s.getStartTime(), from.minusMinutes(duration), to)) {
+                LocalDateTime end = start.plusMinutes(duration);
+                if (overrides.containsKey(start) || !end.isAfter(from)) {
+                    continue;
+                }
+                occurrences.add(occurrence(s, start, start, end));
+            }
+
+            // Rescheduled occurrences may land in the window from anywhere in the series
+            for (BookingSeriesException override : overrides.values()) {
+                if (override.getType() == ExceptionType.RESCHEDULED
+                        && override.getNewStartTime().isBefore(to)
+                        && override.getNewEndTime().isAfter(from)) {
+                    occurrences.add(occurrence(s, override.getOriginalStartTime(),
+                            override.getNewStartTime(), override.getNewEndTime()));
+                }
+            }
+        }
+
+        occurrences.sort(Comparator.comparing(Booking::getStartTime));
+        return occurrences;
+    }
+
+    private static Booking occurrence(BookingSeries series, LocalDateTime originalStart,
+            LocalDateTime start, LocalDateTime end) {
+        Booking booking = new Booking();
+        booking.setId(occurrenceId(series.getId(), originalStart));
+        booking.setTenantId(series.getTenantId());
+        booking.setServiceId(series.getServiceId());
+        booking.setStaffId(series.getStaffId());
+        booking.setClientId(series.getClientId());
+        booking.setStartTime(start);
+        booking.setEndTime(end);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setClientName(series.getClientName());
+        booking.setClientEmail(series.getClientEmail());
+        booking.setClientPhone(series.getClientPhone());
+        booking.setNotes(series.getNotes());
+        booking.setCreatedAt(series.getCreatedAt());
+        booking.setUpdatedAt(series.getUpdatedAt());
+        booking.setService(series.getService());
+        booking.setStaff(series.getStaff());
+        booking.setSeriesId(series.getId());
+        booking.setOriginalStartTime(originalStart);
+        return booking;
+    }
+}
@@ -0,0 +1,85 @@
+package com.coloradodev.cronos.service.report;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Minimal RFC 4180 CSV writer.
+ * <p>
+ * Fields containing a comma, quote or line break are quoted, with quotes doubled. Text that
+ * a spreadsheet would treat as a formula ({@code = + - @}) gets a leading apostrophe, since
+ * exported names and notes are user input.
+ */
+public final class CsvWriter {
+
+    private static final String LINE_END = "\r\n";
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void writeRow(String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeField(fields[i]);
+        }
+        out.write(LINE_END);
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeField(String field) throws IOException {
+        if (field == null || field.isEmpty()) {
+            return;
+        }
+        String value = isFormula(field) ? "'" + field : field;
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean isFormula(String field) {
+        char first = field.charAt(0);
+        if (first == '=' || first == '@') {
+            return true;
+        }
+        // Plain numbers such as -12.50 stay as they are
+        return (first == '+' || first == '-') && !isNumber(field);
+    }
+
+    private static boolean isNumber(String field) {
+        for (int i = 1; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if ((c < '0' || c > '9') && c != '.') {
+                return false;
+            }
+        }
+        return field.length() > 1;
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -65,6 +66,31 @@ public class LocalStorageService implements StorageService {
         }
     }
 
+    @Override
+    public String store(String key, InputStream content) {
+        Path targetLocation = Paths.get(uploadPath).resolve(key);
+
+        try {
+            Files.createDirectories(targetLocation.getParent());
+            Files.copy(content, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            log.info("File stored successfully: {}", key);
+            return key;
+        } catch (IOException e) {
+            log.error("Failed to store file: {}", key, e);
+            throw new RuntimeException("Failed to store file: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(Paths.get(uploadPath).resolve(key));
+        } catch (IOException e) {
+            log.error("Failed to open file: {}", key, e);
+            throw new RuntimeException("Failed to open file: " + key, e);
+        }
+    }
+
     @Override
     public void delete(String key) {
         try {
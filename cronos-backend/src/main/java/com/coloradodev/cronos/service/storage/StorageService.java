@@ -2,6 +2,8 @@ package com.coloradodev.cronos.service.storage;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 /**
  * Storage service abstraction for file uploads.
  * Implementations: LocalStorageService (dev), SupabaseStorageService (prod)
@@ -17,6 +19,24 @@ public interface StorageService {
      */
     String upload(MultipartFile file, String folder);
 
+    /**
+     * Store a stream under the given key, replacing any existing object.
+     * The stream is copied as it is read and is not closed.
+     *
+     * @param key     the storage key/path
+     * @param content the content to store
+     * @return the storage key/path
+     */
+    String store(String key, InputStream content);
+
+    /**
+     * Open a stored object for reading. The caller closes the stream.
+     *
+     * @param key the storage key/path
+     * @return the object content
+     */
+    InputStream open(String key);
+
     /**
      * Delete a file from storage.
      *
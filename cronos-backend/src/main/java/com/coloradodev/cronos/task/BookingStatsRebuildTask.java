@@ -0,0 +1,99 @@
+package com.coloradodev.cronos.task;
+
+import com.coloradodev.cronos.core.cluster.JobLeaseManager;
+import com.coloradodev.cronos.repository.BookingRepository;
+import com.coloradodev.cronos.service.BookingStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Backfills and reconciles the {@code booking_daily_stats} rollup.
+ * <p>
+ * The range is rebuilt in chunks of {@code app.reporting.rollup.chunk-days}, each in its own
+ * transaction, so booking writes on those days are only held back for the duration of one
+ * chunk. Rebuilds run under the {@code booking-stats-rebuild} cluster lease, so only one
+ * instance does the work.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingStatsRebuildTask {
+
+    private static final String LEASE_NAME = "booking-stats-rebuild";
+
+    private final BookingStatsService bookingStatsService;
+    private final BookingRepository bookingRepository;
+    private final JobLeaseManager leaseManager;
+
+    @Value("${app.reporting.rollup.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @Value("${app.reporting.rollup.chunk-days:31}")
+    private int chunkDays;
+
+    @Value("${app.reporting.rollup.reconcile-days:7}")
+    private int reconcileDays;
+
+    /**
+     * Rebuild the whole rollup after startup when enabled, e.g. after restoring bookings.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            leaseManager.runExclusively(LEASE_NAME, this::backfillAll);
+        }
+    }
+
+    /**
+     * Rebuild the rollup over every day that has bookings.
+     */
+    public void backfillAll() {
+        LocalDateTime earliest = bookingRepository.findEarliestStartTime();
+        LocalDateTime latest = bookingRepository.findLatestStartTime();
+        if (earliest == null || latest == null) {
+            log.info("No bookings to backfill booking stats from");
+            return;
+        }
+        rebuild(earliest.toLocalDate(), latest.toLocalDate().plusDays(1));
+    }
+
+    /**
+     * Recompute the recent past and every future day nightly so any drift heals on its own.
+     */
+    @Scheduled(cron = "${app.reporting.rollup.reconcile-cron:0 30 2 * * *}")
+    public void reconcileRecentDays() {
+        leaseManager.runExclusively(LEASE_NAME, this::reconcile);
+    }
+
+    private void reconcile() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime latest = bookingRepository.findLatestStartTime();
+        LocalDate endDate = latest != null && latest.toLocalDate().isAfter(today)
+                ? latest.toLocalDate().plusDays(1)
+                : today.plusDays(1);
+        rebuild(today.minusDays(reconcileDays), endDate);
+        int purged = bookingStatsService.purgeEmpty();
+        log.debug("Purged {} empty booking stats rows", purged);
+    }
+
+    private void rebuild(LocalDate startDate, LocalDate endDate) {
+        log.info("Rebuilding booking stats for [{}, {})", startDate, endDate);
+        long rows = 0;
+        for (LocalDate chunkStart = startDate; chunkStart.isBefore(endDate); chunkStart = chunkStart.plusDays(chunkDays)) {
+            LocalDate chunkEnd = chunkStart.plusDays(chunkDays);
+            if (chunkEnd.isAfter(endDate)) {
+                chunkEnd = endDate;
+            }
+            rows += bookingStatsService.rebuild(chunkStart, chunkEnd);
+        }
+        log.info("Booking stats rebuild completed: {} rows", rows);
+    }
+}
@@ -0,0 +1,41 @@
+package com.coloradodev.cronos.task;
+
+import com.coloradodev.cronos.domain.Booking.BookingStatus;
+import com.coloradodev.cronos.repository.BookingRepository;
+import com.coloradodev.cronos.service.BookingStatsService;
+import com.coloradodev.cronos.task.batch.BatchJob;
+import com.coloradodev.cronos.task.batch.TenantScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deletes cancelled bookings that started before a cutoff day. The run key is the cutoff (ISO date).
+ */
+@Component
+@RequiredArgsConstructor
+public class CancelledBookingCleanupJob implements BatchJob {
+
+    private final BookingRepository bookingRepository;
+    private final BookingStatsService bookingStatsService;
+
+    @Override
+    public String getName() {
+        return "cleanup-cancelled-bookings";
+    }
+
+    @Override
+    public List<UUID> readChunk(String runKey, TenantScope scope, UUID afterId, int limit) {
+        return bookingRepository.lockIdsByStatusAndStartTimeBefore(BookingStatus.CANCELLED.name(),
+                LocalDate.parse(runKey).atStartOfDay(), scope.tenantIds().toArray(UUID[]::new), afterId, limit);
+    }
+
+    @Override
+    public int writeChunk(String runKey, List<UUID> ids) {
+        bookingStatsService.removeBookings(ids);
+        return bookingRepository.deleteByIdIn(ids);
+    }
+}
@@ -0,0 +1,46 @@
+package com.coloradodev.cronos.task;
+
+import com.coloradodev.cronos.domain.Booking.BookingStatus;
+import com.coloradodev.cronos.repository.BookingRepository;
+import com.coloradodev.cronos.service.BookingStatsService;
+import com.coloradodev.cronos.task.batch.BatchJob;
+import com.coloradodev.cronos.task.batch.TenantScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Marks the confirmed bookings of one day as no-shows. The run key is the day (ISO date),
+ * local to the timezone of the run's tenants.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoShowJob implements BatchJob {
+
+    private final BookingRepository bookingRepository;
+    private final BookingStatsService bookingStatsService;
+
+    @Override
+    public String getName() {
+        return "mark-no-shows";
+    }
+
+    @Override
+    public List<UUID> readChunk(String runKey, TenantScope scope, UUID afterId, int limit) {
+        LocalDate day = LocalDate.parse(runKey);
+        return bookingRepository.lockIdsByStatusAndStartTimeRange(BookingStatus.CONFIRMED.name(),
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay(), scope.tenantIds().toArray(UUID[]::new), afterId, limit);
+    }
+
+    @Override
+    public int writeChunk(String runKey, List<UUID> ids) {
+        bookingStatsService.removeBookings(ids);
+        int updated = bookingRepository.updateStatusByIdIn(ids, BookingStatus.NO_SHOW, LocalDateTime.now());
+        bookingStatsService.addBookings(ids);
+        return updated;
+    }
+}
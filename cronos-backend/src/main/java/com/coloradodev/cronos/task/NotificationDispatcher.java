@@ -0,0 +1,219 @@
+package com.coloradodev.cronos.task;
+
+import com.coloradodev.cronos.domain.Notification;
+import com.coloradodev.cronos.repository.projection.NotificationQueueStats;
+import com.coloradodev.cronos.service.NotificationService;
+import com.coloradodev.cronos.service.notification.NotificationSender;
+import com.coloradodev.cronos.service.notification.UndeliverableNotificationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends queued notifications.
+ * <p>
+ * Every channel gets its own pool of polling workers, sized by
+ * {@code app.notifications.dispatch.workers.<CHANNEL>}, so a slow provider only backs up its
+ * own channel. A worker claims a batch of due rows with {@code FOR UPDATE SKIP LOCKED} (so
+ * workers and instances never share rows), sends them without holding a transaction and
+ * marks the sent ones in one statement. Failures are retried with exponential backoff and
+ * jitter until {@code app.notifications.dispatch.max-attempts} is reached.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+
+    private final NotificationService notificationService;
+    private final List<NotificationSender> senders;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.notifications.dispatch.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.notifications.dispatch.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${app.notifications.dispatch.default-workers:2}")
+    private int defaultWorkers;
+
+    @Value("${app.notifications.dispatch.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.notifications.dispatch.retry.initial-delay-seconds:30}")
+    private long initialRetryDelaySeconds;
+
+    @Value("${app.notifications.dispatch.retry.max-delay-seconds:3600}")
+    private long maxRetryDelaySeconds;
+
+    private final List<ThreadPoolTaskScheduler> schedulers = new ArrayList<>();
+    private final Map<String, AtomicLong> queueDepth = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> oldestAgeSeconds = new ConcurrentHashMap<>();
+
+    /**
+     * Start the workers once the application is ready, after the partitions exist.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (NotificationSender sender : senders) {
+            String channel = sender.getChannel();
+            int workers = environment.getProperty("app.notifications.dispatch.workers." + channel,
+                    Integer.class, defaultWorkers);
+
+            ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+            scheduler.setPoolSize(workers);
+            scheduler.setThreadNamePrefix("Notify-" + channel + "-");
+            scheduler.setWaitForTasksToCompleteOnShutdown(true);
+            scheduler.setAwaitTerminationSeconds(30);
+            scheduler.initialize();
+            schedulers.add(scheduler);
+
+            ChannelMeters meters = new ChannelMeters(
+                    counter("cronos.notifications.sent", channel),
+                    counter("cronos.notifications.retried", channel),
+                    counter("cronos.notifications.failed", channel));
+            for (int i = 0; i < workers; i++) {
+                scheduler.scheduleWithFixedDelay(() -> poll(sender, meters), Duration.ofMillis(pollIntervalMs));
+            }
+            log.info("Notification dispatcher started: channel={}, workers={}", channel, workers);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        schedulers.forEach(ThreadPoolTaskScheduler::shutdown);
+    }
+
+    /**
+     * Refresh the per-channel queue depth and oldest-entry age gauges.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.dispatch.metrics-interval-ms:15000}")
+    public void refreshQueueMetrics() {
+        Map<String, NotificationQueueStats> stats = new HashMap<>();
+        for (NotificationQueueStats channelStats : notificationService.getQueueStats()) {
+            stats.put(channelStats.channel(), channelStats);
+        }
+        for (NotificationSender sender : senders) {
+            stats.putIfAbsent(sender.getChannel(), new NotificationQueueStats(sender.getChannel(), 0L, null));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        stats.forEach((channel, channelStats) -> {
+            gauge(queueDepth, "cronos.notifications.queue.depth", channel).set(channelStats.pending());
+            gauge(oldestAgeSeconds, "cronos.notifications.queue.oldest_age_seconds", channel)
+                    .set(channelStats.oldestCreatedAt() != null
+                            ? Math.max(0, Duration.between(channelStats.oldestCreatedAt(), now).toSeconds())
+                            : 0);
+        });
+    }
+
+    /**
+     * Send due notifications until the channel's backlog is drained or a batch comes back partially full.
+     */
+    void poll(NotificationSender sender, ChannelMeters meters) {
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch(sender, meters);
+            } while (claimed == batchSize);
+        } catch (RuntimeException e) {
+            // An escaping exception would cancel this worker's schedule
+            log.error("Notification dispatch for channel {} failed", sender.getChannel(), e);
+        }
+    }
+
+    int dispatchBatch(NotificationSender sender, ChannelMeters meters) {
+        List<Notification> notifications = notificationService.claimBatch(sender.getChannel(), batchSize);
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> sent = new ArrayList<>();
+        for (Notification notification : notifications) {
+            try {
+                if (sender.send(notification)) {
+                    sent.add(notification.getId());
+                } else {
+                    retryOrFail(notification, "Provider rejected the message", meters);
+                }
+            } catch (UndeliverableNotificationException e) {
+                log.warn("Notification {} is undeliverable: {}", notification.getId(), e.getMessage());
+                notificationService.markAttemptFailed(notification.getId(), null, e.getMessage());
+                meters.failed().increment();
+            } catch (RuntimeException e) {
+                log.warn("Notification {} send failed: {}", notification.getId(), e.getMessage());
+                retryOrFail(notification, e.getClass().getSimpleName() + ": " + e.getMessage(), meters);
+            }
+        }
+
+        notificationService.markSent(sent);
+        meters.sent().increment(sent.size());
+
+        log.debug("Notification batch on {}: {} claimed, {} sent",
+                sender.getChannel(), notifications.size(), sent.size());
+        return notifications.size();
+    }
+
+    private void retryOrFail(Notification notification, String error, ChannelMeters meters) {
+        int attempt = notification.getAttempts() + 1;
+        if (attempt >= maxAttempts) {
+            notificationService.markAttemptFailed(notification.getId(), null, error);
+            meters.failed().increment();
+            return;
+        }
+        long delay = retryDelaySeconds(attempt, initialRetryDelaySeconds, maxRetryDelaySeconds,
+                ThreadLocalRandom.current());
+        notificationService.markAttemptFailed(notification.getId(), LocalDateTime.now().plusSeconds(delay), error);
+        meters.retried().increment();
+    }
+
+    /**
+     * Backoff after the given (1-based) failed attempt: the exponential delay, capped at
+     * {@code maxDelaySeconds}, with "equal jitter" so that notifications failing together
+     * during a provider outage do not all retry at the same moment.
+     *
+     * @return a delay between half and all of the capped exponential delay
+     */
+    static long retryDelaySeconds(int attempt, long initialDelaySeconds, long maxDelaySeconds, Random random) {
+        long delay = Math.min(initialDelaySeconds << Math.min(Math.max(attempt - 1, 0), 20), maxDelaySeconds);
+        long half = delay / 2;
+        return half + random.nextLong(delay - half + 1);
+    }
+
+    private Counter counter(String name, String channel) {
+        return Counter.builder(name)
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    private AtomicLong gauge(Map<String, AtomicLong> gauges, String name, String channel) {
+        return gauges.computeIfAbsent(channel,
+                key -> meterRegistry.gauge(name, Tags.of("channel", key), new AtomicLong()));
+    }
+
+    record ChannelMeters(Counter sent, Counter retried, Counter failed) {
+    }
+}
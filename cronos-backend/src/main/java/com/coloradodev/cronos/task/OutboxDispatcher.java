@@ -0,0 +1,138 @@
+package com.coloradodev.cronos.task;
+
+import com.coloradodev.cronos.domain.Booking;
+import com.coloradodev.cronos.domain.Notification;
+import com.coloradodev.cronos.domain.OutboxEvent;
+import com.coloradodev.cronos.repository.BookingRepository;
+import com.coloradodev.cronos.service.NotificationService;
+import com.coloradodev.cronos.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers outbox events in batches.
+ * <p>
+ * Each poll claims a batch with {@code FOR UPDATE SKIP LOCKED} (so several instances can
+ * run side by side), loads the referenced bookings in one query and turns the booking events
+ * into PENDING notifications, saved in bulk. Sending is left to {@link NotificationDispatcher},
+ * so a slow email provider no longer holds up the outbox. Failed deliveries are retried with
+ * exponential backoff.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final String BOOKING_AGGREGATE = "Booking";
+
+    private final OutboxService outboxService;
+    private final NotificationService notificationService;
+    private final BookingRepository bookingRepository;
+
+    @Value("${app.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.retry.initial-delay-seconds:30}")
+    private long initialRetryDelaySeconds;
+
+    @Value("${app.outbox.retry.max-delay-seconds:3600}")
+    private long maxRetryDelaySeconds;
+
+    /**
+     * Deliver due events until the backlog is drained or a batch comes back partially full.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        int delivered;
+        do {
+            delivered = dispatchBatch();
+        } while (delivered == batchSize);
+    }
+
+    int dispatchBatch() {
+        List<OutboxEvent> events = outboxService.claimBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Booking> bookings = loadBookings(events);
+
+        List<UUID> published = new ArrayList<>();
+        List<Notification> notifications = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            try {
+                Notification notification = toNotification(event, bookings);
+                if (notification != null) {
+                    notifications.add(notification);
+                }
+                published.add(event.getId());
+            } catch (RuntimeException e) {
+                log.warn("Outbox event {} delivery failed: {}", event.getId(), e.getMessage());
+                outboxService.markAttemptFailed(event.getId(), nextAttemptAt(event),
+                        e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+
+        // Queue first: if marking fails the events are redelivered, which can only duplicate
+        notificationService.saveAll(notifications);
+        outboxService.markPublished(published);
+
+        log.debug("Outbox batch: {} events, {} published, {} notifications queued",
+                events.size(), published.size(), notifications.size());
+        return events.size();
+    }
+
+    private Map<UUID, Booking> loadBookings(List<OutboxEvent> events) {
+        List<UUID> bookingIds = events.stream()
+                .filter(event -> BOOKING_AGGREGATE.equals(event.getAggregateType()))
+                .map(OutboxEvent::getAggregateId)
+                .distinct()
+                .toList();
+        if (bookingIds.isEmpty()) {
+            return Map.of();
+        }
+        return bookingRepository.findWithDetailsByIdIn(bookingIds).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+    }
+
+    private Notification toNotification(OutboxEvent event, Map<UUID, Booking> bookings) {
+        if (!BOOKING_AGGREGATE.equals(event.getAggregateType())) {
+            // No subscriber delivers payment events yet; they are kept for auditing
+            return null;
+        }
+        Booking booking = bookings.get(event.getAggregateId());
+        if (booking == null) {
+            log.warn("Skipping outbox event {}: booking {} no longer exists",
+                    event.getId(), event.getAggregateId());
+            return null;
+        }
+        return notificationService.buildBookingEventNotification(
+                event.getEventType(), booking, outboxService.readPayload(event));
+    }
+
+    /**
+     * Exponential backoff from the number of attempts made so far, or null once they are used up.
+     */
+    private LocalDateTime nextAttemptAt(OutboxEvent event) {
+        int attempt = event.getAttempts() + 1;
+        if (attempt >= maxAttempts) {
+            return null;
+        }
+        long delay = initialRetryDelaySeconds << Math.min(attempt - 1, 20);
+        return LocalDateTime.now().plusSeconds(Math.min(delay, maxRetryDelaySeconds));
+    }
+}
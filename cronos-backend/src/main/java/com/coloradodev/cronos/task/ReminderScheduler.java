@@ -0,0 +1,223 @@
+package com.coloradodev.cronos.task;
+
+import com.coloradodev.cronos.core.cluster.TenantShard;
+import com.coloradodev.cronos.core.cluster.TenantShardManager;
+import com.coloradodev.cronos.core.cluster.TenantShardsChangedEvent;
+import com.coloradodev.cronos.core.event.DomainEvent;
+import com.coloradodev.cronos.core.event.DomainEventSubscriber;
+import com.coloradodev.cronos.core.timer.HierarchicalTimingWheel;
+import com.coloradodev.cronos.domain.event.BookingCancelled;
+import com.coloradodev.cronos.domain.event.BookingConfirmed;
+import com.coloradodev.cronos.domain.event.BookingNoShow;
+import com.coloradodev.cronos.domain.event.BookingRescheduled;
+import com.coloradodev.cronos.service.ReminderService;
+import com.coloradodev.cronos.service.ReminderService.DueReminder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Fires appointment reminders at their due time.
+ * <p>
+ * Reminders due within the look-ahead window ({@code app.reminders.lookahead-hours}) are
+ * held in a {@link HierarchicalTimingWheel}. A periodic query moves the window forward and
+ * picks up preference changes; booking events add, move or drop single reminders in between.
+ * Each tick queues at most {@code app.reminders.max-batch} of the reminders that came due,
+ * so they go out in small batches as the day goes on. Every instance runs its own wheel with
+ * the reminders of the tenant shards it owns, and reloads it when its shards change; while
+ * shards move between instances {@link ReminderService#queueReminders} still makes sure only
+ * one of them queues each reminder.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReminderScheduler implements DomainEventSubscriber {
+
+    private final ReminderService reminderService;
+    private final TenantShardManager tenantShardManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.reminders.wheel.tick-millis:1000}")
+    private long tickMillis;
+
+    @Value("${app.reminders.wheel.size:64}")
+    private int wheelSize;
+
+    @Value("${app.reminders.wheel.levels:3}")
+    private int wheelLevels;
+
+    @Value("${app.reminders.lookahead-hours:6}")
+    private long lookaheadHours;
+
+    @Value("${app.reminders.max-batch:50}")
+    private int maxBatch;
+
+    private final Map<UUID, HierarchicalTimingWheel.Timeout<DueReminder>> timeouts = new ConcurrentHashMap<>();
+    private final Queue<UUID> fired = new ConcurrentLinkedQueue<>();
+
+    private HierarchicalTimingWheel<DueReminder> wheel;
+    private volatile Instant horizon = Instant.EPOCH;
+    private Counter queued;
+
+    @PostConstruct
+    public void init() {
+        wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, wheelLevels, System.currentTimeMillis());
+        if (wheel.spanMillis() < Duration.ofHours(lookaheadHours).toMillis()) {
+            log.warn("Reminder wheel spans {}ms, less than the {}h look-ahead; far reminders will be re-placed",
+                    wheel.spanMillis(), lookaheadHours);
+        }
+
+        Gauge.builder("cronos.reminders.scheduled", wheel, HierarchicalTimingWheel::size)
+                .description("Reminders waiting in the timing wheel")
+                .register(meterRegistry);
+        Gauge.builder("cronos.reminders.backlog", fired, Queue::size)
+                .description("Reminders due but not yet queued")
+                .register(meterRegistry);
+        queued = Counter.builder("cronos.reminders.queued")
+                .register(meterRegistry);
+        log.info("Reminder wheel initialized: tick={}ms, size={}, levels={}, lookahead={}h",
+                tickMillis, wheelSize, wheelLevels, lookaheadHours);
+    }
+
+    @Override
+    public String getSubscriberName() {
+        return "reminders";
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        Set<UUID> changed = new HashSet<>();
+        for (DomainEvent event : events) {
+            if (event instanceof BookingConfirmed confirmed) {
+                if (tenantShardManager.owns(confirmed.tenantId())) {
+                    changed.add(confirmed.bookingId());
+                }
+            } else if (event instanceof BookingRescheduled rescheduled) {
+                if (tenantShardManager.owns(rescheduled.tenantId())) {
+                    changed.add(rescheduled.bookingId());
+                }
+            } else if (event instanceof BookingCancelled cancelled) {
+                changed.remove(cancelled.bookingId());
+                unschedule(cancelled.bookingId());
+            } else if (event instanceof BookingNoShow noShow) {
+                changed.remove(noShow.bookingId());
+                unschedule(noShow.bookingId());
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        Instant currentHorizon = horizon;
+        Set<UUID> stillDue = new HashSet<>();
+        for (DueReminder reminder : reminderService.findDue(changed)) {
+            if (reminder.dueAt().isBefore(currentHorizon)) {
+                schedule(reminder);
+                stillDue.add(reminder.bookingId());
+            }
+        }
+        // Rescheduled past the window, or no longer eligible
+        for (UUID bookingId : changed) {
+            if (!stillDue.contains(bookingId)) {
+                unschedule(bookingId);
+            }
+        }
+    }
+
+    /**
+     * Move the look-ahead window forward and bring the wheel in line with the database and
+     * with the tenant shards this instance owns.
+     */
+    @Scheduled(fixedDelayString = "${app.reminders.refresh-interval-ms:900000}")
+    public void refresh() {
+        List<TenantShard> shards = tenantShardManager.getOwnedShards();
+        for (HierarchicalTimingWheel.Timeout<DueReminder> timeout : timeouts.values()) {
+            if (!tenantShardManager.owns(timeout.getPayload().tenantId())) {
+                unschedule(timeout.getPayload().bookingId());
+            }
+        }
+
+        Instant newHorizon = Instant.now().plus(Duration.ofHours(lookaheadHours));
+        List<DueReminder> due = reminderService.findDueBefore(newHorizon, shards);
+        for (DueReminder reminder : due) {
+            schedule(reminder);
+        }
+        horizon = newHorizon;
+        log.debug("Reminder look-ahead refreshed: {} reminders due before {} in {} shards",
+                due.size(), newHorizon, shards.size());
+    }
+
+    @EventListener
+    public void onShardsChanged(TenantShardsChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * Advance the wheel and queue a batch of the reminders that came due.
+     */
+    @Scheduled(fixedDelayString = "${app.reminders.wheel.tick-millis:1000}")
+    public void tick() {
+        wheel.advance(System.currentTimeMillis(), this::onDue);
+
+        List<UUID> batch = new ArrayList<>(maxBatch);
+        UUID bookingId;
+        while (batch.size() < maxBatch && (bookingId = fired.poll()) != null) {
+            batch.add(bookingId);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            queued.increment(reminderService.queueReminders(batch));
+        } catch (RuntimeException e) {
+            // Still unsent in the database, so the next refresh schedules them again
+            log.error("Failed to queue {} reminders", batch.size(), e);
+        }
+    }
+
+    private void schedule(DueReminder reminder) {
+        timeouts.compute(reminder.bookingId(), (bookingId, existing) -> {
+            if (existing != null) {
+                if (existing.getPayload().equals(reminder)) {
+                    // Due time unchanged: keep the entry where it is
+                    return existing;
+                }
+                existing.cancel();
+            }
+            return wheel.schedule(reminder, reminder.dueAt().toEpochMilli());
+        });
+    }
+
+    private void unschedule(UUID bookingId) {
+        HierarchicalTimingWheel.Timeout<DueReminder> timeout = timeouts.remove(bookingId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void onDue(DueReminder reminder) {
+        // Only drop the mapping if it still points at this reminder, not a newer one
+        timeouts.computeIfPresent(reminder.bookingId(),
+                (bookingId, timeout) -> timeout.getPayload() == reminder ? null : timeout);
+        fired.add(reminder.bookingId());
+    }
+}
@@ -1,115 +1,104 @@
 package com.coloradodev.cronos.task;
 
-import com.coloradodev.cronos.domain.Booking;
-import com.coloradodev.cronos.repository.BookingRepository;
-import com.coloradodev.cronos.service.notification.EmailNotificationProvider;
+import com.coloradodev.cronos.core.cluster.JobLeaseManager;
+import com.coloradodev.cronos.core.idempotency.IdempotencyStore;
+import com.coloradodev.cronos.service.OutboxService;
+import com.coloradodev.cronos.service.PartitionService;
+import com.coloradodev.cronos.service.ReportJobService;
+import com.coloradodev.cronos.service.SlotHoldService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.List;
-
 /**
  * Scheduled background tasks for the Cronos platform.
+ * <p>
+ * Every instance runs these schedules. The tasks run under a cluster lease, so only the
+ * instance that gets it does the work. Daily booking jobs run at each tenant's local time,
+ * see {@link TenantLocalJobScheduler}.
  */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class ScheduledTasks {
 
-    private final BookingRepository bookingRepository;
-    private final EmailNotificationProvider emailProvider;
+    private final JobLeaseManager leaseManager;
+    private final PartitionService partitionService;
+    private final OutboxService outboxService;
+    private final ReportJobService reportJobService;
+    private final IdempotencyStore idempotencyStore;
+    private final SlotHoldService slotHoldService;
 
     /**
-     * Send appointment reminders daily at 8 AM.
-     * Sends reminders for appointments scheduled for the next day.
+     * Make sure the upcoming monthly partitions exist before the first audit log or
+     * notification is written.
      */
-    @Scheduled(cron = "0 0 8 * * *", zone = "America/New_York")
-    public void sendDailyReminders() {
-        log.info("Starting daily appointment reminders job");
-
-        LocalDate tomorrow = LocalDate.now().plusDays(1);
-        LocalDateTime startOfDay = tomorrow.atStartOfDay();
-        LocalDateTime endOfDay = tomorrow.atTime(LocalTime.MAX);
-
-        List<Booking> bookings = bookingRepository.findByStartTimeBetweenAndStatusIn(
-                startOfDay, endOfDay,
-                List.of(Booking.BookingStatus.CONFIRMED));
-
-        int sent = 0;
-        for (Booking booking : bookings) {
-            try {
-                emailProvider.sendAppointmentReminder(booking, 24);
-                sent++;
-            } catch (Exception e) {
-                log.error("Failed to send reminder for booking {}: {}",
-                        booking.getId(), e.getMessage());
-            }
-        }
-
-        log.info("Daily reminders completed: {}/{} emails sent", sent, bookings.size());
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePartitionsOnStartup() {
+        leaseManager.runExclusively("partition-maintenance", partitionService::ensurePartitions);
     }
 
     /**
-     * Clean up old cancelled bookings at 2 AM.
-     * Removes cancelled bookings older than 30 days.
+     * Maintain monthly partitions at 4 AM: create upcoming months and remove expired ones.
      */
-    @Scheduled(cron = "0 0 2 * * *")
-    public void cleanupOldBookings() {
-        log.info("Starting cleanup of old cancelled bookings");
-
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
+    @Scheduled(cron = "0 0 4 * * *")
+    public void maintainPartitions() {
+        leaseManager.runExclusively("partition-maintenance", () -> {
+            log.info("Starting partition maintenance");
 
-        // Get cancelled bookings older than cutoff
-        List<Booking> oldCancelled = bookingRepository.findByStatusAndStartTimeBefore(
-                Booking.BookingStatus.CANCELLED, cutoffDate);
+            partitionService.ensurePartitions();
+            int removed = partitionService.removeExpiredPartitions();
 
-        for (Booking booking : oldCancelled) {
-            bookingRepository.delete(booking);
-        }
-
-        log.info("Cleanup completed: {} old bookings deleted", oldCancelled.size());
+            log.info("Partition maintenance completed: {} expired partitions removed", removed);
+        });
     }
 
     /**
-     * Mark no-shows at 1 AM (for yesterday's appointments).
-     * Appointments that were confirmed but not completed are marked as no-shows.
+     * Check subscription expirations at 3 AM.
      */
-    @Scheduled(cron = "0 0 1 * * *")
-    public void markNoShows() {
-        log.info("Starting no-show detection");
-
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        LocalDateTime startOfYesterday = yesterday.atStartOfDay();
-        LocalDateTime endOfYesterday = yesterday.atTime(LocalTime.MAX);
+    @Scheduled(cron = "0 0 3 * * *")
+    public void checkSubscriptionExpirations() {
+        leaseManager.runExclusively("subscription-expirations", () -> {
+            log.info("Checking subscription expirations");
+            // TODO: Implement subscription expiration logic
+            // - Find subscriptions expiring in 7 days → send warning email
+            // - Find expired subscriptions → update status, notify tenant
+            log.info("Subscription check completed");
+        });
+    }
 
-        List<Booking> pendingBookings = bookingRepository.findByStartTimeBetweenAndStatusIn(
-                startOfYesterday, endOfYesterday,
-                List.of(Booking.BookingStatus.CONFIRMED));
+    /**
+     * Delete published outbox events past retention at 3:30 AM.
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgePublishedOutboxEvents() {
+        leaseManager.runExclusively("outbox-purge", outboxService::purgePublished);
+    }
 
-        int marked = 0;
-        for (Booking booking : pendingBookings) {
-            booking.setStatus(Booking.BookingStatus.NO_SHOW);
-            bookingRepository.save(booking);
-            marked++;
-        }
+    /**
+     * Fail orphaned report jobs and delete expired ones.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.cleanup-interval-ms:900000}")
+    public void cleanupReportJobs() {
+        leaseManager.runExclusively("report-job-cleanup", reportJobService::cleanupJobs);
+    }
 
-        log.info("No-show detection completed: {} appointments marked", marked);
+    /**
+     * Delete expired idempotency keys.
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:3600000}")
+    public void cleanupIdempotencyKeys() {
+        leaseManager.runExclusively("idempotency-cleanup", idempotencyStore::cleanupExpired);
     }
 
     /**
-     * Check subscription expirations at 3 AM.
+     * Delete slot holds that expired without passing through a node's wheel.
      */
-    @Scheduled(cron = "0 0 3 * * *")
-    public void checkSubscriptionExpirations() {
-        log.info("Checking subscription expirations");
-        // TODO: Implement subscription expiration logic
-        // - Find subscriptions expiring in 7 days → send warning email
-        // - Find expired subscriptions → update status, notify tenant
-        log.info("Subscription check completed");
+    @Scheduled(fixedDelayString = "${app.holds.sweep-interval-ms:60000}")
+    public void sweepExpiredHolds() {
+        leaseManager.runExclusively("slot-hold-sweep", slotHoldService::sweepExpiredHolds);
     }
 }
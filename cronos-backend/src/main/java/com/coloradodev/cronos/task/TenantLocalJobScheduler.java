@@ -0,0 +1,118 @@
+package com.coloradodev.cronos.task;
+
+import com.coloradodev.cronos.core.cluster.TenantShard;
+import com.coloradodev.cronos.core.cluster.TenantShardManager;
+import com.coloradodev.cronos.core.tenant.TenantTimezones;
+import com.coloradodev.cronos.task.batch.BatchJob;
+import com.coloradodev.cronos.task.batch.BatchJobResult;
+import com.coloradodev.cronos.task.batch.BatchJobRunner;
+import com.coloradodev.cronos.task.batch.TenantScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the daily booking jobs at each tenant's local time.
+ * <p>
+ * Tenants are grouped into buckets by timezone ({@link TenantTimezones}). Every tick, each
+ * bucket's local time is checked against the job's local hour; once it has passed, the job's
+ * run for that local day is started for each tenant shard this instance owns. Shards are
+ * staggered over {@code app.tenant-jobs.spread-minutes} after the hour, so tenants sharing a
+ * timezone do not all start at once. The runner skips runs that already completed and resumes
+ * failed ones, so later ticks of the same day only finish what is left; a run still unfinished
+ * when the next day's run is due is finished before that one starts.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantLocalJobScheduler {
+
+    private final TenantTimezones tenantTimezones;
+    private final TenantShardManager tenantShardManager;
+    private final BatchJobRunner batchJobRunner;
+    private final NoShowJob noShowJob;
+    private final CancelledBookingCleanupJob cancelledBookingCleanupJob;
+
+    @Value("${app.tenant-jobs.no-shows.local-hour:1}")
+    private int noShowHour;
+
+    @Value("${app.tenant-jobs.cleanup.local-hour:2}")
+    private int cleanupHour;
+
+    @Value("${app.tenant-jobs.cleanup.retention-days:30}")
+    private int cleanupRetentionDays;
+
+    @Value("${app.tenant-jobs.spread-minutes:60}")
+    private int spreadMinutes;
+
+    /**
+     * Start the runs that are due. Ticks every 15 minutes so that timezones with half- and
+     * quarter-hour offsets are served on time.
+     */
+    @Scheduled(cron = "${app.tenant-jobs.cron:0 */15 * * * *}")
+    public void runDueJobs() {
+        Instant now = Instant.now();
+        List<TenantShard> owned = tenantShardManager.getOwnedShards();
+        if (owned.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<ZoneId, Set<UUID>> bucket : tenantTimezones.getBuckets().entrySet()) {
+            ZonedDateTime local = now.atZone(bucket.getKey());
+            for (TenantShard shard : owned) {
+                Set<UUID> tenantIds = bucket.getValue().stream()
+                        .filter(shard::contains)
+                        .collect(Collectors.toSet());
+                if (tenantIds.isEmpty()) {
+                    continue;
+                }
+                TenantScope scope = new TenantScope(bucket.getKey(), shard, tenantIds);
+                if (isDue(local, noShowHour, shard)) {
+                    run(noShowJob, local.toLocalDate().minusDays(1), scope);
+                }
+                if (isDue(local, cleanupHour, shard)) {
+                    run(cancelledBookingCleanupJob, local.toLocalDate().minusDays(cleanupRetentionDays), scope);
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether a shard's run for the local day is due: its start is {@code localHour} plus the
+     * shard's share of the spread, capped at the end of the day.
+     */
+    static boolean isDue(ZonedDateTime local, int localHour, TenantShard shard, int spreadMinutes) {
+        int offset = spreadMinutes * shard.index() / shard.count();
+        int startMinute = Math.min(localHour * 60 + offset, 24 * 60 - 1);
+        return local.getHour() * 60 + local.getMinute() >= startMinute;
+    }
+
+    private boolean isDue(ZonedDateTime local, int localHour, TenantShard shard) {
+        return isDue(local, localHour, shard, spreadMinutes);
+    }
+
+    private void run(BatchJob job, LocalDate day, TenantScope scope) {
+        try {
+            Optional<BatchJobResult> result = batchJobRunner.run(job, day.toString(), scope);
+            if (result.isPresent() && !result.get().alreadyCompleted()) {
+                log.info("Batch job {} for {} ({}): {} rows changed", job.getName(), day, scope,
+                        result.get().rowsWritten());
+            }
+        } catch (RuntimeException e) {
+            // Logged and checkpointed by the runner; the next tick resumes it
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.coloradodev.cronos.task.batch;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of a job's latest run, as stored in {@code batch_job_checkpoints}.
+ */
+public record BatchCheckpoint(
+        String jobName,
+        String runKey,
+        Status status,
+        UUID lastId,
+        long rowsRead,
+        long rowsWritten,
+        LocalDateTime startedAt) {
+
+    public enum Status {
+        RUNNING,
+        FAILED,
+        COMPLETED
+    }
+}
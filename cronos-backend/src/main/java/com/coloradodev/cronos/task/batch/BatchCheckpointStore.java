@@ -0,0 +1,89 @@
+package com.coloradodev.cronos.task.batch;
+
+import com.coloradodev.cronos.task.batch.BatchCheckpoint.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads and writes {@code batch_job_checkpoints}. {@link #advance} is meant to run inside the
+ * chunk's transaction, so a checkpoint never gets ahead of the work it records.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchCheckpointStore {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final RowMapper<BatchCheckpoint> ROW_MAPPER = (rs, rowNum) -> new BatchCheckpoint(
+            rs.getString("job_name"),
+            rs.getString("run_key"),
+            Status.valueOf(rs.getString("status")),
+            rs.getObject("last_id", UUID.class),
+            rs.getLong("rows_read"),
+            rs.getLong("rows_written"),
+            rs.getTimestamp("started_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<BatchCheckpoint> find(String jobName) {
+        List<BatchCheckpoint> rows = jdbcTemplate.query(
+                "SELECT * FROM batch_job_checkpoints WHERE job_name = ?", ROW_MAPPER, jobName);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Start a new run, replacing whatever the job's checkpoint held before.
+     */
+    public void start(String jobName, String runKey) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO batch_job_checkpoints "
+                        + "(job_name, run_key, status, last_id, rows_read, rows_written, last_error, started_at, "
+                        + "updated_at, completed_at) "
+                        + "VALUES (?, ?, ?, NULL, 0, 0, NULL, ?, ?, NULL) "
+                        + "ON CONFLICT (job_name) DO UPDATE SET run_key = EXCLUDED.run_key, "
+                        + "status = EXCLUDED.status, last_id = NULL, rows_read = 0, rows_written = 0, "
+                        + "last_error = NULL, started_at = EXCLUDED.started_at, updated_at = EXCLUDED.updated_at, "
+                        + "completed_at = NULL",
+                jobName, runKey, Status.RUNNING.name(), now, now);
+    }
+
+    /**
+     * Mark a resumed run as running again.
+     */
+    public void resume(String jobName) {
+        jdbcTemplate.update("UPDATE batch_job_checkpoints SET status = ?, last_error = NULL, updated_at = ? "
+                + "WHERE job_name = ?", Status.RUNNING.name(), Timestamp.valueOf(LocalDateTime.now()), jobName);
+    }
+
+    /**
+     * Record a committed chunk.
+     */
+    public void advance(String jobName, UUID lastId, int rowsRead, int rowsWritten) {
+        jdbcTemplate.update("UPDATE batch_job_checkpoints SET last_id = ?, rows_read = rows_read + ?, "
+                        + "rows_written = rows_written + ?, updated_at = ? WHERE job_name = ?",
+                lastId, rowsRead, rowsWritten, Timestamp.valueOf(LocalDateTime.now()), jobName);
+    }
+
+    public void complete(String jobName) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("UPDATE batch_job_checkpoints SET status = ?, updated_at = ?, completed_at = ? "
+                + "WHERE job_name = ?", Status.COMPLETED.name(), now, now, jobName);
+    }
+
+    public void fail(String jobName, String error) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        jdbcTemplate.update("UPDATE batch_job_checkpoints SET status = ?, last_error = ?, updated_at = ? "
+                        + "WHERE job_name = ?",
+                Status.FAILED.name(), truncated, Timestamp.valueOf(LocalDateTime.now()), jobName);
+    }
+}
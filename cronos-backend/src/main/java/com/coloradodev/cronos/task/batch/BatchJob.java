@@ -0,0 +1,43 @@
+package com.coloradodev.cronos.task.batch;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A job that processes rows in chunks, run by {@link BatchJobRunner}.
+ * <p>
+ * Both methods run in the chunk's transaction. The reader pages by id, so the runner can
+ * checkpoint the last id of each committed chunk and resume after it; it should lock the
+ * rows it returns ({@code FOR UPDATE}) so the writer's set-based statement sees them unchanged.
+ * A run is identified by its run key (e.g. the day it covers), from which the job derives its
+ * parameters, so an interrupted run can be resumed with the same ones. A run covers the tenants
+ * of one {@link TenantScope}, so instances can split a job between them; the reader only
+ * returns rows of those tenants.
+ */
+public interface BatchJob {
+
+    /**
+     * Passed as {@code afterId} for the first chunk; sorts before every other UUID.
+     */
+    UUID FIRST_ID = new UUID(0, 0);
+
+    /**
+     * Unique job name, used for its checkpoint and metrics.
+     */
+    String getName();
+
+    /**
+     * Ids of the next chunk in ascending id order.
+     *
+     * @param scope   tenants to cover
+     * @param afterId last id of the previous chunk, or {@link #FIRST_ID} for the first chunk
+     */
+    List<UUID> readChunk(String runKey, TenantScope scope, UUID afterId, int limit);
+
+    /**
+     * Process one chunk with set-based statements.
+     *
+     * @return number of rows changed
+     */
+    int writeChunk(String runKey, List<UUID> ids);
+}
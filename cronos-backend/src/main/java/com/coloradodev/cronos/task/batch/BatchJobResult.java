@@ -0,0 +1,16 @@
+package com.coloradodev.cronos.task.batch;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one {@link BatchJobRunner#run} call. Counts cover the whole run, including
+ * chunks committed before a resume.
+ */
+public record BatchJobResult(
+        String jobName,
+        String runKey,
+        long rowsRead,
+        long rowsWritten,
+        Duration duration,
+        boolean alreadyCompleted) {
+}
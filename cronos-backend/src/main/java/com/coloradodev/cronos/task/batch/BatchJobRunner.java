@@ -0,0 +1,201 @@
+package com.coloradodev.cronos.task.batch;
+
+import com.coloradodev.cronos.core.cluster.JobLease;
+import com.coloradodev.cronos.core.cluster.JobLeaseManager;
+import com.coloradodev.cronos.task.batch.BatchCheckpoint.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs {@link BatchJob}s chunk by chunk.
+ * <p>
+ * Every chunk is read, written and checkpointed in its own transaction, so locks are held
+ * for one chunk only and a failure loses at most the chunk in flight. Calling {@link #run}
+ * again with the run key of an unfinished run resumes it after the last committed id; a
+ * completed run is not repeated, so schedulers can simply call it again until it completes.
+ * <p>
+ * Each {@link TenantScope} of a job has its own checkpoint, named {@code job@scope}, holding
+ * its latest run. A run with a new run key first finishes the run in the checkpoint if that
+ * one has not completed, so no run is abandoned half done when the next one is due. Every run
+ * holds a cluster lease on its checkpoint for as long as it runs, so two instances never run
+ * the same job for the same tenants at once. If the lease is lost mid-run the run stops after
+ * the current chunk and the new holder resumes it.
+ */
+@Component
+@Slf4j
+public class BatchJobRunner {
+
+    private static final char SCOPE_SEPARATOR = '@';
+    private static final String LEASE_PREFIX = "batch:";
+
+    private final BatchCheckpointStore checkpointStore;
+    private final JobLeaseManager leaseManager;
+    private final TransactionTemplate chunkTransaction;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+
+    private final Map<String, AtomicLong> rowsPerSecond = new ConcurrentHashMap<>();
+
+    public BatchJobRunner(BatchCheckpointStore checkpointStore, JobLeaseManager leaseManager,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.batch.chunk-size:500}") int chunkSize) {
+        this.checkpointStore = checkpointStore;
+        this.leaseManager = leaseManager;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Run (or resume) the given run of a job over the tenants of one scope to completion.
+     *
+     * @return the result, or empty if another instance is running the same job and scope
+     * @throws RuntimeException whatever a chunk threw; the run is checkpointed as FAILED
+     */
+    public Optional<BatchJobResult> run(BatchJob job, String runKey, TenantScope scope) {
+        String name = job.getName() + SCOPE_SEPARATOR + scope;
+        Optional<BatchCheckpoint> checkpoint = checkpointStore.find(name);
+        if (isCompleted(checkpoint, runKey)) {
+            // Checked before taking the lease, since schedulers ask again until the run completes
+            return Optional.of(completed(checkpoint.get()));
+        }
+
+        Optional<JobLease> lease = leaseManager.tryAcquire(LEASE_PREFIX + name);
+        if (lease.isEmpty()) {
+            log.debug("Batch job {} is running on another instance", name);
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(run(job, runKey, scope, name, lease.get()));
+        } finally {
+            leaseManager.release(lease.get());
+        }
+    }
+
+    private BatchJobResult run(BatchJob job, String runKey, TenantScope scope, String name, JobLease lease) {
+        // Read again under the lease: another instance may have completed or advanced it meanwhile
+        Optional<BatchCheckpoint> checkpoint = checkpointStore.find(name);
+        if (checkpoint.isPresent() && !checkpoint.get().runKey().equals(runKey)
+                && checkpoint.get().status() != Status.COMPLETED) {
+            // Starting the new run replaces the checkpoint, the only record of what is left of this one
+            BatchCheckpoint unfinished = checkpoint.get();
+            log.info("Finishing batch job {} run {} before starting run {}", name, unfinished.runKey(), runKey);
+            process(job, unfinished.runKey(), scope, name, lease, checkpoint);
+        }
+        checkpoint = checkpoint.filter(existing -> existing.runKey().equals(runKey));
+        if (isCompleted(checkpoint, runKey)) {
+            return completed(checkpoint.get());
+        }
+        return process(job, runKey, scope, name, lease, checkpoint);
+    }
+
+    private BatchJobResult process(BatchJob job, String runKey, TenantScope scope, String name, JobLease lease,
+            Optional<BatchCheckpoint> checkpoint) {
+        UUID afterId = BatchJob.FIRST_ID;
+        long rowsRead = 0;
+        long rowsWritten = 0;
+        if (checkpoint.isPresent()) {
+            afterId = checkpoint.get().lastId() != null ? checkpoint.get().lastId() : BatchJob.FIRST_ID;
+            rowsRead = checkpoint.get().rowsRead();
+            rowsWritten = checkpoint.get().rowsWritten();
+            checkpointStore.resume(name);
+            log.info("Resuming batch job {} run {} after {} ({} rows read)", name, runKey, afterId, rowsRead);
+        } else {
+            checkpointStore.start(name, runKey);
+            log.info("Starting batch job {} run {}", name, runKey);
+        }
+
+        Counter rows = Counter.builder("cronos.batch.job.rows")
+                .tag("job", job.getName())
+                .description("Rows changed by batch jobs")
+                .register(meterRegistry);
+        long startedAt = System.nanoTime();
+        long writtenThisRun = 0;
+        try {
+            while (true) {
+                if (!lease.isHeld()) {
+                    throw new IllegalStateException("Lost the lease on " + name + "; another instance takes over");
+                }
+                UUID after = afterId;
+                Chunk chunk = chunkTransaction.execute(status -> processChunk(job, runKey, scope, name, after));
+                if (chunk == null) {
+                    break;
+                }
+                afterId = chunk.lastId();
+                rowsRead += chunk.read();
+                rowsWritten += chunk.written();
+                writtenThisRun += chunk.written();
+                rows.increment(chunk.written());
+                if (chunk.read() < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            record(job.getName(), "failed", startedAt, writtenThisRun);
+            if (lease.isHeld()) {
+                // Otherwise the checkpoint belongs to the new holder by now
+                checkpointStore.fail(name, e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+            log.error("Batch job {} run {} failed after {} rows; it resumes from the last checkpoint",
+                    name, runKey, rowsRead, e);
+            throw e;
+        }
+
+        checkpointStore.complete(name);
+        Duration duration = record(job.getName(), "completed", startedAt, writtenThisRun);
+        log.info("Batch job {} run {} completed: {} rows read, {} written in {}ms",
+                name, runKey, rowsRead, rowsWritten, duration.toMillis());
+        return new BatchJobResult(name, runKey, rowsRead, rowsWritten, duration, false);
+    }
+
+    private Chunk processChunk(BatchJob job, String runKey, TenantScope scope, String name, UUID afterId) {
+        List<UUID> ids = job.readChunk(runKey, scope, afterId, chunkSize);
+        if (ids.isEmpty()) {
+            return null;
+        }
+        int written = job.writeChunk(runKey, ids);
+        UUID lastId = ids.get(ids.size() - 1);
+        checkpointStore.advance(name, lastId, ids.size(), written);
+        return new Chunk(lastId, ids.size(), written);
+    }
+
+    private static boolean isCompleted(Optional<BatchCheckpoint> checkpoint, String runKey) {
+        return checkpoint.isPresent() && checkpoint.get().runKey().equals(runKey)
+                && checkpoint.get().status() == Status.COMPLETED;
+    }
+
+    private static BatchJobResult completed(BatchCheckpoint checkpoint) {
+        return new BatchJobResult(checkpoint.jobName(), checkpoint.runKey(), checkpoint.rowsRead(),
+                checkpoint.rowsWritten(), Duration.ZERO, true);
+    }
+
+    private Duration record(String name, String outcome, long startedAt, long written) {
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        Timer.builder("cronos.batch.job.duration")
+                .tags("job", name, "outcome", outcome)
+                .register(meterRegistry)
+                .record(duration);
+        rowsPerSecond.computeIfAbsent(name, key -> meterRegistry.gauge("cronos.batch.job.rows_per_second",
+                Tags.of("job", key), new AtomicLong()))
+                .set(Math.round(written * 1000.0 / Math.max(1, duration.toMillis())));
+        return duration;
+    }
+
+    private record Chunk(UUID lastId, int read, int written) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.coloradodev.cronos.task.batch;
+
+import com.coloradodev.cronos.core.cluster.TenantShard;
+
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The tenants a batch run covers: those in the timezone bucket of {@code zone} (see
+ * {@code TenantTimezones}) that belong to one tenant shard. Daily jobs run per timezone, so
+ * their run key (the day) means the same local day for every tenant they touch. Readers
+ * filter by {@code tenantIds} rather than by the stored timezone, so tenants whose timezone
+ * was mapped to the default one are covered too.
+ */
+public record TenantScope(ZoneId zone, TenantShard shard, Set<UUID> tenantIds) {
+
+    public TenantScope {
+        tenantIds = Set.copyOf(tenantIds);
+    }
+
+    @Override
+    public String toString() {
+        return zone.getId() + "#" + shard;
+    }
+}
@@ -0,0 +1,12 @@
+-- Cronos Platform - Revenue aggregation support
+-- Version: 10
+-- Description: Refund columns mapped by the Payment entity but missing from the initial
+-- schema, plus indexes for the revenue report's GROUP BY queries
+
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS refund_amount DECIMAL(10, 2);
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS refund_reason VARCHAR(255);
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS refunded_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_payments_tenant_refunded_at
+    ON payments(tenant_id, refunded_at)
+    WHERE status = 'REFUNDED';
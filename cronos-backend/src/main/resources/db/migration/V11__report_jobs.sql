@@ -0,0 +1,25 @@
+-- Cronos Platform - Report export jobs
+-- Version: 11
+-- Description: Asynchronous CSV exports of bookings, payments and audit logs
+
+CREATE TABLE IF NOT EXISTS report_jobs (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    report_type VARCHAR(50) NOT NULL,
+    format VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    storage_key VARCHAR(512),
+    row_count BIGINT,
+    size_bytes BIGINT,
+    error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_report_jobs_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_report_jobs_tenant_created ON report_jobs(tenant_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_report_jobs_expires_at ON report_jobs(expires_at);
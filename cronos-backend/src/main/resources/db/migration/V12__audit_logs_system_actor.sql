@@ -0,0 +1,6 @@
+-- Cronos Platform - System actions in the audit log
+-- Version: 12
+-- Description: Most audited service calls have no acting user (system or API actions) and
+-- pass a null user_id, which the initial NOT NULL constraint rejected
+
+ALTER TABLE audit_logs ALTER COLUMN user_id DROP NOT NULL;
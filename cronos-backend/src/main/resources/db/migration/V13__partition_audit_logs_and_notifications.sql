@@ -0,0 +1,111 @@
+-- Cronos Platform - Monthly partitions for audit_logs and notifications
+-- Version: 13
+-- Description: Both tables are append-mostly and read by tenant and time range. Range
+-- partitioning by month lets queries prune to the months they touch and turns retention
+-- into dropping whole partitions (see PartitionService) instead of large DELETEs.
+-- The primary keys become (id, <partition key>) because Postgres requires unique
+-- constraints on a partitioned table to include the partition key.
+
+-- Creates the partition of parent_table holding the month of month_start, named
+-- <parent_table>_YYYY_MM. Also called by the application to create upcoming months.
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent_table TEXT, month_start DATE)
+RETURNS TEXT AS $$
+DECLARE
+    partition_start DATE := date_trunc('month', month_start)::date;
+    partition_name TEXT := parent_table || '_' || to_char(partition_start, 'YYYY_MM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent_table, partition_start,
+                   (partition_start + INTERVAL '1 month')::date);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates one partition per month from the first month of existing data (or the current
+-- month) through months_ahead months from now
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent_table TEXT, first_month DATE, months_ahead INT)
+RETURNS VOID AS $$
+DECLARE
+    current_month DATE := date_trunc('month', LEAST(COALESCE(first_month, CURRENT_DATE), CURRENT_DATE))::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::date;
+BEGIN
+    WHILE current_month <= last_month LOOP
+        PERFORM create_monthly_partition(parent_table, current_month);
+        current_month := (current_month + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- audit_logs
+
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+
+CREATE TABLE audit_logs (
+    id UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    user_id UUID,
+    action VARCHAR(50) NOT NULL,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id UUID NOT NULL,
+    old_value JSONB,
+    new_value JSONB,
+    ip_address VARCHAR(45),
+    user_agent TEXT,
+    timestamp TIMESTAMP NOT NULL,
+    CONSTRAINT pk_audit_logs PRIMARY KEY (id, timestamp),
+    CONSTRAINT fk_audit_logs_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
+    CONSTRAINT fk_audit_logs_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) PARTITION BY RANGE (timestamp);
+
+SELECT create_monthly_partitions('audit_logs', (SELECT MIN(timestamp)::date FROM audit_logs_unpartitioned), 3);
+
+INSERT INTO audit_logs (id, tenant_id, user_id, action, entity_type, entity_id, old_value, new_value,
+                        ip_address, user_agent, timestamp)
+SELECT id, tenant_id, user_id, action, entity_type, entity_id, old_value, new_value,
+       ip_address, user_agent, timestamp
+FROM audit_logs_unpartitioned;
+
+DROP TABLE audit_logs_unpartitioned;
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_tenant_timestamp_id
+    ON audit_logs(tenant_id, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_entity ON audit_logs(entity_type, entity_id);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_user_id ON audit_logs(user_id);
+
+COMMENT ON TABLE audit_logs IS 'Audit trail for compliance, partitioned by month';
+
+-- notifications
+
+ALTER TABLE notifications RENAME TO notifications_unpartitioned;
+
+CREATE TABLE notifications (
+    id UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    recipient_type VARCHAR(50),
+    recipient_id UUID NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    channel VARCHAR(50) NOT NULL,
+    template_id VARCHAR(100),
+    subject VARCHAR(500),
+    content TEXT NOT NULL,
+    sent_at TIMESTAMP,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_notifications PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+SELECT create_monthly_partitions('notifications', (SELECT MIN(created_at)::date FROM notifications_unpartitioned), 3);
+
+INSERT INTO notifications (id, tenant_id, recipient_type, recipient_id, type, channel, template_id, subject,
+                           content, sent_at, status, created_at)
+SELECT id, tenant_id, recipient_type, recipient_id, type, channel, template_id, subject,
+       content, sent_at, status, created_at
+FROM notifications_unpartitioned;
+
+DROP TABLE notifications_unpartitioned;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_tenant_created ON notifications(tenant_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_recipient ON notifications(recipient_id);
+CREATE INDEX IF NOT EXISTS idx_notifications_status ON notifications(status);
+
+COMMENT ON TABLE notifications IS 'Email/SMS notification log, partitioned by month';
@@ -0,0 +1,15 @@
+-- Cronos Platform - Notification dispatch queue
+-- Version: 14
+-- Description: notifications becomes the delivery queue. Rows are written PENDING and sent
+-- later by per-channel workers (NotificationDispatcher), which claim due rows with
+-- FOR UPDATE SKIP LOCKED and retry failures with backoff.
+
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS booking_id UUID;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS payload TEXT;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS last_error TEXT;
+
+-- Only undelivered notifications are polled; sent and failed ones drop out of the index
+CREATE INDEX IF NOT EXISTS idx_notifications_due ON notifications(channel, next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
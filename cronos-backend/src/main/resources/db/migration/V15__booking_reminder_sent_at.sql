@@ -0,0 +1,14 @@
+-- Cronos Platform - Per-booking reminder tracking
+-- Version: 15
+-- Description: Reminders are now scheduled per booking at each client's preferred lead time
+-- (ReminderScheduler). reminder_sent_at is set in the transaction that queues the reminder,
+-- so every booking is reminded once even with several instances scheduling the same reminder.
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS reminder_sent_at TIMESTAMP;
+
+-- Bookings through tomorrow were covered by the old daily reminder job
+UPDATE bookings SET reminder_sent_at = NOW() WHERE start_time < CURRENT_DATE + 2;
+
+-- The look-ahead query only reads confirmed bookings still waiting for their reminder
+CREATE INDEX IF NOT EXISTS idx_bookings_reminder_due ON bookings(start_time)
+    WHERE status = 'CONFIRMED' AND reminder_sent_at IS NULL;
@@ -0,0 +1,20 @@
+-- Cronos Platform - Batch job checkpoints
+-- Version: 16
+-- Description: One row per batch job (see BatchJobRunner), updated in the same transaction
+-- as each chunk it processes. A run that stopped before completing is resumed after the
+-- last committed id instead of starting over.
+
+CREATE TABLE IF NOT EXISTS batch_job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    run_key VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_id UUID,
+    rows_read BIGINT NOT NULL DEFAULT 0,
+    rows_written BIGINT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP
+);
+
+COMMENT ON TABLE batch_job_checkpoints IS 'Progress of chunked batch jobs, for resuming interrupted runs';
@@ -0,0 +1,26 @@
+-- Cronos Platform - Job leases and tenant shards
+-- Version: 17
+-- Description: With several backend instances, singleton jobs and tenant shards are owned
+-- through leases (JobLeaseManager). The holder renews its lease by heartbeat; a lease that
+-- is not renewed expires and can be taken over by another instance. Times are compared
+-- against the database clock only, so instances do not need synchronized clocks.
+
+CREATE TABLE IF NOT EXISTS job_leases (
+    lease_name VARCHAR(150) PRIMARY KEY,
+    owner VARCHAR(150) NOT NULL,
+    token BIGINT NOT NULL,
+    acquired_at TIMESTAMPTZ NOT NULL,
+    heartbeat_at TIMESTAMPTZ NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL
+);
+
+COMMENT ON TABLE job_leases IS 'Leases on cluster-wide jobs and tenant shards, renewed by heartbeat';
+COMMENT ON COLUMN job_leases.token IS 'Incremented on every takeover, so a previous holder cannot renew or release it';
+
+-- Shard of a tenant: its UUID's first 32 bits modulo the shard count.
+-- Must match TenantShard.indexOf in the backend.
+CREATE OR REPLACE FUNCTION tenant_shard(tenant UUID, shard_count INT) RETURNS INT
+    LANGUAGE SQL IMMUTABLE PARALLEL SAFE AS
+$$
+    SELECT ((('x' || left(tenant::text, 8))::bit(32)::int) & 2147483647) % shard_count
+$$;
@@ -0,0 +1,7 @@
+-- Cronos Platform - Tenant timezone
+-- Version: 18
+-- Description: Booking times are local times of the tenant's business, so daily jobs
+-- (no-shows, cleanup) and reminders need each tenant's timezone. Existing tenants get
+-- America/New_York, the default the application already assumed for clients.
+
+ALTER TABLE tenants ADD COLUMN IF NOT EXISTS timezone VARCHAR(50) NOT NULL DEFAULT 'America/New_York';
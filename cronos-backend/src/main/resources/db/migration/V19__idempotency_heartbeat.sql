@@ -0,0 +1,11 @@
+-- Cronos Platform - Idempotency key heartbeat
+-- Version: 19
+-- Description: Pending keys stay owned while their request runs; only abandoned ones can be reclaimed
+
+ALTER TABLE idempotency_keys ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP;
+
+UPDATE idempotency_keys SET heartbeat_at = created_at WHERE heartbeat_at IS NULL;
+
+ALTER TABLE idempotency_keys ALTER COLUMN heartbeat_at SET NOT NULL;
+
+COMMENT ON COLUMN idempotency_keys.heartbeat_at IS 'Renewed by the owning node while the first request is still running';
@@ -0,0 +1,14 @@
+-- Cronos Platform - Report job ownership
+-- Version: 20
+-- Description: Queued and running report jobs belong to the node whose executor holds them
+
+ALTER TABLE report_jobs ADD COLUMN IF NOT EXISTS owner VARCHAR(255);
+ALTER TABLE report_jobs ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP;
+
+UPDATE report_jobs SET heartbeat_at = COALESCE(started_at, created_at) WHERE heartbeat_at IS NULL;
+
+ALTER TABLE report_jobs ALTER COLUMN heartbeat_at SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_report_jobs_owner_status ON report_jobs(owner, status);
+
+COMMENT ON COLUMN report_jobs.heartbeat_at IS 'Renewed by the owning node while the job is queued or running';
@@ -0,0 +1,48 @@
+-- Cronos Platform - Booking period exclusion constraint
+-- Version: 3
+-- Description: Reject overlapping active bookings for the same staff member in the database
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Half-open booking period, kept in sync with start_time/end_time by Postgres
+ALTER TABLE bookings
+    ADD COLUMN IF NOT EXISTS period TSRANGE
+    GENERATED ALWAYS AS (tsrange(start_time, end_time, '[)')) STORED;
+
+-- Existing data may already contain double bookings created by the old check-then-insert flow.
+-- Those are real appointments, so they are not changed here: the migration stops and lists them
+-- for an operator to resolve (reschedule or cancel through the application), then is re-run.
+-- Exclusion constraints cannot be added NOT VALID, so there is no partial alternative.
+DO $$
+DECLARE
+    conflicts TEXT;
+    conflict_count INT;
+BEGIN
+    SELECT COUNT(*),
+           string_agg(format('tenant %s staff %s: booking %s %s overlaps booking %s %s',
+                             a.tenant_id, a.staff_id, a.id, a.period, b.id, b.period), E'\n')
+    INTO conflict_count, conflicts
+    FROM bookings a
+    JOIN bookings b
+      ON b.tenant_id = a.tenant_id
+     AND b.staff_id = a.staff_id
+     AND a.id < b.id
+     AND a.period && b.period
+    WHERE a.status IN ('PENDING', 'CONFIRMED')
+      AND b.status IN ('PENDING', 'CONFIRMED')
+      AND a.staff_id IS NOT NULL;
+
+    IF conflict_count > 0 THEN
+        RAISE EXCEPTION 'Cannot add ex_bookings_staff_period: % overlapping active booking pair(s)', conflict_count
+            USING DETAIL = conflicts,
+                  HINT = 'Reschedule or cancel one booking of each pair, then re-run the migration.';
+    END IF;
+END $$;
+
+-- The GiST index behind this constraint also serves the && overlap queries
+ALTER TABLE bookings
+    ADD CONSTRAINT ex_bookings_staff_period
+    EXCLUDE USING gist (tenant_id WITH =, staff_id WITH =, period WITH &&)
+    WHERE (status IN ('PENDING', 'CONFIRMED') AND staff_id IS NOT NULL);
+
+COMMENT ON COLUMN bookings.period IS 'Generated [start_time, end_time) range used by ex_bookings_staff_period';
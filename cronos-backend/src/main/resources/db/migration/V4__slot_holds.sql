@@ -0,0 +1,26 @@
+-- Cronos Platform - Slot holds
+-- Version: 4
+-- Description: Short-lived reservations of a staff time slot during widget checkout
+
+CREATE TABLE IF NOT EXISTS slot_holds (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    service_id UUID NOT NULL,
+    staff_id UUID NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    period TSRANGE GENERATED ALWAYS AS (tsrange(start_time, end_time, '[)')) STORED,
+    CONSTRAINT fk_slot_holds_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
+    CONSTRAINT fk_slot_holds_service FOREIGN KEY (service_id) REFERENCES services(id) ON DELETE CASCADE,
+    CONSTRAINT fk_slot_holds_staff FOREIGN KEY (staff_id) REFERENCES staff(id) ON DELETE CASCADE,
+    CONSTRAINT chk_slot_holds_times CHECK (end_time > start_time),
+    -- Expired rows are deleted before a new hold is inserted for the same staff member
+    CONSTRAINT ex_slot_holds_staff_period
+        EXCLUDE USING gist (tenant_id WITH =, staff_id WITH =, period WITH &&)
+);
+
+CREATE INDEX IF NOT EXISTS idx_slot_holds_expires_at ON slot_holds(expires_at);
+
+COMMENT ON TABLE slot_holds IS 'Temporary slot holds taken during booking checkout';
@@ -0,0 +1,49 @@
+-- Cronos Platform - Recurring booking series
+-- Version: 5
+-- Description: Standing appointments stored as a recurrence rule plus per-occurrence exceptions
+
+CREATE TABLE IF NOT EXISTS booking_series (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    service_id UUID NOT NULL,
+    staff_id UUID NOT NULL,
+    client_id UUID,
+    client_name VARCHAR(255),
+    client_email VARCHAR(255),
+    client_phone VARCHAR(50),
+    notes TEXT,
+    start_time TIMESTAMP NOT NULL,
+    duration_minutes INTEGER NOT NULL,
+    rrule VARCHAR(255) NOT NULL,
+    last_end_time TIMESTAMP,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_booking_series_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
+    CONSTRAINT fk_booking_series_service FOREIGN KEY (service_id) REFERENCES services(id) ON DELETE CASCADE,
+    CONSTRAINT fk_booking_series_staff FOREIGN KEY (staff_id) REFERENCES staff(id) ON DELETE CASCADE,
+    CONSTRAINT fk_booking_series_client FOREIGN KEY (client_id) REFERENCES clients(id) ON DELETE SET NULL,
+    CONSTRAINT chk_booking_series_duration CHECK (duration_minutes > 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_series_tenant_staff ON booking_series(tenant_id, staff_id, status);
+
+CREATE TABLE IF NOT EXISTS booking_series_exceptions (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    series_id UUID NOT NULL,
+    original_start_time TIMESTAMP NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    new_start_time TIMESTAMP,
+    new_end_time TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_booking_series_exceptions_series FOREIGN KEY (series_id) REFERENCES booking_series(id) ON DELETE CASCADE,
+    CONSTRAINT uk_booking_series_exceptions_occurrence UNIQUE (series_id, original_start_time),
+    CONSTRAINT chk_booking_series_exceptions_times CHECK (
+        type <> 'RESCHEDULED' OR (new_start_time IS NOT NULL AND new_end_time > new_start_time))
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_series_exceptions_new_start ON booking_series_exceptions(series_id, new_start_time);
+
+COMMENT ON TABLE booking_series IS 'Recurring booking series; occurrences are expanded on read';
+COMMENT ON TABLE booking_series_exceptions IS 'Cancelled or rescheduled single occurrences of a booking series';
@@ -0,0 +1,40 @@
+-- Cronos Platform - Transactional outbox
+-- Version: 7
+-- Description: Domain events written in the same transaction as booking and payment changes,
+--              dispatched asynchronously; notifications table aligned with the Notification entity
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    processed_at TIMESTAMP,
+    CONSTRAINT fk_outbox_events_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+);
+
+-- Only undelivered events are polled; delivered ones drop out of the index
+CREATE INDEX IF NOT EXISTS idx_outbox_events_due ON outbox_events(next_attempt_at)
+    WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_outbox_events_aggregate ON outbox_events(aggregate_type, aggregate_id);
+
+COMMENT ON TABLE outbox_events IS 'Transactional outbox of booking and payment events';
+
+-- The Notification entity writes tenant_id, type and content, which the initial schema lacked,
+-- so the application could not store notifications before this version. Any rows inserted by
+-- other means cannot be attributed to a tenant and are dropped.
+DELETE FROM notifications;
+
+ALTER TABLE notifications DROP COLUMN IF EXISTS body;
+ALTER TABLE notifications ALTER COLUMN recipient_type DROP NOT NULL;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS tenant_id UUID NOT NULL;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS type VARCHAR(50) NOT NULL;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS content TEXT NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_tenant ON notifications(tenant_id);
@@ -0,0 +1,18 @@
+-- Cronos Platform - Pagination indexes
+-- Version: 8
+-- Description: Composite indexes matching the keyset order of each list endpoint, so a
+-- cursor seek and an offset page both read rows straight off the index
+
+CREATE INDEX IF NOT EXISTS idx_bookings_tenant_start_id
+    ON bookings(tenant_id, start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_tenant_status_start_id
+    ON bookings(tenant_id, status, start_time DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_payments_tenant_created_id
+    ON payments(tenant_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_clients_tenant_last_name_id
+    ON clients(tenant_id, last_name, id);
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_tenant_timestamp_id
+    ON audit_logs(tenant_id, timestamp DESC, id DESC);
@@ -0,0 +1,26 @@
+-- Cronos Platform - Daily booking rollup
+-- Version: 9
+-- Description: Booking counts per tenant, day, service, staff member and status, kept in step
+-- with the bookings table so reports read O(days) rows instead of every booking
+
+CREATE TABLE IF NOT EXISTS booking_daily_stats (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    stat_date DATE NOT NULL,
+    service_id UUID NOT NULL,
+    -- Unassigned bookings use the nil UUID so the row key never contains NULL
+    staff_id UUID NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    booking_count BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_booking_daily_stats_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
+    CONSTRAINT uq_booking_daily_stats_key UNIQUE (tenant_id, stat_date, service_id, staff_id, status)
+);
+
+-- Initial fill; later corrections go through BookingStatsService.rebuild
+INSERT INTO booking_daily_stats (id, tenant_id, stat_date, service_id, staff_id, status, booking_count, updated_at)
+SELECT gen_random_uuid(), b.tenant_id, CAST(b.start_time AS DATE), b.service_id,
+       COALESCE(b.staff_id, '00000000-0000-0000-0000-000000000000'), b.status, COUNT(*), now()
+FROM bookings b
+GROUP BY b.tenant_id, CAST(b.start_time AS DATE), b.service_id,
+         COALESCE(b.staff_id, '00000000-0000-0000-0000-000000000000'), b.status;
@@ -0,0 +1,40 @@
+package com.coloradodev.cronos.core.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantShardTest {
+
+        @Test
+        void shouldHashTheFirst32BitsLikeTheSqlFunction() {
+                // Expected values as computed by tenant_shard(uuid, 16) in V17
+                assertEquals(10, TenantShard.indexOf(UUID.fromString("0000000a-0000-0000-0000-000000000000"), 16));
+                assertEquals(15, TenantShard.indexOf(UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"), 16));
+                assertEquals(1, TenantShard.indexOf(UUID.fromString("80000011-0000-0000-0000-000000000000"), 16));
+        }
+
+        @Test
+        void shouldPutEveryTenantInExactlyOneShard() {
+                for (int i = 0; i < 1000; i++) {
+                        UUID tenantId = UUID.randomUUID();
+                        int owners = 0;
+                        for (int index = 0; index < 7; index++) {
+                                if (new TenantShard(index, 7).contains(tenantId)) {
+                                        owners++;
+                                }
+                        }
+                        assertEquals(1, owners);
+                        assertTrue(TenantShard.ALL.contains(tenantId));
+                }
+        }
+
+        @Test
+        void shouldRejectIndexesOutsideTheShardCount() {
+                assertEquals("3/16", new TenantShard(3, 16).toString());
+                assertThrows(IllegalArgumentException.class, () -> new TenantShard(16, 16));
+                assertThrows(IllegalArgumentException.class, () -> new TenantShard(0, 0));
+        }
+}
@@ -0,0 +1,118 @@
+package com.coloradodev.cronos.core.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+        @Test
+        void shouldRoundCapacityUpToPowerOfTwo() {
+                assertEquals(8, new RingBuffer<Integer>(5).capacity());
+                assertEquals(8, new RingBuffer<Integer>(8).capacity());
+        }
+
+        @Test
+        void shouldDeliverEveryEntryToEveryCursorInOrder() {
+                RingBuffer<Integer> ring = new RingBuffer<>(8);
+                RingBuffer.Cursor first = ring.addCursor();
+                RingBuffer.Cursor second = ring.addCursor();
+
+                for (int i = 0; i < 5; i++) {
+                        ring.publish(i);
+                }
+
+                List<Integer> batch = new ArrayList<>();
+                assertEquals(3, ring.poll(first, batch, 3));
+                assertEquals(List.of(0, 1, 2), batch);
+                assertEquals(2, ring.lag(first));
+
+                List<Integer> all = new ArrayList<>();
+                assertEquals(5, ring.poll(second, all, 100));
+                assertEquals(List.of(0, 1, 2, 3, 4), all);
+                assertEquals(0, ring.lag(second));
+        }
+
+        @Test
+        void shouldWrapAroundOnceConsumersCatchUp() {
+                RingBuffer<Integer> ring = new RingBuffer<>(4);
+                RingBuffer.Cursor cursor = ring.addCursor();
+                List<Integer> received = new ArrayList<>();
+
+                for (int i = 0; i < 10; i++) {
+                        ring.publish(i);
+                        if (i % 2 == 1) {
+                                ring.poll(cursor, received, 4);
+                        }
+                }
+
+                assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), received);
+        }
+
+        @Test
+        void shouldRefuseTryPublishWhileFull() {
+                RingBuffer<Integer> ring = new RingBuffer<>(4);
+                RingBuffer.Cursor cursor = ring.addCursor();
+
+                for (int i = 0; i < 4; i++) {
+                        assertEquals(i, ring.tryPublish(i));
+                }
+                assertEquals(-1, ring.tryPublish(4));
+
+                List<Integer> batch = new ArrayList<>();
+                assertEquals(2, ring.poll(cursor, batch, 2));
+                assertEquals(4, ring.tryPublish(4));
+                assertEquals(5, ring.tryPublish(5));
+                assertEquals(-1, ring.tryPublish(6));
+
+                batch.clear();
+                ring.poll(cursor, batch, 10);
+                assertEquals(List.of(2, 3, 4, 5), batch);
+        }
+
+        @Test
+        void shouldNotLoseEntriesFromConcurrentProducers() throws InterruptedException {
+                RingBuffer<Integer> ring = new RingBuffer<>(64);
+                RingBuffer.Cursor cursor = ring.addCursor();
+                int producers = 4;
+                int perProducer = 10_000;
+
+                List<Thread> threads = new ArrayList<>();
+                for (int p = 0; p < producers; p++) {
+                        int base = p * perProducer;
+                        Thread thread = new Thread(() -> {
+                                for (int i = 0; i < perProducer; i++) {
+                                        ring.publish(base + i);
+                                }
+                        });
+                        threads.add(thread);
+                        thread.start();
+                }
+
+                int[] lastSeen = new int[producers];
+                Arrays.fill(lastSeen, -1);
+                List<Integer> batch = new ArrayList<>();
+                int received = 0;
+                while (received < producers * perProducer) {
+                        batch.clear();
+                        received += ring.poll(cursor, batch, 32);
+                        for (int value : batch) {
+                                int producer = value / perProducer;
+                                // Entries from one producer arrive in the order they were published
+                                assertTrue(value % perProducer > lastSeen[producer]);
+                                lastSeen[producer] = value % perProducer;
+                        }
+                }
+                for (Thread thread : threads) {
+                        thread.join();
+                }
+
+                for (int last : lastSeen) {
+                        assertEquals(perProducer - 1, last);
+                }
+        }
+}
@@ -0,0 +1,40 @@
+package com.coloradodev.cronos.core.pagination;
+
+import com.coloradodev.cronos.exception.BusinessRuleException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+        @Test
+        void shouldRoundTripTimeKey() {
+                UUID id = UUID.randomUUID();
+                LocalDateTime key = LocalDateTime.of(2025, 3, 14, 9, 30);
+
+                KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(key, id).encode());
+
+                assertEquals(key, decoded.timeKey());
+                assertEquals(id, decoded.id());
+        }
+
+        @Test
+        void shouldRoundTripKeyContainingSeparator() {
+                UUID id = UUID.randomUUID();
+
+                KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of("Smith|Jones", id).encode());
+
+                assertEquals("Smith|Jones", decoded.key());
+                assertEquals(id, decoded.id());
+        }
+
+        @Test
+        void shouldRejectTamperedCursor() {
+                assertThrows(BusinessRuleException.class, () -> KeysetCursor.decode("not-a-cursor"));
+                assertThrows(BusinessRuleException.class,
+                                () -> KeysetCursor.of("Smith", UUID.randomUUID()).timeKey());
+        }
+}
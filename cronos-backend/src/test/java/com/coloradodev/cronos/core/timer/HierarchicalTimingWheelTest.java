@@ -0,0 +1,90 @@
+package com.coloradodev.cronos.core.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+        @Test
+        void shouldExpireEntriesAtTheirTickOnEveryLevel() {
+                // 3 levels of 4 buckets, 100ms ticks: spans of 0.4s, 1.6s and 6.4s
+                HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 4, 3, 0);
+                wheel.schedule("level0", 300);
+                wheel.schedule("level1", 1_100);
+                wheel.schedule("level2", 5_000);
+
+                List<String> expired = new ArrayList<>();
+                List<Long> expiredAt = new ArrayList<>();
+                for (long now = 100; now <= 6_400; now += 100) {
+                        long at = now;
+                        wheel.advance(now, payload -> {
+                                expired.add(payload);
+                                expiredAt.add(at);
+                        });
+                }
+
+                assertEquals(List.of("level0", "level1", "level2"), expired);
+                assertEquals(List.of(300L, 1_100L, 5_000L), expiredAt);
+                assertEquals(0, wheel.size());
+        }
+
+        @Test
+        void shouldKeepDeadlinesBeyondTheTopLevelSpan() {
+                HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 4, 2, 0);
+                assertEquals(1_600, wheel.spanMillis());
+                wheel.schedule("far", 5_000);
+
+                List<String> expired = new ArrayList<>();
+                wheel.advance(4_900, expired::add);
+                assertTrue(expired.isEmpty());
+
+                wheel.advance(5_000, expired::add);
+                assertEquals(List.of("far"), expired);
+        }
+
+        @Test
+        void shouldNotExpireCancelledEntries() {
+                HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 4, 3, 0);
+                HierarchicalTimingWheel.Timeout<String> timeout = wheel.schedule("a", 2_000);
+                wheel.schedule("b", 2_000);
+
+                // Cancel after the entry has cascaded to a lower level
+                wheel.advance(1_700, value -> { });
+                assertTrue(timeout.cancel());
+                assertFalse(timeout.cancel());
+
+                List<String> expired = new ArrayList<>();
+                wheel.advance(3_000, expired::add);
+                assertEquals(List.of("b"), expired);
+        }
+
+        @Test
+        void shouldExpireEveryEntryOnTimeWhenAdvancedInJumps() {
+                HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 8, 3, 1_000);
+                Random random = new Random(11);
+                for (int i = 0; i < 2_000; i++) {
+                        long deadline = 1_000 + random.nextInt(20_000);
+                        wheel.schedule(deadline, deadline);
+                }
+
+                List<Long> late = new ArrayList<>();
+                int count = 0;
+                for (long now = 1_000; now <= 21_000; now += random.nextInt(500)) {
+                        long at = now;
+                        count += wheel.advance(now, deadline -> {
+                                if (deadline > at || deadline < at - 500) {
+                                        late.add(deadline);
+                                }
+                        });
+                }
+                count += wheel.advance(21_000, deadline -> { });
+
+                assertEquals(2_000, count);
+                assertTrue(late.isEmpty(), "expired outside their window: " + late);
+        }
+}
@@ -0,0 +1,71 @@
+package com.coloradodev.cronos.core.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+        @Test
+        void shouldExpireEntriesOnlyAfterTheirDeadline() {
+                TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+                wheel.schedule("a", 250);
+                wheel.schedule("b", 500);
+
+                List<String> expired = new ArrayList<>();
+                wheel.advance(200, expired::add);
+                assertTrue(expired.isEmpty());
+
+                wheel.advance(300, expired::add);
+                assertEquals(List.of("a"), expired);
+
+                wheel.advance(500, expired::add);
+                assertEquals(List.of("a", "b"), expired);
+                assertEquals(0, wheel.size());
+        }
+
+        @Test
+        void shouldKeepEntriesScheduledSeveralRevolutionsAhead() {
+                // 8 buckets of 100ms: a 2.5s deadline wraps the wheel three times
+                TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+                wheel.schedule("later", 2500);
+
+                List<String> expired = new ArrayList<>();
+                for (long now = 100; now < 2500; now += 100) {
+                        wheel.advance(now, expired::add);
+                }
+                assertTrue(expired.isEmpty());
+
+                wheel.advance(2500, expired::add);
+                assertEquals(List.of("later"), expired);
+        }
+
+        @Test
+        void shouldNotExpireCancelledEntries() {
+                TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+                TimingWheel.Timeout<String> timeout = wheel.schedule("a", 200);
+                wheel.schedule("b", 200);
+
+                assertTrue(timeout.cancel());
+                assertFalse(timeout.cancel());
+
+                List<String> expired = new ArrayList<>();
+                wheel.advance(1000, expired::add);
+                assertEquals(List.of("b"), expired);
+        }
+
+        @Test
+        void shouldCatchUpAfterLongPause() {
+                TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+                wheel.schedule("a", 300);
+                wheel.schedule("b", 1700);
+
+                List<String> expired = new ArrayList<>();
+                wheel.advance(10_000, expired::add);
+
+                assertEquals(2, expired.size());
+        }
+}
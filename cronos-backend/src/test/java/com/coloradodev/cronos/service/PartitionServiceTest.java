@@ -0,0 +1,33 @@
+package com.coloradodev.cronos.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionServiceTest {
+
+        @Test
+        void shouldSelectMonthsBeforeOldestKept() {
+                List<String> partitions = List.of("audit_logs_2024_03", "audit_logs_2023_12", "audit_logs_2024_04",
+                                "audit_logs_2024_05");
+
+                List<String> expired = PartitionService.expiredPartitions("audit_logs", partitions,
+                                YearMonth.of(2024, 4));
+
+                assertEquals(List.of("audit_logs_2023_12", "audit_logs_2024_03"), expired);
+        }
+
+        @Test
+        void shouldIgnoreNamesOutsideTheScheme() {
+                List<String> partitions = List.of("audit_logs_archive", "audit_logs_2020_13",
+                                "audit_logs_extra_2020_01", "notifications_2020_01", "audit_logs_2020_01");
+
+                List<String> expired = PartitionService.expiredPartitions("audit_logs", partitions,
+                                YearMonth.of(2024, 1));
+
+                assertEquals(List.of("audit_logs_2020_01"), expired);
+        }
+}
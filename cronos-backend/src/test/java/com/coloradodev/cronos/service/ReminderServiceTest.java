@@ -0,0 +1,59 @@
+package com.coloradodev.cronos.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReminderServiceTest {
+
+        private static final ZoneId DENVER = ZoneId.of("America/Denver");
+        private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+        private static final LocalTime QUIET_START = LocalTime.of(21, 0);
+        private static final LocalTime QUIET_END = LocalTime.of(8, 0);
+
+        @Test
+        void shouldRemindTheConfiguredHoursBeforeTheAppointment() {
+                LocalDateTime start = LocalDateTime.of(2024, 6, 12, 14, 0);
+
+                Instant due = ReminderService.reminderDueAt(start, DENVER, 24, DENVER, QUIET_START, QUIET_END);
+
+                assertEquals(start.minusHours(24).atZone(DENVER).toInstant(), due);
+        }
+
+        @Test
+        void shouldMoveEarlyMorningRemindersToTheEveningBefore() {
+                // 2 hours before a 9:00 appointment is 7:00, inside the quiet hours
+                LocalDateTime start = LocalDateTime.of(2024, 6, 12, 9, 0);
+
+                Instant due = ReminderService.reminderDueAt(start, DENVER, 2, DENVER, QUIET_START, QUIET_END);
+
+                assertEquals(LocalDateTime.of(2024, 6, 11, 21, 0).atZone(DENVER).toInstant(), due);
+        }
+
+        @Test
+        void shouldApplyQuietHoursInTheClientTimezone() {
+                // 19:30 in Denver is 21:30 in New York
+                LocalDateTime start = LocalDateTime.of(2024, 6, 13, 19, 30);
+
+                Instant due = ReminderService.reminderDueAt(start, DENVER, 24, NEW_YORK, QUIET_START, QUIET_END);
+
+                assertEquals(LocalDateTime.of(2024, 6, 12, 21, 0).atZone(NEW_YORK).toInstant(), due);
+                assertEquals(start.minusHours(24).atZone(DENVER).toInstant(),
+                                ReminderService.reminderDueAt(start, DENVER, 24, DENVER, QUIET_START, QUIET_END));
+        }
+
+        @Test
+        void shouldIgnoreQuietHoursWhenStartEqualsEnd() {
+                LocalDateTime start = LocalDateTime.of(2024, 6, 12, 9, 0);
+                LocalTime midnight = LocalTime.MIDNIGHT;
+
+                Instant due = ReminderService.reminderDueAt(start, DENVER, 6, DENVER, midnight, midnight);
+
+                assertEquals(LocalDateTime.of(2024, 6, 12, 3, 0).atZone(DENVER).toInstant(), due);
+        }
+}
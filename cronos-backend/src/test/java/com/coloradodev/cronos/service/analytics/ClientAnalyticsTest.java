@@ -0,0 +1,68 @@
+package com.coloradodev.cronos.service.analytics;
+
+import com.coloradodev.cronos.repository.projection.ClientVisitStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientAnalyticsTest {
+
+        private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+        private static ClientVisitStats client(long bookings, int lastVisitDay) {
+                return new ClientVisitStats(UUID.randomUUID(), bookings, BASE, BASE.plusDays(lastVisitDay));
+        }
+
+        @Test
+        void shouldCountClientsWithBookingsAndReturningClients() {
+                ClientAnalytics analytics = new ClientAnalytics(10);
+                analytics.accept(client(1, 0));
+                analytics.accept(client(2, 0));
+                analytics.accept(client(5, 0));
+                analytics.accept(client(0, 0));
+
+                assertEquals(3, analytics.getClientsWithBookings());
+                assertEquals(2, analytics.getReturningClients());
+        }
+
+        @Test
+        void shouldKeepOnlyTopClientsInDescendingOrder() {
+                ClientAnalytics analytics = new ClientAnalytics(3);
+                ClientVisitStats fifth = client(5, 0);
+                ClientVisitStats ninth = client(9, 0);
+                ClientVisitStats seventh = client(7, 0);
+                analytics.accept(client(1, 0));
+                analytics.accept(fifth);
+                analytics.accept(client(3, 0));
+                analytics.accept(ninth);
+                analytics.accept(seventh);
+                analytics.accept(client(2, 0));
+
+                assertEquals(List.of(ninth, seventh, fifth), analytics.getTopClients());
+                assertEquals(6, analytics.getClientsWithBookings());
+        }
+
+        @Test
+        void shouldPreferMoreRecentClientOnTie() {
+                ClientAnalytics analytics = new ClientAnalytics(1);
+                ClientVisitStats older = client(4, 1);
+                ClientVisitStats recent = client(4, 30);
+                analytics.accept(older);
+                analytics.accept(recent);
+
+                assertEquals(List.of(recent), analytics.getTopClients());
+        }
+
+        @Test
+        void shouldHandleZeroTopClients() {
+                ClientAnalytics analytics = new ClientAnalytics(0);
+                analytics.accept(client(3, 0));
+
+                assertTrue(analytics.getTopClients().isEmpty());
+                assertEquals(1, analytics.getReturningClients());
+        }
+}
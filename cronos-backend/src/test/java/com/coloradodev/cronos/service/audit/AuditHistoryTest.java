@@ -0,0 +1,45 @@
+package com.coloradodev.cronos.service.audit;
+
+import com.coloradodev.cronos.domain.AuditLog;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditHistoryTest {
+
+        @Test
+        void shouldApplyEachPatchOnTopOfThePreviousState() {
+                List<EntityRevision> revisions = AuditHistory.replay(List.of(
+                                entry("CREATE", Map.of("name", "Haircut", "price", 25)),
+                                entry("UPDATE", Map.of("price", 30)),
+                                entry("DEACTIVATE", null),
+                                entry("UPDATE", Map.of("name", "Cut & style"))));
+
+                assertEquals(4, revisions.size());
+                assertEquals(Map.of("name", "Haircut", "price", 25), revisions.get(0).state());
+                assertEquals(Map.of("name", "Haircut", "price", 30), revisions.get(1).state());
+                assertEquals(revisions.get(1).state(), revisions.get(2).state());
+                assertEquals(Map.of("name", "Cut & style", "price", 30), revisions.get(3).state());
+                assertEquals("DEACTIVATE", revisions.get(2).change().getAction());
+        }
+
+        @Test
+        void shouldClearStateOnDelete() {
+                List<EntityRevision> revisions = AuditHistory.replay(List.of(
+                                entry("CREATE", Map.of("name", "Haircut")),
+                                entry("DELETE", null)));
+
+                assertTrue(revisions.get(1).state().isEmpty());
+                assertEquals(Map.of("name", "Haircut"), revisions.get(0).state());
+        }
+
+        private static AuditLog entry(String action, Map<String, Object> newValue) {
+                AuditLog auditLog = new AuditLog();
+                auditLog.setAction(action);
+                auditLog.setNewValue(newValue);
+                return auditLog;
+        }
+}
@@ -0,0 +1,36 @@
+package com.coloradodev.cronos.service.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldDiffTest {
+
+        @Test
+        void shouldRecordOnlyChangedFields() {
+                FieldDiff diff = new FieldDiff()
+                                .record("firstName", "Ada", "Ada")
+                                .record("email", "ada@example.com", "ada@lovelace.dev")
+                                .record("phone", "555-0100", null);
+
+                assertEquals(Map.of("email", "ada@example.com", "phone", "555-0100"), diff.oldValues());
+                assertEquals("ada@lovelace.dev", diff.newValues().get("email"));
+                assertTrue(diff.newValues().containsKey("phone"));
+                assertNull(diff.newValues().get("phone"));
+        }
+
+        @Test
+        void shouldStayEmptyWhenNothingChanges() {
+                FieldDiff diff = new FieldDiff()
+                                .record("name", "Haircut", "Haircut")
+                                .record("price", new BigDecimal("25.0"), new BigDecimal("25.00"))
+                                .record("description", null, null);
+
+                assertTrue(diff.isEmpty());
+                assertNull(diff.oldValues());
+                assertNull(diff.newValues());
+        }
+}
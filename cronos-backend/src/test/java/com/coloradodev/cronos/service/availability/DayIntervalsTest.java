@@ -0,0 +1,96 @@
+package com.coloradodev.cronos.service.availability;
+
+import com.coloradodev.cronos.repository.projection.BookingInterval;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DayIntervalsTest {
+
+        private final LocalDate date = LocalDate.of(2030, 1, 15);
+
+        @Test
+        void shouldDetectOverlapWithStoredInterval() {
+                DayIntervals intervals = DayIntervals.of(List.of(interval(10, 0, 11, 0)));
+
+                assertTrue(intervals.overlaps(at(10, 30), at(11, 30)));
+                assertTrue(intervals.overlaps(at(9, 0), at(12, 0)));
+                assertFalse(intervals.overlaps(at(9, 0), at(10, 0)));
+                assertFalse(intervals.overlaps(at(11, 0), at(12, 0)));
+        }
+
+        @Test
+        void shouldDetectOverlapHiddenBehindShorterLaterInterval() {
+                // A long legacy booking 09:00-13:00 followed by a short one 10:00-10:30
+                DayIntervals intervals = DayIntervals.of(List.of(
+                                interval(10, 0, 10, 30),
+                                interval(9, 0, 13, 0)));
+
+                assertTrue(intervals.overlaps(at(12, 0), at(12, 30)));
+                assertFalse(intervals.overlaps(at(13, 0), at(14, 0)));
+        }
+
+        @Test
+        void shouldAddAndRemoveIntervals() {
+                UUID id = UUID.randomUUID();
+                DayIntervals intervals = DayIntervals.EMPTY.with(id, at(14, 0), at(15, 0));
+
+                assertEquals(1, intervals.size());
+                assertTrue(intervals.overlaps(at(14, 30), at(14, 45)));
+
+                DayIntervals removed = intervals.without(id);
+                assertTrue(removed.isEmpty());
+                assertFalse(removed.overlaps(at(14, 30), at(14, 45)));
+        }
+
+        @Test
+        void shouldReplaceIntervalWithSameId() {
+                UUID id = UUID.randomUUID();
+                DayIntervals intervals = DayIntervals.EMPTY
+                                .with(id, at(9, 0), at(10, 0))
+                                .with(id, at(15, 0), at(16, 0));
+
+                assertEquals(1, intervals.size());
+                assertFalse(intervals.overlaps(at(9, 0), at(10, 0)));
+                assertTrue(intervals.overlaps(at(15, 0), at(16, 0)));
+        }
+
+        @Test
+        void shouldCountOverlappingBusyTimeOnce() {
+                DayIntervals intervals = DayIntervals.of(List.of(
+                                interval(9, 0, 13, 0),
+                                interval(10, 0, 10, 30),
+                                interval(12, 30, 14, 0),
+                                interval(15, 0, 15, 30)));
+
+                assertEquals((5 * 60 + 30) * 60, intervals.busySeconds());
+                assertEquals(0, DayIntervals.EMPTY.busySeconds());
+        }
+
+        @Test
+        void shouldMeasureGapsAroundSlot() {
+                DayIntervals intervals = DayIntervals.of(List.of(
+                                interval(9, 0, 10, 0),
+                                interval(13, 0, 14, 0)));
+
+                assertEquals(30 * 60, intervals.gapBefore(at(10, 30)));
+                assertEquals(60 * 60, intervals.gapAfter(at(12, 0)));
+                assertEquals(-1, intervals.gapBefore(at(8, 0)));
+                assertEquals(-1, intervals.gapAfter(at(14, 30)));
+        }
+
+        private BookingInterval interval(int startHour, int startMinute, int endHour, int endMinute) {
+                return new BookingInterval(UUID.randomUUID(), UUID.randomUUID(),
+                                at(startHour, startMinute), at(endHour, endMinute));
+        }
+
+        private LocalDateTime at(int hour, int minute) {
+                return LocalDateTime.of(date, LocalTime.of(hour, minute));
+        }
+}
@@ -0,0 +1,80 @@
+package com.coloradodev.cronos.service.availability;
+
+import com.coloradodev.cronos.dto.appointment.TimeSlot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccupancyGridTest {
+
+        private final LocalDate date = LocalDate.of(2030, 1, 15);
+
+        @Test
+        void shouldReturnSlotsAroundBusyInterval() {
+                OccupancyGrid grid = OccupancyGrid.forWindow(at(9, 0), at(12, 0), 60);
+                grid.markBusy(at(10, 0), at(11, 0));
+
+                List<TimeSlot> slots = grid.toSlots(grid.freeRuns(1), 1, 1);
+
+                assertEquals(2, slots.size());
+                assertEquals(at(9, 0), slots.get(0).getStartTime());
+                assertEquals(at(11, 0), slots.get(1).getStartTime());
+                assertEquals(at(12, 0), slots.get(1).getEndTime());
+        }
+
+        @Test
+        void shouldRequireWholeRunToBeFree() {
+                // 15 minute cells, 60 minute service, a short booking at 10:15-10:30
+                OccupancyGrid grid = OccupancyGrid.forWindow(at(9, 0), at(12, 0), 15);
+                grid.markBusy(at(10, 15), at(10, 30));
+
+                List<TimeSlot> slots = grid.toSlots(grid.freeRuns(4), 1, 4);
+
+                assertTrue(slots.stream().anyMatch(s -> s.getStartTime().equals(at(9, 15))));
+                assertFalse(slots.stream().anyMatch(s -> s.getStartTime().equals(at(9, 30))));
+                assertFalse(slots.stream().anyMatch(s -> s.getStartTime().equals(at(10, 15))));
+                assertTrue(slots.stream().anyMatch(s -> s.getStartTime().equals(at(10, 30))));
+                assertEquals(at(11, 0), slots.get(slots.size() - 1).getStartTime());
+        }
+
+        @Test
+        void shouldHandleRunsAcrossWordBoundaries() {
+                // 5 minute cells over 12 hours gives 144 cells spanning three words
+                OccupancyGrid grid = OccupancyGrid.forWindow(at(8, 0), at(20, 0), 5);
+                grid.markBusy(at(13, 20), at(13, 25));
+
+                List<TimeSlot> slots = grid.toSlots(grid.freeRuns(12), 12, 12);
+
+                assertEquals(11, slots.size());
+                assertFalse(slots.stream().anyMatch(s -> s.getStartTime().equals(at(13, 0))));
+        }
+
+        @Test
+        void shouldUnionFreeRunsAcrossResources() {
+                OccupancyGrid first = OccupancyGrid.forWindow(at(9, 0), at(11, 0), 60);
+                first.markBusy(at(9, 0), at(10, 0));
+                OccupancyGrid second = OccupancyGrid.forWindow(at(9, 0), at(11, 0), 60);
+                second.markBusy(at(10, 0), at(11, 0));
+
+                long[] runs = OccupancyGrid.union(null, first.freeRuns(1));
+                runs = OccupancyGrid.union(runs, second.freeRuns(1));
+
+                assertEquals(2, first.toSlots(runs, 1, 1).size());
+        }
+
+        @Test
+        void shouldPickCellSizeFromGranularityAndDuration() {
+                assertEquals(15, OccupancyGrid.cellMinutesFor(15, 45));
+                assertEquals(5, OccupancyGrid.cellMinutesFor(10, 45));
+                assertEquals(45, OccupancyGrid.cellMinutesFor(0, 45));
+        }
+
+        private LocalDateTime at(int hour, int minute) {
+                return LocalDateTime.of(date, LocalTime.of(hour, minute));
+        }
+}
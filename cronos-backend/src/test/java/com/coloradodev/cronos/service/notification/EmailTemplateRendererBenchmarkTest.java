@@ -0,0 +1,94 @@
+package com.coloradodev.cronos.service.notification;
+
+import com.coloradodev.cronos.domain.Tenant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput of rendering a bulk reminder run: every email rendered in full (with parsed
+ * templates cached, as with {@code spring.thymeleaf.cache=true}) against cached tenant shells
+ * around a freshly rendered content fragment. Run with {@code mvn test -Dbenchmark=true
+ * -Dtest=EmailTemplateRendererBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EmailTemplateRendererBenchmarkTest {
+
+        private static final Locale SPANISH = Locale.forLanguageTag("es");
+        private static final int TENANTS = 50;
+        private static final int WARMUP_EMAILS = 5_000;
+        private static final int EMAILS = 20_000;
+
+        private final List<Tenant> tenants = new ArrayList<>();
+
+        private static Map<String, Object> reminder(int i) {
+                Map<String, Object> data = new HashMap<>();
+                data.put("clientName", "Cliente " + i);
+                data.put("serviceName", "Servicio " + (i % 7));
+                data.put("date", "12/06/2024");
+                data.put("time", String.format("%02d:%02d", 8 + i % 10, (i % 4) * 15));
+                data.put("duration", 30 + (i % 4) * 15);
+                data.put("staffName", "Staff " + (i % 12));
+                data.put("hoursUntil", 24);
+                data.put("bookingUrl", "https://cronos.example.com/booking/" + i);
+                return data;
+        }
+
+        private static long time(int emails, IntFunction<String> render) {
+                long checksum = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < emails; i++) {
+                        checksum += render.apply(i).length();
+                }
+                long elapsed = System.nanoTime() - start;
+                assertTrue(checksum > 0);
+                return elapsed;
+        }
+
+        @Test
+        void shouldRenderBulkRemindersFasterFromCachedShells() {
+                for (int t = 0; t < TENANTS; t++) {
+                        tenants.add(Tenant.builder()
+                                        .name("Tenant " + t)
+                                        .primaryColor(String.format("#%06x", t * 40503))
+                                        .logoUrl("https://cdn.example.com/logo-" + t + ".png")
+                                        .build());
+                }
+                TemplateEngine engine = EmailTemplateRenderer.createTemplateEngine();
+                EmailTemplateRenderer renderer = new EmailTemplateRenderer("es", 1000, 60);
+                renderer.precompile();
+
+                IntFunction<String> fullRender = i -> {
+                        Tenant tenant = tenants.get(i % TENANTS);
+                        Context context = new Context(SPANISH);
+                        context.setVariables(reminder(i));
+                        context.setVariable("tenantName", tenant.getName());
+                        context.setVariable("primaryColor", tenant.getPrimaryColor());
+                        context.setVariable("logoUrl", tenant.getLogoUrl());
+                        return engine.process("appointment-reminder", context);
+                };
+                IntFunction<String> cachedShell = i -> renderer.render("appointment-reminder",
+                                tenants.get(i % TENANTS), reminder(i));
+
+                time(WARMUP_EMAILS, fullRender);
+                time(WARMUP_EMAILS, cachedShell);
+                long fullNanos = time(EMAILS, fullRender);
+                long cachedNanos = time(EMAILS, cachedShell);
+
+                System.out.printf("Bulk reminder run, %d emails over %d tenants:%n", EMAILS, TENANTS);
+                System.out.printf("  full render:   %,.0f emails/s%n", EMAILS * 1e9 / fullNanos);
+                System.out.printf("  cached shells: %,.0f emails/s (%.1fx)%n", EMAILS * 1e9 / cachedNanos,
+                                (double) fullNanos / cachedNanos);
+                assertTrue(cachedNanos < fullNanos);
+        }
+}
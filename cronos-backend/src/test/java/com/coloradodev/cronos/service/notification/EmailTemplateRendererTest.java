@@ -0,0 +1,105 @@
+package com.coloradodev.cronos.service.notification;
+
+import com.coloradodev.cronos.domain.Tenant;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateRendererTest {
+
+        private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+        private final EmailTemplateRenderer renderer = new EmailTemplateRenderer("es", 100, 60);
+
+        private static Tenant tenant(String name, String color) {
+                return Tenant.builder()
+                                .name(name)
+                                .primaryColor(color)
+                                .logoUrl("https://cdn.example.com/" + name + ".png")
+                                .build();
+        }
+
+        private static Map<String, Object> reminder(String clientName) {
+                Map<String, Object> data = new HashMap<>();
+                data.put("clientName", clientName);
+                data.put("serviceName", "Corte de pelo");
+                data.put("date", "12/06/2024");
+                data.put("time", "14:00");
+                data.put("duration", 45);
+                data.put("staffName", "Ana Ruiz");
+                data.put("bookingUrl", "https://cronos.example.com/booking/1");
+                return data;
+        }
+
+        private static String normalize(String html) {
+                return html.replaceAll(">\\s+<", "><").strip();
+        }
+
+        @Test
+        void shouldRenderTheSameEmailAsAFullRender() {
+                Tenant tenant = tenant("Barberia Sol", "#0f766e");
+                Context context = new Context(SPANISH);
+                context.setVariables(reminder("Lucia"));
+                context.setVariable("tenantName", tenant.getName());
+                context.setVariable("primaryColor", tenant.getPrimaryColor());
+                context.setVariable("logoUrl", tenant.getLogoUrl());
+
+                String full = EmailTemplateRenderer.createTemplateEngine().process("appointment-reminder", context);
+                String rendered = renderer.render("appointment-reminder", tenant, reminder("Lucia"));
+
+                assertEquals(normalize(full), normalize(rendered));
+        }
+
+        @Test
+        void shouldRenderBookingContentInsideTheTenantShell() {
+                String first = renderer.render("appointment-reminder", tenant("Barberia Sol", "#0f766e"), reminder("Lucia"));
+                String second = renderer.render("appointment-reminder", tenant("Barberia Sol", "#0f766e"), reminder("Mateo"));
+
+                for (String html : new String[] { first, second }) {
+                        assertTrue(html.contains("background: #0f766e"));
+                        assertTrue(html.contains("https://cdn.example.com/Barberia Sol.png"));
+                        assertTrue(html.contains("Barberia Sol"));
+                        assertFalse(html.contains("cronos:content"));
+                }
+                assertTrue(first.contains("Lucia"));
+                assertTrue(second.contains("Mateo"));
+                assertFalse(second.contains("Lucia"));
+        }
+
+        @Test
+        void shouldUseTheNewBrandingAfterATenantChangesIt() {
+                renderer.render("booking-confirmation", tenant("Barberia Sol", "#0f766e"), reminder("Lucia"));
+
+                String html = renderer.render("booking-confirmation", tenant("Barberia Luna", "#7c3aed"), reminder("Lucia"));
+
+                assertTrue(html.contains("Barberia Luna"));
+                assertTrue(html.contains("background: #7c3aed"));
+                assertFalse(html.contains("Barberia Sol"));
+        }
+
+        @Test
+        void shouldDropAPrimaryColorThatIsNotAHexColor() {
+                String html = renderer.render("appointment-reminder",
+                                tenant("Barberia Sol", "red; background-image: url(https://evil.example.com/x)"),
+                                reminder("Lucia"));
+
+                assertFalse(html.contains("evil.example.com"));
+                assertFalse(html.contains("style=\"background:"));
+                assertTrue(html.contains("Barberia Sol"));
+        }
+
+        @Test
+        void shouldRenderPlatformEmailsWithoutATenant() {
+                String html = renderer.render("staff-notification", null,
+                                Map.of("staffName", "Ana Ruiz", "message", "<p>Nueva reserva</p>"));
+
+                assertTrue(html.contains("Cronos Platform"));
+                assertTrue(html.contains("Ana Ruiz"));
+                assertTrue(html.contains("<p>Nueva reserva</p>"));
+        }
+}
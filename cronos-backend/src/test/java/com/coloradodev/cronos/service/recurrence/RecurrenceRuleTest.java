@@ -0,0 +1,82 @@
+package com.coloradodev.cronos.service.recurrence;
+
+import com.coloradodev.cronos.exception.BusinessRuleException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+        // Tuesday
+        private final LocalDateTime dtStart = LocalDateTime.of(2030, 1, 15, 10, 0);
+
+        @Test
+        void shouldExpandBiWeeklyRuleWithinWindow() {
+                RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2");
+
+                List<LocalDateTime> occurrences = rule.between(dtStart,
+                                LocalDateTime.of(2030, 2, 1, 0, 0), LocalDateTime.of(2030, 3, 1, 0, 0));
+
+                assertEquals(List.of(
+                                LocalDateTime.of(2030, 2, 12, 10, 0),
+                                LocalDateTime.of(2030, 2, 26, 10, 0)), occurrences);
+        }
+
+        @Test
+        void shouldExpandByDayAndStopAtCount() {
+                RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;BYDAY=MO,TU,TH;COUNT=4");
+
+                List<LocalDateTime> occurrences = rule.between(dtStart, dtStart, LocalDateTime.MAX);
+
+                // Monday the 14th is before the series start and does not count
+                assertEquals(List.of(
+                                LocalDateTime.of(2030, 1, 15, 10, 0),
+                                LocalDateTime.of(2030, 1, 17, 10, 0),
+                                LocalDateTime.of(2030, 1, 21, 10, 0),
+                                LocalDateTime.of(2030, 1, 22, 10, 0)), occurrences);
+        }
+
+        @Test
+        void shouldCountOccurrencesBeforeWindow() {
+                RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=5");
+
+                List<LocalDateTime> occurrences = rule.between(dtStart,
+                                LocalDateTime.of(2030, 1, 18, 0, 0), LocalDateTime.of(2030, 2, 1, 0, 0));
+
+                assertEquals(2, occurrences.size());
+                assertEquals(LocalDateTime.of(2030, 1, 19, 10, 0), occurrences.get(1));
+        }
+
+        @Test
+        void shouldStopAtUntilDate() {
+                RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3;UNTIL=20300121");
+
+                List<LocalDateTime> occurrences = rule.between(dtStart, dtStart, LocalDateTime.MAX);
+
+                assertEquals(3, occurrences.size());
+                assertTrue(rule.isOccurrence(dtStart, LocalDateTime.of(2030, 1, 21, 10, 0)));
+                assertFalse(rule.isOccurrence(dtStart, LocalDateTime.of(2030, 1, 20, 10, 0)));
+        }
+
+        @Test
+        void shouldStopExpandingAtTheLimitForAFarOffUntil() {
+                RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=99991231");
+
+                List<LocalDateTime> occurrences = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                                () -> rule.between(dtStart, dtStart, LocalDateTime.of(10000, 1, 1, 0, 0), 261));
+
+                assertEquals(261, occurrences.size());
+                assertEquals(dtStart.plusDays(260), occurrences.get(260));
+        }
+
+        @Test
+        void shouldRejectUnsupportedRules() {
+                assertThrows(BusinessRuleException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY"));
+                assertThrows(BusinessRuleException.class, () -> RecurrenceRule.parse("INTERVAL=2"));
+                assertThrows(BusinessRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"));
+        }
+}
@@ -0,0 +1,33 @@
+package com.coloradodev.cronos.service.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvWriterTest {
+
+        private static String write(String... fields) throws IOException {
+                StringWriter out = new StringWriter();
+                new CsvWriter(out).writeRow(fields);
+                return out.toString();
+        }
+
+        @Test
+        void shouldWritePlainFieldsAndEmptyNulls() throws IOException {
+                assertEquals("a,,42,\r\n", write("a", null, "42", ""));
+        }
+
+        @Test
+        void shouldQuoteFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+                assertEquals("\"Smith, Jane\",\"say \"\"hi\"\"\",\"line1\nline2\"\r\n",
+                                write("Smith, Jane", "say \"hi\"", "line1\nline2"));
+        }
+
+        @Test
+        void shouldNeutralizeFormulasButKeepNegativeNumbers() throws IOException {
+                assertEquals("'=SUM(A1),'@cmd,'+1 555,-12.50\r\n", write("=SUM(A1)", "@cmd", "+1 555", "-12.50"));
+        }
+}
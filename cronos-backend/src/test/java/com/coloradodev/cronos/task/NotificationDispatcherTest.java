@@ -0,0 +1,34 @@
+package com.coloradodev.cronos.task;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDispatcherTest {
+
+        @Test
+        void shouldKeepJitteredDelayWithinHalfToFullBackoff() {
+                Random random = new Random(42);
+
+                for (int attempt = 1; attempt <= 5; attempt++) {
+                        long backoff = 30L << (attempt - 1);
+                        for (int i = 0; i < 200; i++) {
+                                long delay = NotificationDispatcher.retryDelaySeconds(attempt, 30, 3600, random);
+                                assertTrue(delay >= backoff / 2 && delay <= backoff,
+                                                "attempt " + attempt + " delay " + delay);
+                        }
+                }
+        }
+
+        @Test
+        void shouldCapDelayAtMaximum() {
+                Random random = new Random(7);
+
+                for (int i = 0; i < 200; i++) {
+                        long delay = NotificationDispatcher.retryDelaySeconds(40, 30, 3600, random);
+                        assertTrue(delay >= 1800 && delay <= 3600);
+                }
+        }
+}
@@ -0,0 +1,44 @@
+package com.coloradodev.cronos.task;
+
+import com.coloradodev.cronos.core.cluster.TenantShard;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantLocalJobSchedulerTest {
+
+        private static final ZoneId DENVER = ZoneId.of("America/Denver");
+
+        private static ZonedDateTime at(int hour, int minute) {
+                return LocalDateTime.of(2024, 6, 12, hour, minute).atZone(DENVER);
+        }
+
+        @Test
+        void shouldBeDueFromTheLocalHourOn() {
+                TenantShard first = new TenantShard(0, 4);
+
+                assertFalse(TenantLocalJobScheduler.isDue(at(0, 45), 1, first, 60));
+                assertTrue(TenantLocalJobScheduler.isDue(at(1, 0), 1, first, 60));
+                assertTrue(TenantLocalJobScheduler.isDue(at(17, 30), 1, first, 60));
+        }
+
+        @Test
+        void shouldStaggerShardsOverTheSpread() {
+                TenantShard third = new TenantShard(2, 4);
+
+                assertFalse(TenantLocalJobScheduler.isDue(at(1, 15), 1, third, 60));
+                assertTrue(TenantLocalJobScheduler.isDue(at(1, 30), 1, third, 60));
+        }
+
+        @Test
+        void shouldCapTheStartAtTheEndOfTheDay() {
+                TenantShard last = new TenantShard(3, 4);
+
+                assertFalse(TenantLocalJobScheduler.isDue(at(23, 58), 23, last, 120));
+                assertTrue(TenantLocalJobScheduler.isDue(at(23, 59), 23, last, 120));
+        }
+}
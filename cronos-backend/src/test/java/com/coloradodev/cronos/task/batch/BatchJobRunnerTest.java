@@ -0,0 +1,241 @@
+package com.coloradodev.cronos.task.batch;
+
+import com.coloradodev.cronos.core.cluster.JobLease;
+import com.coloradodev.cronos.core.cluster.JobLeaseManager;
+import com.coloradodev.cronos.core.cluster.TenantShard;
+import com.coloradodev.cronos.task.batch.BatchCheckpoint.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobRunnerTest {
+
+        private static final int CHUNK_SIZE = 2;
+        private static final TenantScope SCOPE = new TenantScope(ZoneId.of("America/Denver"), new TenantShard(3, 16),
+                        Set.of(UUID.randomUUID()));
+        private static final String NAME = "fake@America/Denver#3/16";
+
+        @Mock
+        private BatchCheckpointStore checkpointStore;
+
+        @Mock
+        private JobLeaseManager leaseManager;
+
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        private FakeJob job;
+        private BatchJobRunner runner;
+
+        @BeforeEach
+        void setUp() {
+                job = new FakeJob(5);
+                runner = new BatchJobRunner(checkpointStore, leaseManager, transactionManager,
+                                new SimpleMeterRegistry(), CHUNK_SIZE);
+        }
+
+        private JobLease grantLease() {
+                JobLease lease = new JobLease("batch:" + NAME, "node-1", 1);
+                when(leaseManager.tryAcquire(anyString())).thenReturn(Optional.of(lease));
+                return lease;
+        }
+
+        @Test
+        void shouldProcessEveryChunkAndCheckpointEachOne() {
+                JobLease lease = grantLease();
+                when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+                when(checkpointStore.find(NAME)).thenReturn(Optional.empty());
+
+                BatchJobResult result = runner.run(job, "2024-06-11", SCOPE).orElseThrow();
+
+                assertEquals(5, result.rowsRead());
+                assertEquals(5, result.rowsWritten());
+                assertEquals(job.ids, job.written);
+                assertEquals(SCOPE, job.scope);
+                verify(leaseManager).release(lease);
+                verify(checkpointStore).start(NAME, "2024-06-11");
+                verify(checkpointStore).advance(NAME, job.ids.get(1), 2, 2);
+                verify(checkpointStore).advance(NAME, job.ids.get(3), 2, 2);
+                verify(checkpointStore).advance(NAME, job.ids.get(4), 1, 1);
+                verify(checkpointStore).complete(NAME);
+        }
+
+        @Test
+        void shouldResumeAfterTheLastCheckpointedId() {
+                grantLease();
+                when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+                when(checkpointStore.find(NAME)).thenReturn(Optional.of(new BatchCheckpoint(NAME,
+                                "2024-06-11", Status.FAILED, job.ids.get(1), 2, 2, LocalDateTime.now())));
+
+                BatchJobResult result = runner.run(job, "2024-06-11", SCOPE).orElseThrow();
+
+                assertEquals(job.ids.subList(2, 5), job.written);
+                assertEquals(5, result.rowsRead());
+                verify(checkpointStore).resume(NAME);
+                verify(checkpointStore, never()).start(anyString(), anyString());
+        }
+
+        @Test
+        void shouldStartOverAfterACompletedRun() {
+                grantLease();
+                when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+                when(checkpointStore.find(NAME)).thenReturn(Optional.of(new BatchCheckpoint(NAME,
+                                "2024-06-10", Status.COMPLETED, job.ids.get(4), 5, 5, LocalDateTime.now())));
+
+                runner.run(job, "2024-06-11", SCOPE);
+
+                assertEquals(job.ids, job.written);
+                assertEquals(List.of("2024-06-11"), job.runKeys);
+                verify(checkpointStore).start(NAME, "2024-06-11");
+        }
+
+        @Test
+        void shouldFinishAnUnfinishedRunBeforeStartingTheNext() {
+                grantLease();
+                when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+                when(checkpointStore.find(NAME)).thenReturn(Optional.of(new BatchCheckpoint(NAME,
+                                "2024-06-10", Status.FAILED, job.ids.get(1), 2, 2, LocalDateTime.now())));
+
+                BatchJobResult result = runner.run(job, "2024-06-11", SCOPE).orElseThrow();
+
+                List<UUID> expected = new ArrayList<>(job.ids.subList(2, 5));
+                expected.addAll(job.ids);
+                assertEquals(expected, job.written);
+                assertEquals(List.of("2024-06-10", "2024-06-11"), job.runKeys);
+                assertEquals("2024-06-11", result.runKey());
+                verify(checkpointStore).resume(NAME);
+                verify(checkpointStore).start(NAME, "2024-06-11");
+                verify(checkpointStore, times(2)).complete(NAME);
+        }
+
+        @Test
+        void shouldNotStartTheNextRunWhileTheUnfinishedOneFails() {
+                grantLease();
+                when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+                when(checkpointStore.find(NAME)).thenReturn(Optional.of(new BatchCheckpoint(NAME,
+                                "2024-06-10", Status.FAILED, job.ids.get(1), 2, 2, LocalDateTime.now())));
+                job.failAt = job.ids.get(2);
+
+                assertThrows(IllegalStateException.class, () -> runner.run(job, "2024-06-11", SCOPE));
+
+                verify(checkpointStore).fail(eq(NAME), anyString());
+                verify(checkpointStore, never()).start(anyString(), anyString());
+        }
+
+        @Test
+        void shouldNotRepeatACompletedRun() {
+                when(checkpointStore.find(NAME)).thenReturn(Optional.of(new BatchCheckpoint(NAME,
+                                "2024-06-11", Status.COMPLETED, job.ids.get(4), 5, 5, LocalDateTime.now())));
+
+                BatchJobResult result = runner.run(job, "2024-06-11", SCOPE).orElseThrow();
+
+                assertTrue(result.alreadyCompleted());
+                assertTrue(job.written.isEmpty());
+                verify(leaseManager, never()).tryAcquire(anyString());
+        }
+
+        @Test
+        void shouldCheckpointFailureAndRethrow() {
+                grantLease();
+                when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+                when(checkpointStore.find(NAME)).thenReturn(Optional.empty());
+                job.failAt = job.ids.get(2);
+
+                assertThrows(IllegalStateException.class, () -> runner.run(job, "2024-06-11", SCOPE));
+
+                verify(checkpointStore).advance(NAME, job.ids.get(1), 2, 2);
+                verify(checkpointStore).fail(eq(NAME), anyString());
+                verify(checkpointStore, never()).complete(anyString());
+        }
+
+        @Test
+        void shouldSkipARunHeldByAnotherInstance() {
+                when(leaseManager.tryAcquire("batch:" + NAME)).thenReturn(Optional.empty());
+
+                assertTrue(runner.run(job, "2024-06-11", SCOPE).isEmpty());
+
+                assertTrue(job.written.isEmpty());
+                verify(checkpointStore, never()).start(anyString(), anyString());
+        }
+
+        @Test
+        void shouldStopWhenTheLeaseIsLost() {
+                JobLease lease = mock(JobLease.class);
+                when(lease.isHeld()).thenReturn(true, false);
+                when(leaseManager.tryAcquire(anyString())).thenReturn(Optional.of(lease));
+                when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+                when(checkpointStore.find(NAME)).thenReturn(Optional.empty());
+
+                assertThrows(IllegalStateException.class, () -> runner.run(job, "2024-06-11", SCOPE));
+
+                assertEquals(job.ids.subList(0, 2), job.written);
+                verify(checkpointStore, never()).fail(anyString(), anyString());
+                verify(checkpointStore, never()).complete(anyString());
+        }
+
+        /**
+         * Job over a fixed list of ids, in list order.
+         */
+        private static final class FakeJob implements BatchJob {
+
+                private final List<UUID> ids = new ArrayList<>();
+                private final List<UUID> written = new ArrayList<>();
+                private final List<String> runKeys = new ArrayList<>();
+                private UUID failAt;
+                private TenantScope scope;
+
+                FakeJob(int rows) {
+                        for (int i = 0; i < rows; i++) {
+                                ids.add(UUID.randomUUID());
+                        }
+                }
+
+                @Override
+                public String getName() {
+                        return "fake";
+                }
+
+                @Override
+                public List<UUID> readChunk(String runKey, TenantScope scope, UUID afterId, int limit) {
+                        this.scope = scope;
+                        int from = afterId.equals(FIRST_ID) ? 0 : ids.indexOf(afterId) + 1;
+                        return List.copyOf(ids.subList(from, Math.min(from + limit, ids.size())));
+                }
+
+                @Override
+                public int writeChunk(String runKey, List<UUID> chunk) {
+                        if (failAt != null && chunk.contains(failAt)) {
+                                throw new IllegalStateException("write failed");
+                        }
+                        if (!runKeys.contains(runKey)) {
+                                runKeys.add(runKey);
+                        }
+                        written.addAll(chunk);
+                        return chunk.size();
+                }
+        }
+}